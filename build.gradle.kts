@@ -29,6 +29,9 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 
+	// Reactive SSE (Spring MVC에서 Flux 반환 지원, WebFlux 서버는 사용하지 않음)
+	implementation("io.projectreactor:reactor-core")
+
 	// AWS SDK v2
 	implementation(platform("software.amazon.awssdk:bom:2.28.0"))
 	implementation("software.amazon.awssdk:ec2")
@@ -50,6 +53,9 @@ dependencies {
 	implementation("com.github.docker-java:docker-java-core:3.3.6")
 	implementation("com.github.docker-java:docker-java-transport-httpclient5:3.3.6")
 
+	// tar 압축 해제 (GitHub tarball 소스 가져오기)
+	implementation("org.apache.commons:commons-compress:1.27.1")
+
 	// JSON processing
 	implementation("com.fasterxml.jackson.core:jackson-databind")
 
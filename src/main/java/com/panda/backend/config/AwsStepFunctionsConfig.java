@@ -1,11 +1,13 @@
 package com.panda.backend.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.ecs.EcsClient;
 import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.sfn.SfnAsyncClient;
 import software.amazon.awssdk.services.sfn.SfnClient;
 
 /**
@@ -41,6 +43,27 @@ public class AwsStepFunctionsConfig {
         }
     }
 
+    /**
+     * AWS Step Functions 비동기 클라이언트 빈 (Netty 기반)
+     * aws.step-functions.async-client.enabled=true일 때만 생성되며, 폴링 서비스가 논블로킹 조회에 사용
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "aws.step-functions.async-client.enabled", havingValue = "true")
+    public SfnAsyncClient sfnAsyncClient() {
+        try {
+            SfnAsyncClient client = SfnAsyncClient.builder()
+                .region(Region.AP_NORTHEAST_2)  // ap-northeast-2로 고정
+                .build();
+
+            log.info("AWS Step Functions async client initialized");
+            return client;
+
+        } catch (Exception e) {
+            log.error("Failed to initialize AWS Step Functions async client", e);
+            throw new RuntimeException("Failed to initialize AWS Step Functions async client", e);
+        }
+    }
+
     /**
      * AWS Lambda 클라이언트 빈
      * 서비스 계정의 Lambda 함수 호출에 사용
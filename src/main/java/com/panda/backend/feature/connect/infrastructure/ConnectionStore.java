@@ -4,6 +4,7 @@ import com.panda.backend.feature.connect.entity.AwsConnection;
 import com.panda.backend.feature.connect.entity.GitHubConnection;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
@@ -12,11 +13,13 @@ import software.amazon.awssdk.services.secretsmanager.model.PutSecretValueReques
 import software.amazon.awssdk.services.secretsmanager.model.CreateSecretRequest;
 import software.amazon.awssdk.services.secretsmanager.model.ResourceNotFoundException;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -24,18 +27,24 @@ public class ConnectionStore {
     // AWS Secrets Manager를 사용하여 토큰 보안 저장
     // GitHub Token과 AWS Credentials를 Secrets Manager에 암호화 저장
     // secretName은 naming rule로 자동 계산: panda/github/{connectionId}, panda/aws/{connectionId}
+    // 조회 결과는 암호화된 TTL 캐시에 보관하여 배포 시작마다 Secrets Manager를 호출하지 않음
 
     private final SecretsManagerClient secretsManagerClient;
     private final ObjectMapper objectMapper;
 
-    // GitHub/AWS 연결 메타데이터 저장 (메모리)
-    // connectionId -> {owner, repo, branch} 또는 {region}
-    protected Map<String, Map<String, String>> gitHubConnectionMetadata = new HashMap<>();
-    protected Map<String, Map<String, String>> awsConnectionMetadata = new HashMap<>();
+    // secretName -> Secret JSON (암호화 보관, 저장 시 갱신)
+    private final EncryptedSecretCache secretCache;
 
-    public ConnectionStore(SecretsManagerClient secretsManagerClient, ObjectMapper objectMapper) {
+    // GitHub/AWS 연결 메타데이터 저장 (메모리, 요청 스레드에서 동시에 쓰므로 ConcurrentHashMap)
+    // connectionId -> {owner, repo, branch} 또는 {region} (값은 읽기 전용 Map)
+    protected Map<String, Map<String, String>> gitHubConnectionMetadata = new ConcurrentHashMap<>();
+    protected Map<String, Map<String, String>> awsConnectionMetadata = new ConcurrentHashMap<>();
+
+    public ConnectionStore(SecretsManagerClient secretsManagerClient, ObjectMapper objectMapper,
+                           @Value("${panda.connections.cache-ttl-ms:300000}") long cacheTtlMs) {
         this.secretsManagerClient = secretsManagerClient;
         this.objectMapper = objectMapper;
+        this.secretCache = new EncryptedSecretCache(cacheTtlMs);
     }
 
     /**
@@ -53,6 +62,7 @@ public class ConnectionStore {
             String secretValue = objectMapper.writeValueAsString(connection);
 
             // Secrets Manager에 저장
+            secretCache.invalidate(secretName);
             try {
                 PutSecretValueRequest putSecretRequest = PutSecretValueRequest.builder()
                         .secretId(secretName)
@@ -69,13 +79,14 @@ public class ConnectionStore {
                 secretsManagerClient.createSecret(createSecretRequest);
                 log.info("GitHub connection created in Secrets Manager: {}", secretName);
             }
+            secretCache.put(secretName, secretValue);
 
             // 메타데이터 저장
             Map<String, String> metadata = new HashMap<>();
             metadata.put("owner", owner);
             metadata.put("repo", repo);
             metadata.put("branch", branch);
-            gitHubConnectionMetadata.put(connectionId, metadata);
+            gitHubConnectionMetadata.put(connectionId, Collections.unmodifiableMap(metadata));
             log.info("GitHub connection metadata stored: {} -> owner={}, repo={}, branch={}",
                     connectionId, owner, repo, branch);
 
@@ -102,6 +113,7 @@ public class ConnectionStore {
             String secretValue = objectMapper.writeValueAsString(connection);
 
             // Secrets Manager에 저장
+            secretCache.invalidate(secretName);
             try {
                 PutSecretValueRequest putSecretRequest = PutSecretValueRequest.builder()
                         .secretId(secretName)
@@ -118,11 +130,12 @@ public class ConnectionStore {
                 secretsManagerClient.createSecret(createSecretRequest);
                 log.info("AWS connection created in Secrets Manager: {}", secretName);
             }
+            secretCache.put(secretName, secretValue);
 
             // 메타데이터 저장
             Map<String, String> metadata = new HashMap<>();
             metadata.put("region", region);
-            awsConnectionMetadata.put(connectionId, metadata);
+            awsConnectionMetadata.put(connectionId, Collections.unmodifiableMap(metadata));
             log.info("AWS connection metadata stored: {} -> region={}", connectionId, region);
 
             return connectionId;
@@ -142,22 +155,20 @@ public class ConnectionStore {
             // naming rule로 secretName 자동 계산
             String secretName = "panda/github/" + connectionId;
 
-            GetSecretValueRequest request = GetSecretValueRequest.builder()
-                    .secretId(secretName)
-                    .build();
-            GetSecretValueResponse response = secretsManagerClient.getSecretValue(request);
+            String secretString = secretCache.get(secretName, () -> fetchSecretString(secretName));
+            if (secretString == null) {
+                log.warn("GitHub connection not found in Secrets Manager: {}", connectionId);
+                return Optional.empty();
+            }
 
-            // JSON을 GitHubConnection으로 역직렬화
+            // JSON을 GitHubConnection으로 역직렬화 (캐시 적중 시에도 매번 새 객체)
             GitHubConnection connection = objectMapper.readValue(
-                response.secretString(),
+                secretString,
                 GitHubConnection.class
             );
 
             return Optional.of(connection);
 
-        } catch (ResourceNotFoundException e) {
-            log.warn("GitHub connection not found in Secrets Manager: {}", connectionId);
-            return Optional.empty();
         } catch (Exception e) {
             log.error("Failed to retrieve GitHub connection from Secrets Manager", e);
             return Optional.empty();
@@ -173,28 +184,43 @@ public class ConnectionStore {
             // naming rule로 secretName 자동 계산
             String secretName = "panda/aws/" + connectionId;
 
-            GetSecretValueRequest request = GetSecretValueRequest.builder()
-                    .secretId(secretName)
-                    .build();
-            GetSecretValueResponse response = secretsManagerClient.getSecretValue(request);
+            String secretString = secretCache.get(secretName, () -> fetchSecretString(secretName));
+            if (secretString == null) {
+                log.warn("AWS connection not found in Secrets Manager: {}", connectionId);
+                return Optional.empty();
+            }
 
-            // JSON을 AwsConnection으로 역직렬화
+            // JSON을 AwsConnection으로 역직렬화 (캐시 적중 시에도 매번 새 객체)
             AwsConnection connection = objectMapper.readValue(
-                response.secretString(),
+                secretString,
                 AwsConnection.class
             );
 
             return Optional.of(connection);
 
-        } catch (ResourceNotFoundException e) {
-            log.warn("AWS connection not found in Secrets Manager: {}", connectionId);
-            return Optional.empty();
         } catch (Exception e) {
             log.error("Failed to retrieve AWS connection from Secrets Manager", e);
             return Optional.empty();
         }
     }
 
+    /**
+     * Secrets Manager에서 Secret 문자열 조회 (캐시 미스 시에만 호출)
+     *
+     * @return Secret 문자열 (Secret이 없으면 null)
+     */
+    private String fetchSecretString(String secretName) {
+        try {
+            GetSecretValueRequest request = GetSecretValueRequest.builder()
+                    .secretId(secretName)
+                    .build();
+            GetSecretValueResponse response = secretsManagerClient.getSecretValue(request);
+            return response.secretString();
+        } catch (ResourceNotFoundException e) {
+            return null;
+        }
+    }
+
     /**
      * 저장된 모든 GitHub 연결 정보 반환
      * connectionId와 메타데이터(owner, repo, branch) 포함
@@ -0,0 +1,143 @@
+package com.panda.backend.feature.connect.infrastructure;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Secrets Manager 조회 결과를 메모리에 보관하는 TTL 캐시
+ *
+ * - 값은 프로세스마다 새로 만든 AES-GCM 키로 암호화해 보관 (힙 덤프에 평문 토큰이 남지 않도록)
+ * - 만료되었거나 없는 키는 loader로 읽어서 채움 (read-through)
+ * - 같은 키를 여러 스레드가 동시에 요청하면 loader는 한 번만 실행되고 나머지는 그 결과를 기다림 (single-flight)
+ * - loader 실패나 값 없음(null)은 캐시하지 않음
+ */
+class EncryptedSecretCache {
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private final long ttlMs;
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 진행 중인 조회 (같은 키의 동시 요청이 이 결과를 공유)
+    private final Map<String, CompletableFuture<String>> loading = new ConcurrentHashMap<>();
+
+    EncryptedSecretCache(long ttlMs) {
+        this.ttlMs = ttlMs;
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256);
+            this.key = generator.generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES not available", e);
+        }
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader로 읽어서 캐시
+     *
+     * @param loader 값 조회 (없으면 null 반환, 실패 시 예외)
+     * @return 값 (없으면 null)
+     */
+    String get(String cacheKey, Supplier<String> loader) {
+        Entry entry = entries.get(cacheKey);
+        if (entry != null) {
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                return decrypt(entry);
+            }
+            entries.remove(cacheKey, entry);
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = loading.putIfAbsent(cacheKey, mine);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            String value = loader.get();
+            // 조회 중에 저장(put)된 값이 있으면 그것이 더 최신이므로 덮어쓰지 않음
+            if (value != null) {
+                entries.putIfAbsent(cacheKey, encrypt(value, System.currentTimeMillis() + ttlMs));
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * 값 저장 (저장 직후 조회가 Secrets Manager를 다시 호출하지 않도록)
+     */
+    void put(String cacheKey, String value) {
+        entries.put(cacheKey, encrypt(value, System.currentTimeMillis() + ttlMs));
+    }
+
+    // 저장 실패 시 이전 값이 남지 않도록 저장 전에 호출
+    void invalidate(String cacheKey) {
+        entries.remove(cacheKey);
+    }
+
+    private String await(CompletableFuture<String> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Entry encrypt(String value, long expiresAt) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            return new Entry(iv, cipher.doFinal(value.getBytes(StandardCharsets.UTF_8)), expiresAt);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt cached secret", e);
+        }
+    }
+
+    private String decrypt(Entry entry) {
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, entry.iv));
+            return new String(cipher.doFinal(entry.ciphertext), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to decrypt cached secret", e);
+        }
+    }
+
+    private static class Entry {
+        private final byte[] iv;
+        private final byte[] ciphertext;
+        private final long expiresAt;
+
+        private Entry(byte[] iv, byte[] ciphertext, long expiresAt) {
+            this.iv = iv;
+            this.ciphertext = ciphertext;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
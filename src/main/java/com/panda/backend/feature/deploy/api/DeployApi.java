@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -30,9 +31,12 @@ public interface DeployApi {
     @Operation(
         summary = "배포 실시간 이벤트 스트리밍 (SSE)",
         description = "배포 진행 상황을 Stage별로 실시간 스트리밍합니다. " +
-                     "과거 이벤트 히스토리도 자동으로 전송되어 중간에 접속한 클라이언트도 진행 상황을 파악할 수 있습니다."
+                     "과거 이벤트 히스토리도 자동으로 전송되어 중간에 접속한 클라이언트도 진행 상황을 파악할 수 있습니다. " +
+                     "재연결 시 Last-Event-ID 헤더를 보내면 그 이후의 놓친 이벤트만 재전송합니다."
     )
-    SseEmitter streamEvents(@PathVariable String deploymentId, HttpServletResponse response);
+    SseEmitter streamEvents(@PathVariable String deploymentId,
+                                 @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                 HttpServletResponse response);
 
     @PostMapping("/api/v1/deploy/{deploymentId}/switch")
     @Operation(
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -47,7 +48,9 @@ public class DeployController implements DeployApi {
 
     @Override
     @GetMapping(value = "/api/v1/deploy/{deploymentId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamEvents(@PathVariable String deploymentId, HttpServletResponse response) {
+    public SseEmitter streamEvents(@PathVariable String deploymentId,
+                                 @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                 HttpServletResponse response) {
         log.info("SSE client connected for deployment: {}", deploymentId);
 
         response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
@@ -56,7 +59,7 @@ public class DeployController implements DeployApi {
         response.setHeader("X-Accel-Buffering", "no"); // Nginx 프록시 버퍼링 방지
         response.setHeader("Connection", "keep-alive");
 
-        return streamDeploymentEventsService.stream(deploymentId);
+        return streamDeploymentEventsService.stream(deploymentId, lastEventId);
     }
 
     @Override
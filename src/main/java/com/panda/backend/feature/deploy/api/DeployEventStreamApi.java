@@ -0,0 +1,27 @@
+package com.panda.backend.feature.deploy.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import reactor.core.publisher.Flux;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@Tag(name = "Deployment", description = "배포 파이프라인 관리 (필수 3개 API)")
+public interface DeployEventStreamApi {
+
+    @GetMapping(value = "/api/v1/deploy/{deploymentId}/events/reactive", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "배포 실시간 이벤트 스트리밍 (리액티브 SSE)",
+        description = "/api/v1/deploy/{deploymentId}/events와 같은 이벤트를 Flux로 스트리밍합니다. " +
+                     "대시보드처럼 동시 접속자가 많은 경우를 위한 엔드포인트로, panda.events.reactive.enabled=true일 때만 활성화됩니다. " +
+                     "재연결 시 Last-Event-ID 헤더를 보내면 그 이후의 놓친 이벤트만 재전송합니다."
+    )
+    Flux<ServerSentEvent<String>> streamEventsReactive(@PathVariable String deploymentId,
+                                                       @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                       HttpServletResponse response);
+}
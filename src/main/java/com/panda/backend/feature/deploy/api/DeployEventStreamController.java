@@ -0,0 +1,45 @@
+package com.panda.backend.feature.deploy.api;
+
+import com.panda.backend.feature.deploy.application.StreamDeploymentEventsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 리액티브 SSE 엔드포인트 (panda.events.reactive.enabled=true일 때만 등록)
+ *
+ * 기존 SseEmitter 엔드포인트는 그대로 두고, Flux를 반환해 Spring MVC가 구독하도록 함
+ * → 연결마다 emitter/writer 작업 없이 배포별 sink 하나를 공유하고, 구독자별 버퍼로 backpressure 처리
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "panda.events.reactive.enabled", havingValue = "true")
+public class DeployEventStreamController implements DeployEventStreamApi {
+
+    private final StreamDeploymentEventsService streamDeploymentEventsService;
+
+    @Override
+    @GetMapping(value = "/api/v1/deploy/{deploymentId}/events/reactive", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamEventsReactive(@PathVariable String deploymentId,
+                                                              @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                              HttpServletResponse response) {
+        log.debug("Reactive SSE client connected for deployment: {}", deploymentId);
+
+        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+        response.setHeader("Pragma", "no-cache");
+        response.setHeader("Expires", "0");
+        response.setHeader("X-Accel-Buffering", "no"); // Nginx 프록시 버퍼링 방지
+
+        return streamDeploymentEventsService.streamReactive(deploymentId, lastEventId);
+    }
+}
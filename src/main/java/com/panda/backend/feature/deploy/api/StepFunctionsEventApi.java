@@ -0,0 +1,24 @@
+package com.panda.backend.feature.deploy.api;
+
+import com.panda.backend.feature.deploy.dto.StepFunctionsStatusEvent;
+import com.panda.backend.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+@Tag(name = "Deployment", description = "배포 파이프라인 관리 (필수 3개 API)")
+public interface StepFunctionsEventApi {
+
+    @PostMapping("/api/v1/deploy/stepfunctions/events")
+    @Operation(
+        summary = "Step Functions 상태 변경 이벤트 수신 (EventBridge API Destination)",
+        description = "EventBridge가 푸시한 Step Functions 실행 상태 변경 이벤트를 받아 해당 배포의 히스토리 분석을 즉시 실행합니다. " +
+                     "aws.step-functions.push.enabled=true일 때만 활성화되며, X-Panda-Push-Key 헤더가 " +
+                     "aws.step-functions.push.api-key와 일치해야 합니다 (불일치 시 401)."
+    )
+    ApiResponse<?> ingestStepFunctionsEvent(
+        @RequestHeader(value = "X-Panda-Push-Key", required = false) String pushKey,
+        @RequestBody StepFunctionsStatusEvent event);
+}
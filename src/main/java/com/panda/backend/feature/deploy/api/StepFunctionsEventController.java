@@ -0,0 +1,35 @@
+package com.panda.backend.feature.deploy.api;
+
+import com.panda.backend.feature.deploy.application.StepFunctionsEventIngestionService;
+import com.panda.backend.feature.deploy.dto.StepFunctionsStatusEvent;
+import com.panda.backend.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Step Functions 푸시 이벤트 수신 엔드포인트 (aws.step-functions.push.enabled=true일 때만 등록)
+ *
+ * 비활성화 상태에서는 매핑 자체가 없으므로 404
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "aws.step-functions.push.enabled", havingValue = "true")
+public class StepFunctionsEventController implements StepFunctionsEventApi {
+
+    private final StepFunctionsEventIngestionService stepFunctionsEventIngestionService;
+
+    @Override
+    @PostMapping("/api/v1/deploy/stepfunctions/events")
+    public ApiResponse<?> ingestStepFunctionsEvent(
+            @RequestHeader(value = "X-Panda-Push-Key", required = false) String pushKey,
+            @RequestBody StepFunctionsStatusEvent event) {
+        boolean matched = stepFunctionsEventIngestionService.ingest(pushKey, event);
+        return ApiResponse.success("Step Functions 이벤트 수신 완료", Map.of("matched", matched));
+    }
+}
@@ -1,13 +1,10 @@
 package com.panda.backend.feature.deploy.application;
 
 import com.panda.backend.feature.connect.entity.AwsConnection;
+import com.panda.backend.feature.deploy.infrastructure.AwsClientPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.codedeploy.CodeDeployClient;
 import software.amazon.awssdk.services.codedeploy.model.ContinueDeploymentRequest;
 
@@ -27,6 +24,8 @@ import software.amazon.awssdk.services.codedeploy.model.ContinueDeploymentReques
 @RequiredArgsConstructor
 public class CodeDeployTrafficSwitchService {
 
+    private final AwsClientPool awsClientPool;
+
     /**
      * CodeDeploy 배포의 트래픽 전환 승인
      *
@@ -70,43 +69,13 @@ public class CodeDeployTrafficSwitchService {
             log.error("Failed to approve traffic switch for CodeDeploy deployment: {}",
                 codeDeployDeploymentId, e);
             throw new RuntimeException("Failed to approve traffic switch: " + e.getMessage(), e);
-        } finally {
-            codeDeployClient.close();
         }
     }
 
     /**
-     * CodeDeploy 클라이언트 생성
+     * CodeDeploy 클라이언트 조회 (자격증명별 풀에서 재사용)
      */
     private CodeDeployClient createCodeDeployClient(AwsConnection awsConnection) {
-        try {
-            Region region = Region.of(awsConnection.getRegion());
-
-            StaticCredentialsProvider credentialsProvider;
-
-            if (awsConnection.getSessionToken() != null && !awsConnection.getSessionToken().isEmpty()) {
-                AwsSessionCredentials sessionCredentials = AwsSessionCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey(),
-                    awsConnection.getSessionToken()
-                );
-                credentialsProvider = StaticCredentialsProvider.create(sessionCredentials);
-            } else {
-                AwsBasicCredentials basicCredentials = AwsBasicCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey()
-                );
-                credentialsProvider = StaticCredentialsProvider.create(basicCredentials);
-            }
-
-            return CodeDeployClient.builder()
-                .region(region)
-                .credentialsProvider(credentialsProvider)
-                .build();
-
-        } catch (Exception e) {
-            log.error("Failed to create CodeDeploy client", e);
-            throw new RuntimeException("Failed to create CodeDeploy client: " + e.getMessage(), e);
-        }
+        return awsClientPool.codeDeploy(awsConnection);
     }
 }
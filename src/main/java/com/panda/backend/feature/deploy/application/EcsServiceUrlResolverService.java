@@ -1,17 +1,16 @@
 package com.panda.backend.feature.deploy.application;
 
 import com.panda.backend.feature.connect.entity.AwsConnection;
+import com.panda.backend.feature.deploy.infrastructure.AwsClientPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
+import org.springframework.beans.factory.annotation.Value;
+import software.amazon.awssdk.services.ecs.EcsAsyncClient;
 import software.amazon.awssdk.services.ecs.EcsClient;
 import software.amazon.awssdk.services.ecs.model.DescribeServicesRequest;
 import software.amazon.awssdk.services.ecs.model.DescribeServicesResponse;
 import software.amazon.awssdk.services.ecs.model.LoadBalancer;
+import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2AsyncClient;
 import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.DescribeLoadBalancersRequest;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.DescribeLoadBalancersResponse;
@@ -19,20 +18,34 @@ import software.amazon.awssdk.services.elasticloadbalancingv2.model.DescribeTarg
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.DescribeTargetGroupsResponse;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroup;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ECS Service의 ARN을 기반으로 Blue/Green 서비스의 URL을 해석하는 서비스
  *
- * 흐름:
- * 1. ECS Service 조회 (describe-services)
- * 2. LoadBalancer 정보 추출
- * 3. ALB의 DNS 이름 조회 (describe-load-balancers)
- * 4. TargetGroup의 포트 조회 (describe-target-groups)
+ * 흐름 (여러 서비스를 한 번에 처리):
+ * 1. ECS Service 일괄 조회 (describe-services, 서비스 여러 개를 한 요청으로)
+ * 2. 각 서비스의 LoadBalancer 정보에서 TargetGroup ARN 추출
+ * 3. 캐시에 없는 TargetGroup만 일괄 조회 (describe-target-groups → 포트, 연결된 ALB ARN)
+ * 4. 해당 ALB들의 DNS 이름 일괄 조회 (describe-load-balancers)
  * 5. URL 구성: http://{dns-name}:{port}
  *
+ * → Blue/Green 두 서비스 해석에 AWS 호출이 최대 3번 (TargetGroup 캐시 적중 시 1번)
+ *
+ * 기본은 동기 클라이언트로 조회하고, aws.step-functions.async-client.enabled=true일 때만
+ * *Async 메서드가 비동기 클라이언트와 CompletableFuture 연결로 조회함 (응답 대기 중 스레드를 점유하지 않음)
+ * 비활성화 상태에서 *Async 메서드는 동기 조회 결과를 완료된 Future로 반환
+ *
  * 호출 위치:
  * - Stage 4 (Blue/Green 배포) 완료 후
  * - Stage 5, 6에서 사용
@@ -42,8 +55,24 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class EcsServiceUrlResolverService {
 
+    // DescribeServices 한 번에 조회 가능한 최대 서비스 수 (AWS 제한)
+    private static final int MAX_SERVICES_PER_DESCRIBE = 10;
+
+    private final AwsClientPool awsClientPool;
+
+    // TargetGroup ARN → (포트, ALB DNS) 캐시 유지 시간
+    @Value("${panda.url-resolver.target-cache-ttl-ms:300000}")
+    private long targetCacheTtlMs;
+
+    // Step Functions 폴링과 같은 스위치로 비동기 클라이언트 사용 여부 결정
+    @Value("${aws.step-functions.async-client.enabled:false}")
+    private boolean asyncClientEnabled;
+
+    // TargetGroup ARN -> 포트/DNS (ARN에 리전/계정이 포함되므로 키로 충분)
+    private final Map<String, CachedTarget> targetCache = new ConcurrentHashMap<>();
+
     /**
-     * ECS Service ARN으로부터 서비스 URL 해석
+     * ECS Service ARN으로부터 서비스 URL 해석 (동기 클라이언트)
      *
      * @param serviceArn ECS Service ARN (arn:aws:ecs:region:account:service/cluster/serviceName)
      * @param clusterName ECS Cluster 이름
@@ -56,192 +85,370 @@ public class EcsServiceUrlResolverService {
             log.warn("Service ARN is empty, cannot resolve URL");
             return null;
         }
+        try {
+            return resolveByArn(List.of(serviceArn), clusterName, awsConnection).get(serviceArn);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to resolve service URL: " + e.getMessage(), e);
+        }
+    }
 
-        EcsClient ecsClient = createUserEcsClient(awsConnection);
-        ElasticLoadBalancingV2Client elbClient = createUserElbClient(awsConnection);
+    /**
+     * resolveServiceUrl()의 비동기 버전
+     *
+     * @return 서비스 URL Future (서비스/LoadBalancer를 찾지 못하면 null로 완료, 조회 실패 시 예외로 완료)
+     */
+    public CompletableFuture<String> resolveServiceUrlAsync(String serviceArn, String clusterName, AwsConnection awsConnection) {
+        if (serviceArn == null || serviceArn.isEmpty()) {
+            log.warn("Service ARN is empty, cannot resolve URL");
+            return CompletableFuture.completedFuture(null);
+        }
+        return resolveByArnAsync(List.of(serviceArn), clusterName, awsConnection)
+            .thenApply(urls -> urls.get(serviceArn));
+    }
 
+    /**
+     * 여러 서비스 ARN의 URL을 한 번에 해석 (동기 클라이언트)
+     *
+     * @param serviceArns 서비스 ARN 맵 (key: "blue"/"green", value: ARN)
+     * @param clusterName ECS Cluster 이름
+     * @param awsConnection AWS 연결 정보
+     * @return URL 맵 (key: "blueUrl"/"greenUrl", value: URL)
+     */
+    public Map<String, String> resolveServiceUrls(Map<String, String> serviceArns,
+                                                   String clusterName,
+                                                   AwsConnection awsConnection) {
+        if (serviceArns.isEmpty()) {
+            return new HashMap<>();
+        }
         try {
-            // 1. ECS Service 조회
-            String serviceName = extractServiceNameFromArn(serviceArn);
-
-            log.debug("Resolving URL for service: {} in cluster: {}", serviceName, clusterName);
+            return toUrlsByKey(serviceArns, resolveByArn(serviceArns.values(), clusterName, awsConnection));
+        } catch (Exception e) {
+            log.error("Failed to resolve URLs for {}: {}", serviceArns.keySet(), e.getMessage());
+            return new HashMap<>();
+        }
+    }
 
-            DescribeServicesResponse servicesResponse = ecsClient.describeServices(
-                DescribeServicesRequest.builder()
-                    .cluster(clusterName)
-                    .services(serviceName)
-                    .build()
-            );
+    /**
+     * resolveServiceUrls()의 비동기 버전 (조회 실패 시에도 예외 대신 빈 맵으로 완료)
+     */
+    public CompletableFuture<Map<String, String>> resolveServiceUrlsAsync(Map<String, String> serviceArns,
+                                                                         String clusterName,
+                                                                         AwsConnection awsConnection) {
+        if (serviceArns.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+        return resolveByArnAsync(serviceArns.values(), clusterName, awsConnection)
+            .handle((urlsByArn, error) -> {
+                if (error != null) {
+                    log.error("Failed to resolve URLs for {}: {}", serviceArns.keySet(), unwrap(error).getMessage());
+                    return new HashMap<>();
+                }
+                return toUrlsByKey(serviceArns, urlsByArn);
+            });
+    }
 
-            if (servicesResponse.services().isEmpty()) {
-                log.error("Service not found: {} in cluster: {}", serviceName, clusterName);
-                return null;
+    // serviceArn -> URL 을 "blueUrl"/"greenUrl" 키로 변환
+    private Map<String, String> toUrlsByKey(Map<String, String> serviceArns, Map<String, String> urlsByArn) {
+        Map<String, String> urls = new HashMap<>();
+        for (Map.Entry<String, String> entry : serviceArns.entrySet()) {
+            String url = urlsByArn.get(entry.getValue());
+            if (url != null) {
+                urls.put(entry.getKey() + "Url", url);
             }
+        }
+        return urls;
+    }
 
-            software.amazon.awssdk.services.ecs.model.Service service = servicesResponse.services().get(0);
+    /**
+     * 서비스 ARN 목록 → URL 일괄 해석 (동기 클라이언트)
+     *
+     * @return serviceArn -> URL (해석하지 못한 서비스는 포함하지 않음)
+     */
+    private Map<String, String> resolveByArn(Collection<String> serviceArns,
+                                             String clusterName,
+                                             AwsConnection awsConnection) {
+        Map<String, String> arnsByName = arnsByServiceName(serviceArns);
+        if (arnsByName.isEmpty()) {
+            return Map.of();
+        }
 
-            // 2. LoadBalancer 정보 추출
-            List<LoadBalancer> loadBalancers = service.loadBalancers();
-            if (loadBalancers == null || loadBalancers.isEmpty()) {
-                log.warn("No load balancers found for service: {}", serviceName);
-                return null;
+        try {
+            EcsClient ecsClient = awsClientPool.ecs(awsConnection);
+            List<DescribeServicesResponse> responses = new ArrayList<>();
+            for (List<String> batch : describeBatches(arnsByName)) {
+                log.debug("Describing services: {} in cluster: {}", batch, clusterName);
+                responses.add(ecsClient.describeServices(describeServicesRequest(clusterName, batch)));
             }
-
-            LoadBalancer loadBalancer = loadBalancers.get(0);
-            String targetGroupArn = loadBalancer.targetGroupArn();
-            Integer containerPort = loadBalancer.containerPort();
-
-            log.debug("Service: {}, TargetGroupArn: {}, ContainerPort: {}",
-                serviceName, targetGroupArn, containerPort);
-
-            // 3. TargetGroup 조회 (포트 정보 추출)
-            DescribeTargetGroupsResponse targetGroupsResponse = elbClient.describeTargetGroups(
-                DescribeTargetGroupsRequest.builder()
-                    .targetGroupArns(targetGroupArn)
-                    .build()
-            );
-
-            if (targetGroupsResponse.targetGroups().isEmpty()) {
-                log.error("Target group not found: {}", targetGroupArn);
-                return null;
+            Map<String, String> targetGroupsByArn = collectTargetGroups(responses, clusterName, arnsByName);
+
+            Set<String> missing = new LinkedHashSet<>();
+            Map<String, CachedTarget> targets = cachedTargets(targetGroupsByArn.values(), missing);
+            if (!missing.isEmpty()) {
+                ElasticLoadBalancingV2Client elbClient = awsClientPool.elb(awsConnection);
+                Map<String, TargetGroup> targetGroups = attachedTargetGroups(elbClient.describeTargetGroups(
+                    DescribeTargetGroupsRequest.builder()
+                        .targetGroupArns(missing)
+                        .build()));
+                Map<String, CachedTarget> resolved = targetGroups.isEmpty()
+                    ? Map.of()
+                    : cacheTargets(targetGroups, elbClient.describeLoadBalancers(describeLoadBalancersRequest(targetGroups)));
+                mergeResolved(targets, missing, resolved);
             }
+            return buildUrls(targetGroupsByArn, targets);
+        } catch (RuntimeException e) {
+            log.error("Failed to resolve service URLs for ARNs: {}", arnsByName.values(), e);
+            throw e;
+        }
+    }
 
-            TargetGroup targetGroup = targetGroupsResponse.targetGroups().get(0);
-            Integer targetPort = targetGroup.port();
+    /**
+     * 서비스 ARN 목록 → URL 일괄 해석 (비동기 클라이언트, 비활성화 시 동기 조회로 대체)
+     *
+     * @return serviceArn -> URL (해석하지 못한 서비스는 포함하지 않음)
+     */
+    private CompletableFuture<Map<String, String>> resolveByArnAsync(Collection<String> serviceArns,
+                                                                     String clusterName,
+                                                                     AwsConnection awsConnection) {
+        if (!asyncClientEnabled) {
+            try {
+                return CompletableFuture.completedFuture(resolveByArn(serviceArns, clusterName, awsConnection));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
 
-            log.debug("TargetGroup port: {}", targetPort);
+        Map<String, String> arnsByName = arnsByServiceName(serviceArns);
+        if (arnsByName.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
 
-            // 4. ALB 정보 조회 (DNS 이름)
-            String loadBalancerArn = extractLoadBalancerArnFromTargetGroupArn(targetGroupArn);
+        ElasticLoadBalancingV2AsyncClient elbClient = awsClientPool.elbAsync(awsConnection);
 
-            DescribeLoadBalancersResponse loadBalancersResponse = elbClient.describeLoadBalancers(
-                DescribeLoadBalancersRequest.builder()
-                    .loadBalancerArns(loadBalancerArn)
-                    .build()
-            );
+        return describeServicesAsync(awsClientPool.ecsAsync(awsConnection), clusterName, arnsByName)
+            .thenCompose(targetGroupsByArn -> resolveTargetsAsync(elbClient, targetGroupsByArn.values())
+                .thenApply(targets -> buildUrls(targetGroupsByArn, targets)))
+            .whenComplete((urls, error) -> {
+                if (error != null) {
+                    log.error("Failed to resolve service URLs for ARNs: {}", arnsByName.values(), unwrap(error));
+                }
+            });
+    }
 
-            if (loadBalancersResponse.loadBalancers().isEmpty()) {
-                log.error("Load balancer not found: {}", loadBalancerArn);
-                return null;
-            }
+    /**
+     * 1~2. ECS Service 일괄 조회 후 서비스별 TargetGroup ARN 추출 (비동기)
+     *
+     * @return serviceArn -> TargetGroup ARN (LoadBalancer가 없는 서비스는 제외)
+     */
+    private CompletableFuture<Map<String, String>> describeServicesAsync(EcsAsyncClient ecsClient,
+                                                                         String clusterName,
+                                                                         Map<String, String> arnsByName) {
+        List<CompletableFuture<DescribeServicesResponse>> requests = new ArrayList<>();
+        for (List<String> batch : describeBatches(arnsByName)) {
+            log.debug("Describing services: {} in cluster: {}", batch, clusterName);
+            requests.add(ecsClient.describeServices(describeServicesRequest(clusterName, batch)));
+        }
 
-            String dnsName = loadBalancersResponse.loadBalancers().get(0).dnsName();
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> collectTargetGroups(
+                requests.stream().map(CompletableFuture::join).toList(), clusterName, arnsByName));
+    }
 
-            log.debug("ALB DNS Name: {}", dnsName);
+    /**
+     * 3~4. TargetGroup ARN → 포트/ALB DNS 해석 (캐시에 없는 것만 일괄 조회, 비동기)
+     *
+     * @return TargetGroup ARN -> 포트/DNS
+     */
+    private CompletableFuture<Map<String, CachedTarget>> resolveTargetsAsync(ElasticLoadBalancingV2AsyncClient elbClient,
+                                                                             Collection<String> targetGroupArns) {
+        Set<String> missing = new LinkedHashSet<>();
+        Map<String, CachedTarget> targets = cachedTargets(targetGroupArns, missing);
 
-            // 5. URL 구성
-            String url = String.format("http://%s:%d", dnsName, targetPort);
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(targets);
+        }
 
-            log.info("Resolved URL for service {}: {}", serviceName, url);
+        return elbClient.describeTargetGroups(
+                DescribeTargetGroupsRequest.builder()
+                    .targetGroupArns(missing)
+                    .build())
+            .thenCompose(targetGroupsResponse -> {
+                Map<String, TargetGroup> targetGroups = attachedTargetGroups(targetGroupsResponse);
+                if (targetGroups.isEmpty()) {
+                    return CompletableFuture.completedFuture(Map.<String, CachedTarget>of());
+                }
+                return elbClient.describeLoadBalancers(describeLoadBalancersRequest(targetGroups))
+                    .thenApply(loadBalancersResponse -> cacheTargets(targetGroups, loadBalancersResponse));
+            })
+            .thenApply(resolved -> {
+                mergeResolved(targets, missing, resolved);
+                return targets;
+            });
+    }
 
-            return url;
+    // serviceName -> serviceArn
+    private Map<String, String> arnsByServiceName(Collection<String> serviceArns) {
+        Map<String, String> arnsByName = new LinkedHashMap<>();
+        for (String serviceArn : serviceArns) {
+            if (serviceArn != null && !serviceArn.isEmpty()) {
+                arnsByName.put(extractServiceNameFromArn(serviceArn), serviceArn);
+            }
+        }
+        return arnsByName;
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to resolve service URL for ARN: {}", serviceArn, e);
-            throw new RuntimeException("Failed to resolve service URL: " + e.getMessage(), e);
-        } finally {
-            // 클라이언트 정리
-            ecsClient.close();
-            elbClient.close();
+    private List<List<String>> describeBatches(Map<String, String> arnsByName) {
+        List<String> serviceNames = new ArrayList<>(arnsByName.keySet());
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < serviceNames.size(); i += MAX_SERVICES_PER_DESCRIBE) {
+            batches.add(serviceNames.subList(i, Math.min(i + MAX_SERVICES_PER_DESCRIBE, serviceNames.size())));
         }
+        return batches;
+    }
+
+    private DescribeServicesRequest describeServicesRequest(String clusterName, List<String> serviceNames) {
+        return DescribeServicesRequest.builder()
+            .cluster(clusterName)
+            .services(serviceNames)
+            .build();
     }
 
     /**
-     * 여러 서비스 ARN의 URL을 한 번에 해석
+     * DescribeServices 응답에서 서비스별 TargetGroup ARN 추출
      *
-     * @param serviceArns 서비스 ARN 맵 (key: "blue"/"green", value: ARN)
-     * @param clusterName ECS Cluster 이름
-     * @param awsConnection AWS 연결 정보
-     * @return URL 맵 (key: "blueUrl"/"greenUrl", value: URL)
+     * @return serviceArn -> TargetGroup ARN (LoadBalancer가 없는 서비스는 제외)
      */
-    public Map<String, String> resolveServiceUrls(Map<String, String> serviceArns,
-                                                   String clusterName,
-                                                   AwsConnection awsConnection) {
-        Map<String, String> urls = new HashMap<>();
-
-        for (String key : serviceArns.keySet()) {
-            String arn = serviceArns.get(key);
-            try {
-                String url = resolveServiceUrl(arn, clusterName, awsConnection);
-                if (url != null) {
-                    urls.put(key + "Url", url);
+    private Map<String, String> collectTargetGroups(List<DescribeServicesResponse> responses,
+                                                    String clusterName,
+                                                    Map<String, String> arnsByName) {
+        Map<String, String> targetGroupsByArn = new LinkedHashMap<>();
+        for (DescribeServicesResponse response : responses) {
+            response.failures().forEach(failure ->
+                log.error("Service not found: {} in cluster: {} ({})", failure.arn(), clusterName, failure.reason()));
+
+            for (software.amazon.awssdk.services.ecs.model.Service service : response.services()) {
+                // 짧은 형식 ARN은 ARN 그대로 조회되므로 serviceArn으로도 매칭
+                String serviceArn = arnsByName.containsKey(service.serviceName())
+                    ? arnsByName.get(service.serviceName())
+                    : arnsByName.get(service.serviceArn());
+                List<LoadBalancer> loadBalancers = service.loadBalancers();
+                if (serviceArn == null) {
+                    continue;
                 }
-            } catch (Exception e) {
-                log.error("Failed to resolve URL for {}: {}", key, e.getMessage());
+                if (loadBalancers == null || loadBalancers.isEmpty()) {
+                    log.warn("No load balancers found for service: {}", service.serviceName());
+                    continue;
+                }
+
+                LoadBalancer loadBalancer = loadBalancers.get(0);
+                log.debug("Service: {}, TargetGroupArn: {}, ContainerPort: {}",
+                    service.serviceName(), loadBalancer.targetGroupArn(), loadBalancer.containerPort());
+                targetGroupsByArn.put(serviceArn, loadBalancer.targetGroupArn());
             }
         }
-
-        return urls;
+        return targetGroupsByArn;
     }
 
     /**
-     * 사용자 AWS 계정 자격증명으로 ECS 클라이언트 생성
+     * 캐시에서 TargetGroup 정보 조회 (만료/미적중 ARN은 missing에 추가)
      */
-    private EcsClient createUserEcsClient(AwsConnection awsConnection) {
-        try {
-            Region region = Region.of(awsConnection.getRegion());
-
-            StaticCredentialsProvider credentialsProvider;
-
-            if (awsConnection.getSessionToken() != null && !awsConnection.getSessionToken().isEmpty()) {
-                AwsSessionCredentials sessionCredentials = AwsSessionCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey(),
-                    awsConnection.getSessionToken()
-                );
-                credentialsProvider = StaticCredentialsProvider.create(sessionCredentials);
+    private Map<String, CachedTarget> cachedTargets(Collection<String> targetGroupArns, Set<String> missing) {
+        Map<String, CachedTarget> targets = new HashMap<>();
+        long now = System.currentTimeMillis();
+
+        for (String targetGroupArn : targetGroupArns) {
+            CachedTarget cached = targetCache.get(targetGroupArn);
+            if (cached != null && cached.expiresAt > now) {
+                targets.put(targetGroupArn, cached);
             } else {
-                AwsBasicCredentials basicCredentials = AwsBasicCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey()
-                );
-                credentialsProvider = StaticCredentialsProvider.create(basicCredentials);
+                if (cached != null) {
+                    targetCache.remove(targetGroupArn, cached);
+                }
+                missing.add(targetGroupArn);
             }
+        }
 
-            return EcsClient.builder()
-                .region(region)
-                .credentialsProvider(credentialsProvider)
-                .build();
-
-        } catch (Exception e) {
-            log.error("Failed to create ECS client", e);
-            throw new RuntimeException("Failed to create ECS client: " + e.getMessage(), e);
+        if (missing.isEmpty()) {
+            log.debug("Target groups resolved from cache: {}", targets.keySet());
         }
+        return targets;
     }
 
     /**
-     * 사용자 AWS 계정 자격증명으로 ELB 클라이언트 생성
+     * ALB에 연결된 TargetGroup만 추출 (TargetGroup 응답에 연결된 ALB ARN이 포함되어 있음)
+     *
+     * @return TargetGroup ARN -> TargetGroup
      */
-    private ElasticLoadBalancingV2Client createUserElbClient(AwsConnection awsConnection) {
-        try {
-            Region region = Region.of(awsConnection.getRegion());
+    private Map<String, TargetGroup> attachedTargetGroups(DescribeTargetGroupsResponse targetGroupsResponse) {
+        Map<String, TargetGroup> targetGroups = new HashMap<>();
+        for (TargetGroup targetGroup : targetGroupsResponse.targetGroups()) {
+            if (targetGroup.loadBalancerArns() == null || targetGroup.loadBalancerArns().isEmpty()) {
+                log.warn("Target group is not attached to a load balancer: {}", targetGroup.targetGroupArn());
+                continue;
+            }
+            log.debug("TargetGroup: {}, port: {}", targetGroup.targetGroupArn(), targetGroup.port());
+            targetGroups.put(targetGroup.targetGroupArn(), targetGroup);
+        }
+        return targetGroups;
+    }
 
-            StaticCredentialsProvider credentialsProvider;
+    private DescribeLoadBalancersRequest describeLoadBalancersRequest(Map<String, TargetGroup> targetGroups) {
+        Set<String> loadBalancerArns = new LinkedHashSet<>();
+        targetGroups.values().forEach(targetGroup -> loadBalancerArns.add(targetGroup.loadBalancerArns().get(0)));
+        return DescribeLoadBalancersRequest.builder()
+            .loadBalancerArns(loadBalancerArns)
+            .build();
+    }
 
-            if (awsConnection.getSessionToken() != null && !awsConnection.getSessionToken().isEmpty()) {
-                AwsSessionCredentials sessionCredentials = AwsSessionCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey(),
-                    awsConnection.getSessionToken()
-                );
-                credentialsProvider = StaticCredentialsProvider.create(sessionCredentials);
-            } else {
-                AwsBasicCredentials basicCredentials = AwsBasicCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey()
-                );
-                credentialsProvider = StaticCredentialsProvider.create(basicCredentials);
+    /**
+     * TargetGroup별 ALB DNS 이름을 매칭하고 결과를 캐시에 저장
+     */
+    private Map<String, CachedTarget> cacheTargets(Map<String, TargetGroup> targetGroups,
+                                                   DescribeLoadBalancersResponse loadBalancersResponse) {
+        Map<String, String> dnsNames = new HashMap<>();
+        loadBalancersResponse.loadBalancers().forEach(loadBalancer ->
+            dnsNames.put(loadBalancer.loadBalancerArn(), loadBalancer.dnsName()));
+
+        long expiresAt = System.currentTimeMillis() + targetCacheTtlMs;
+        Map<String, CachedTarget> resolved = new HashMap<>();
+        targetGroups.forEach((targetGroupArn, targetGroup) -> {
+            String loadBalancerArn = targetGroup.loadBalancerArns().get(0);
+            String dnsName = dnsNames.get(loadBalancerArn);
+            if (dnsName == null) {
+                log.error("Load balancer not found: {}", loadBalancerArn);
+                return;
             }
+            log.debug("ALB DNS Name: {}", dnsName);
+
+            CachedTarget target = new CachedTarget(targetGroup.port(), dnsName, expiresAt);
+            targetCache.put(targetGroupArn, target);
+            resolved.put(targetGroupArn, target);
+        });
+        return resolved;
+    }
 
-            return ElasticLoadBalancingV2Client.builder()
-                .region(region)
-                .credentialsProvider(credentialsProvider)
-                .build();
+    private void mergeResolved(Map<String, CachedTarget> targets, Set<String> missing, Map<String, CachedTarget> resolved) {
+        targets.putAll(resolved);
+        missing.stream()
+            .filter(targetGroupArn -> !resolved.containsKey(targetGroupArn))
+            .forEach(targetGroupArn -> log.error("Target group not found: {}", targetGroupArn));
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to create ELB client", e);
-            throw new RuntimeException("Failed to create ELB client: " + e.getMessage(), e);
-        }
+    /**
+     * 5. URL 구성
+     *
+     * @return serviceArn -> URL
+     */
+    private Map<String, String> buildUrls(Map<String, String> targetGroupsByArn, Map<String, CachedTarget> targets) {
+        Map<String, String> urls = new HashMap<>();
+        targetGroupsByArn.forEach((serviceArn, targetGroupArn) -> {
+            CachedTarget target = targets.get(targetGroupArn);
+            if (target != null) {
+                String url = String.format("http://%s:%d", target.dnsName, target.port);
+                log.info("Resolved URL for service {}: {}", extractServiceNameFromArn(serviceArn), url);
+                urls.put(serviceArn, url);
+            }
+        });
+        return urls;
     }
 
     /**
@@ -256,18 +463,19 @@ public class EcsServiceUrlResolverService {
         return serviceArn;
     }
 
-    /**
-     * TargetGroup ARN에서 LoadBalancer ARN 추출
-     * 예: arn:aws:elasticloadbalancing:region:account:targetgroup/name/id
-     *     → arn:aws:elasticloadbalancing:region:account:loadbalancer/app/alb-name/id
-     *
-     * NOTE: LoadBalancer ARN 정보는 TargetGroup에서 직접 조회 가능하거나,
-     *      ECS Service의 LoadBalancer 정보에서 직접 가져오는 것이 더 간단할 수 있음
-     */
-    private String extractLoadBalancerArnFromTargetGroupArn(String targetGroupArn) {
-        // targetgroup/panda-green/xxxxx → loadbalancer/app/panda-alb/xxxxx 형식으로 변환
-        // 더 정확하게는, TargetGroup의 LoadBalancerArns 정보를 직접 사용하는 것이 나음
-        // 여기서는 targetgroup ARN에서 LoadBalancer ARN을 추출하는 간단한 로직만 제공
-        return targetGroupArn;
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static class CachedTarget {
+        private final Integer port;
+        private final String dnsName;
+        private final long expiresAt;
+
+        private CachedTarget(Integer port, String dnsName, long expiresAt) {
+            this.port = port;
+            this.dnsName = dnsName;
+            this.expiresAt = expiresAt;
+        }
     }
 }
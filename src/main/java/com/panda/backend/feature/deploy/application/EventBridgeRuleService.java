@@ -1,12 +1,11 @@
 package com.panda.backend.feature.deploy.application;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.panda.backend.feature.connect.entity.AwsConnection;
+import com.panda.backend.feature.deploy.infrastructure.AwsClientPool;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 import software.amazon.awssdk.services.eventbridge.model.*;
 import software.amazon.awssdk.services.iam.IamClient;
@@ -17,8 +16,12 @@ import java.util.Map;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class EventBridgeRuleService {
 
+    // 배포가 아닌 내부 태그(커밋 태그, 레이어 캐시 태그) 접두사 - 이 태그가 붙을 때는 배포를 트리거하지 않음
+    public static final String INTERNAL_TAG_PREFIX = "panda-";
+
     private static final String SOFTBANK_EVENT_BUS_ARN = "arn:aws:events:ap-northeast-2:919659241674:event-bus/softbank-event-bus";
     private static final String RULE_ROLE_NAME = "softbank-eventbridge-role";
 
@@ -56,6 +59,8 @@ public class EventBridgeRuleService {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    private final AwsClientPool awsClientPool;
+
     /**
      * 사용자 AWS 계정에 EventBridge 규칙 생성
      *
@@ -77,8 +82,10 @@ public class EventBridgeRuleService {
         String ruleName = String.format("softbank-ecr-trigger-%s-%s", owner, repo).toLowerCase();
         String repositoryName = String.format("%s-%s", owner, repo).toLowerCase();
 
-        EventBridgeClient eventBridgeClient = createEventBridgeClient(region, accessKeyId, secretAccessKey, sessionToken);
-        IamClient iamClient = createIamClient(accessKeyId, secretAccessKey, sessionToken);
+        // 자격증명별 풀에서 재사용 (close 금지)
+        AwsConnection awsConnection = new AwsConnection(region, accessKeyId, secretAccessKey, sessionToken);
+        EventBridgeClient eventBridgeClient = awsClientPool.eventBridge(awsConnection);
+        IamClient iamClient = awsClientPool.iam(awsConnection);
 
         try {
             // 1. IAM 역할 생성/확인
@@ -92,9 +99,6 @@ public class EventBridgeRuleService {
         } catch (Exception e) {
             log.error("Failed to create EventBridge rule: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to create EventBridge rule: " + e.getMessage(), e);
-        } finally {
-            eventBridgeClient.close();
-            iamClient.close();
         }
     }
 
@@ -151,21 +155,32 @@ public class EventBridgeRuleService {
             String roleArn) {
 
         try {
+            // 이벤트 패턴 생성
+            String eventPattern = createEventPattern(repositoryName);
+
             // 규칙 존재 확인
             try {
-                client.describeRule(DescribeRuleRequest.builder()
+                DescribeRuleResponse existing = client.describeRule(DescribeRuleRequest.builder()
                         .name(ruleName)
                         .build());
-                log.info("EventBridge rule already exists: {}", ruleName);
+                if (!samePattern(eventPattern, existing.eventPattern())) {
+                    // 이전 버전 패턴(내부 태그 제외 조건 없음)이면 패턴만 갱신 (대상은 그대로 유지)
+                    client.putRule(PutRuleRequest.builder()
+                            .name(ruleName)
+                            .description(existing.description())
+                            .eventPattern(eventPattern)
+                            .state(existing.state())
+                            .build());
+                    log.info("EventBridge rule pattern updated: {}", ruleName);
+                } else {
+                    log.info("EventBridge rule already exists: {}", ruleName);
+                }
                 return;
             } catch (ResourceNotFoundException e) {
                 // 규칙이 없으면 생성
                 log.info("Creating EventBridge rule: {}", ruleName);
             }
 
-            // 이벤트 패턴 생성
-            String eventPattern = createEventPattern(repositoryName);
-
             // 규칙 생성
             client.putRule(PutRuleRequest.builder()
                     .name(ruleName)
@@ -193,6 +208,18 @@ public class EventBridgeRuleService {
         }
     }
 
+    // JSON 패턴 비교 (키 순서/공백 무시)
+    private boolean samePattern(String expected, String actual) {
+        if (actual == null) {
+            return false;
+        }
+        try {
+            return objectMapper.readTree(expected).equals(objectMapper.readTree(actual));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     /**
      * EventBridge 이벤트 패턴 생성
      *
@@ -203,6 +230,7 @@ public class EventBridgeRuleService {
      *     "action-type": ["PUSH"],
      *     "result": ["SUCCESS"],
      *     "repository-name": ["사용자 ECR 레포 이름"],
+     *     "image-tag": [{ "anything-but": { "prefix": "panda-" } }],
      *     "manifest-media-type": [{
      *       "prefix": "application/vnd."
      *     }]
@@ -220,6 +248,11 @@ public class EventBridgeRuleService {
             detail.put("result", new String[]{"SUCCESS"});
             detail.put("repository-name", new String[]{repositoryName});
 
+            // 내부 태그(panda-commit-<sha>, panda-layer-cache) 추가는 배포가 아니므로 제외 (배포 태그 push만 트리거)
+            Map<String, Object> notInternalTag = new HashMap<>();
+            notInternalTag.put("anything-but", Map.of("prefix", INTERNAL_TAG_PREFIX));
+            detail.put("image-tag", new Object[]{notInternalTag});
+
             Map<String, Object> mediaType = new HashMap<>();
             mediaType.put("prefix", "application/vnd.");
             detail.put("manifest-media-type", new Object[]{mediaType});
@@ -232,59 +265,4 @@ public class EventBridgeRuleService {
             throw new RuntimeException("Failed to create event pattern", e);
         }
     }
-
-    /**
-     * EventBridge Client 생성
-     */
-    private EventBridgeClient createEventBridgeClient(
-            String region,
-            String accessKeyId,
-            String secretAccessKey,
-            String sessionToken) {
-
-        if (sessionToken != null && !sessionToken.isEmpty()) {
-            AwsSessionCredentials credentials = AwsSessionCredentials.create(
-                    accessKeyId,
-                    secretAccessKey,
-                    sessionToken
-            );
-            return EventBridgeClient.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-        } else {
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(
-                    accessKeyId,
-                    secretAccessKey
-            );
-            return EventBridgeClient.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-        }
-    }
-
-    /**
-     * IAM Client 생성
-     */
-    private IamClient createIamClient(String accessKeyId, String secretAccessKey, String sessionToken) {
-        if (sessionToken != null && !sessionToken.isEmpty()) {
-            AwsSessionCredentials credentials = AwsSessionCredentials.create(
-                    accessKeyId,
-                    secretAccessKey,
-                    sessionToken
-            );
-            return IamClient.builder()
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-        } else {
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(
-                    accessKeyId,
-                    secretAccessKey
-            );
-            return IamClient.builder()
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-        }
-    }
 }
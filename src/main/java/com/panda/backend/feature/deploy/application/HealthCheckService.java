@@ -3,13 +3,10 @@ package com.panda.backend.feature.deploy.application;
 import com.panda.backend.feature.connect.entity.AwsConnection;
 import com.panda.backend.feature.deploy.event.StageEventHelper;
 import com.panda.backend.feature.deploy.exception.HealthCheckException;
+import com.panda.backend.feature.deploy.infrastructure.AwsClientPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.*;
 
@@ -27,6 +24,7 @@ import java.util.Map;
 public class HealthCheckService {
 
     private final CodeDeployTrafficSwitchService codeDeployTrafficSwitchService;
+    private final AwsClientPool awsClientPool;
 
     /**
      * Stage 4: HealthCheck & Traffic Switching (Stage 4의 일부)
@@ -156,8 +154,6 @@ public class HealthCheckService {
             log.error("Health check error: {}", e.getMessage());
             stageHelper.stage4HealthCheckFailed(greenUrl, e.getMessage());
             throw new HealthCheckException("Health check error: " + e.getMessage(), deploymentId);
-        } finally {
-            elbClient.close();
         }
     }
 
@@ -233,8 +229,6 @@ public class HealthCheckService {
                     }
                 }
             }
-
-            elbClient.close();
         } catch (Exception e) {
             log.warn("Failed to get Blue/Green URLs from ALB: {}, using defaults", e.getMessage());
         }
@@ -271,28 +265,9 @@ public class HealthCheckService {
     }
 
     /**
-     * ELB Client 생성
+     * ELB Client 조회 (자격증명별 풀에서 재사용, close 금지)
      */
     protected ElasticLoadBalancingV2Client createElbClient(AwsConnection awsConnection) {
-        if (awsConnection.getSessionToken() != null && !awsConnection.getSessionToken().isEmpty()) {
-            AwsSessionCredentials credentials = AwsSessionCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey(),
-                    awsConnection.getSessionToken()
-            );
-            return ElasticLoadBalancingV2Client.builder()
-                    .region(Region.of(awsConnection.getRegion()))
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-        } else {
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey()
-            );
-            return ElasticLoadBalancingV2Client.builder()
-                    .region(Region.of(awsConnection.getRegion()))
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-        }
+        return awsClientPool.elb(awsConnection);
     }
 }
@@ -4,15 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.panda.backend.feature.connect.entity.AwsConnection;
 import com.panda.backend.feature.deploy.dto.MonitorCloudWatchRequest;
 import com.panda.backend.feature.deploy.dto.MonitorCloudWatchResponse;
+import com.panda.backend.feature.deploy.infrastructure.AwsClientPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.lambda.LambdaClient;
 import software.amazon.awssdk.services.lambda.model.InvokeRequest;
 import software.amazon.awssdk.services.lambda.model.InvokeResponse;
@@ -37,6 +34,7 @@ import java.nio.charset.StandardCharsets;
 public class MonitorCloudWatchService {
 
     private final ObjectMapper objectMapper;
+    private final AwsClientPool awsClientPool;
 
     @Value("${aws.lambda.monitor-cloudwatch-function-name:lambda_1_monitor_cloudwatch}")
     private String monitorCloudWatchLambdaName;
@@ -68,67 +66,61 @@ public class MonitorCloudWatchService {
             log.info("Invoking CloudWatch monitoring Lambda for deploymentId: {} in region: {}",
                 deploymentId, awsConnection.getRegion());
 
-            // 사용자 AWS 자격증명으로 Lambda 클라이언트 생성
+            // 사용자 AWS 자격증명으로 Lambda 클라이언트 조회 (풀에서 재사용)
             LambdaClient userLambdaClient = createUserLambdaClient(awsConnection);
 
-            try {
-                // 요청 생성
-                MonitorCloudWatchRequest request = MonitorCloudWatchRequest.builder()
-                    .deploymentId(deploymentId)
-                    .blueServiceArn(blueServiceArn)
-                    .greenServiceArn(greenServiceArn)
-                    .clusterName(clusterName)
-                    .serviceName(serviceName)
-                    .minutesRange(5)  // 최근 5분 메트릭
-                    .statisticType("Average")
-                    .build();
-
-                String payload = objectMapper.writeValueAsString(request);
-
-                log.debug("CloudWatch Lambda invocation payload: {}", payload);
-
-                // Lambda 호출 요청
-                InvokeRequest invokeRequest = InvokeRequest.builder()
-                    .functionName(monitorCloudWatchLambdaName)
-                    .invocationType("RequestResponse")  // 동기 호출
-                    .payload(SdkBytes.fromString(payload, StandardCharsets.UTF_8))
-                    .build();
-
-                // Lambda 호출
-                InvokeResponse invokeResponse = userLambdaClient.invoke(invokeRequest);
-
-                // 응답 파싱
-                String responseBody = invokeResponse.payload().asUtf8String();
-
-                log.debug("CloudWatch Lambda response status code: {}", invokeResponse.statusCode());
-                log.debug("CloudWatch Lambda response body: {}", responseBody);
-
-                // JSON 응답을 DTO로 변환
-                MonitorCloudWatchResponse response = objectMapper.readValue(
-                    responseBody,
-                    MonitorCloudWatchResponse.class
-                );
-
-                if (response.isSuccess()) {
-                    log.info("CloudWatch metrics collected successfully - deploymentId: {}, " +
-                        "blueLatency: {}ms, greenLatency: {}ms, blueErrorRate: {}, greenErrorRate: {}",
-                        deploymentId,
-                        response.getBlueLatencyMs(),
-                        response.getGreenLatencyMs(),
-                        response.getBlueErrorRate(),
-                        response.getGreenErrorRate());
-                } else {
-                    log.warn("CloudWatch monitoring failed - deploymentId: {}, message: {}",
-                        deploymentId, response.getMessage());
-                }
-
-                return response;
-
-            } finally {
-                // Lambda 클라이언트 정리
-                userLambdaClient.close();
+            // 요청 생성
+            MonitorCloudWatchRequest request = MonitorCloudWatchRequest.builder()
+                .deploymentId(deploymentId)
+                .blueServiceArn(blueServiceArn)
+                .greenServiceArn(greenServiceArn)
+                .clusterName(clusterName)
+                .serviceName(serviceName)
+                .minutesRange(5)  // 최근 5분 메트릭
+                .statisticType("Average")
+                .build();
+
+            String payload = objectMapper.writeValueAsString(request);
+
+            log.debug("CloudWatch Lambda invocation payload: {}", payload);
+
+            // Lambda 호출 요청
+            InvokeRequest invokeRequest = InvokeRequest.builder()
+                .functionName(monitorCloudWatchLambdaName)
+                .invocationType("RequestResponse")  // 동기 호출
+                .payload(SdkBytes.fromString(payload, StandardCharsets.UTF_8))
+                .build();
+
+            // Lambda 호출
+            InvokeResponse invokeResponse = userLambdaClient.invoke(invokeRequest);
+
+            // 응답 파싱
+            String responseBody = invokeResponse.payload().asUtf8String();
+
+            log.debug("CloudWatch Lambda response status code: {}", invokeResponse.statusCode());
+            log.debug("CloudWatch Lambda response body: {}", responseBody);
+
+            // JSON 응답을 DTO로 변환
+            MonitorCloudWatchResponse response = objectMapper.readValue(
+                responseBody,
+                MonitorCloudWatchResponse.class
+            );
+
+            if (response.isSuccess()) {
+                log.info("CloudWatch metrics collected successfully - deploymentId: {}, " +
+                    "blueLatency: {}ms, greenLatency: {}ms, blueErrorRate: {}, greenErrorRate: {}",
+                    deploymentId,
+                    response.getBlueLatencyMs(),
+                    response.getGreenLatencyMs(),
+                    response.getBlueErrorRate(),
+                    response.getGreenErrorRate());
+            } else {
+                log.warn("CloudWatch monitoring failed - deploymentId: {}, message: {}",
+                    deploymentId, response.getMessage());
             }
 
+            return response;
+
         } catch (Exception e) {
             log.error("Failed to invoke CloudWatch monitoring Lambda for deploymentId: {}",
                 deploymentId, e);
@@ -137,39 +129,10 @@ public class MonitorCloudWatchService {
     }
 
     /**
-     * 사용자 AWS 계정 자격증명으로 Lambda 클라이언트 생성
+     * 사용자 AWS 계정 자격증명으로 Lambda 클라이언트 조회 (자격증명별 풀에서 재사용)
      */
     private LambdaClient createUserLambdaClient(AwsConnection awsConnection) {
-        try {
-            Region region = Region.of(awsConnection.getRegion());
-
-            // 세션 토큰이 있으면 AwsSessionCredentials, 없으면 AwsBasicCredentials 사용
-            StaticCredentialsProvider credentialsProvider;
-
-            if (awsConnection.getSessionToken() != null && !awsConnection.getSessionToken().isEmpty()) {
-                AwsSessionCredentials sessionCredentials = AwsSessionCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey(),
-                    awsConnection.getSessionToken()
-                );
-                credentialsProvider = StaticCredentialsProvider.create(sessionCredentials);
-            } else {
-                AwsBasicCredentials basicCredentials = AwsBasicCredentials.create(
-                    awsConnection.getAccessKeyId(),
-                    awsConnection.getSecretAccessKey()
-                );
-                credentialsProvider = StaticCredentialsProvider.create(basicCredentials);
-            }
-
-            return LambdaClient.builder()
-                .region(region)
-                .credentialsProvider(credentialsProvider)
-                .build();
-
-        } catch (Exception e) {
-            log.error("Failed to create Lambda client for user AWS account", e);
-            throw new RuntimeException("Failed to create Lambda client: " + e.getMessage(), e);
-        }
+        return awsClientPool.lambda(awsConnection);
     }
 
     /**
@@ -133,6 +133,7 @@ public class StartDeploymentService {
                 deploymentId,
                 ghConnection,
                 awsConnection,
+                request.getAwsConnectionId(),
                 request.getOwner(),
                 request.getRepo(),
                 request.getBranch(),
@@ -0,0 +1,82 @@
+package com.panda.backend.feature.deploy.application;
+
+import com.panda.backend.feature.deploy.dto.StepFunctionsStatusEvent;
+import com.panda.backend.feature.deploy.exception.PushAuthenticationException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * EventBridge에서 푸시된 Step Functions 상태 변경 이벤트 수신 서비스
+ *
+ * 흐름:
+ * 1. 서비스 계정의 EventBridge 규칙이 Step Functions 상태 변경 이벤트를 API Destination으로 전달
+ * 2. API Destination Connection의 API Key 헤더(X-Panda-Push-Key) 검증
+ * 3. executionArn으로 진행 중인 폴링 세션을 찾아 즉시 히스토리 분석 실행
+ *
+ * 푸시가 계속 도착하는 동안 정기 폴링은 fallback 간격으로 느려지고,
+ * 푸시가 끊기면 StepFunctionsPollingService가 일반 폴링으로 자동 복귀함
+ *
+ * aws.step-functions.push.enabled=true일 때만 등록되며, 이때 API Key는 필수 (없으면 기동 실패)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "aws.step-functions.push.enabled", havingValue = "true")
+public class StepFunctionsEventIngestionService {
+
+    private final StepFunctionsPollingService stepFunctionsPollingService;
+
+    @Value("${aws.step-functions.push.api-key:}")
+    private String pushApiKey;
+
+    @PostConstruct
+    void validatePushApiKey() {
+        if (pushApiKey == null || pushApiKey.isBlank()) {
+            throw new IllegalStateException(
+                "aws.step-functions.push.api-key must be set when aws.step-functions.push.enabled=true");
+        }
+    }
+
+    /**
+     * 푸시 이벤트 처리
+     *
+     * @param pushKey 요청 헤더의 API Key
+     * @param event EventBridge 이벤트
+     * @return 진행 중인 폴링 세션과 매칭되었으면 true
+     */
+    public boolean ingest(String pushKey, StepFunctionsStatusEvent event) {
+        if (!constantTimeEquals(pushApiKey, pushKey)) {
+            throw new PushAuthenticationException("Invalid push key");
+        }
+
+        if (event == null || event.getDetail() == null || event.getDetail().getExecutionArn() == null) {
+            throw new IllegalArgumentException("executionArn is required");
+        }
+
+        StepFunctionsStatusEvent.Detail detail = event.getDetail();
+        log.info("📥 [SFN-Push] detailType: {}, executionArn: {}, status: {}",
+            event.getDetailType(), detail.getExecutionArn(), detail.getStatus());
+
+        boolean matched = stepFunctionsPollingService.onExecutionPush(detail.getExecutionArn(), detail.getStatus());
+        if (!matched) {
+            log.debug("No active polling session for pushed executionArn: {}", detail.getExecutionArn());
+        }
+        return matched;
+    }
+
+    private boolean constantTimeEquals(String expected, String actual) {
+        if (actual == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            expected.getBytes(StandardCharsets.UTF_8),
+            actual.getBytes(StandardCharsets.UTF_8));
+    }
+}
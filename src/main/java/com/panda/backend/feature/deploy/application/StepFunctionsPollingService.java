@@ -1,24 +1,51 @@
 package com.panda.backend.feature.deploy.application;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.panda.backend.feature.connect.entity.AwsConnection;
+import com.panda.backend.feature.connect.infrastructure.ConnectionStore;
 import com.panda.backend.feature.deploy.dto.DeploymentResult;
+import com.panda.backend.feature.deploy.dto.PollingCheckpoint;
 import com.panda.backend.feature.deploy.event.DeploymentEventPublisher;
 import com.panda.backend.feature.deploy.event.DeploymentEvent;
 import com.panda.backend.feature.deploy.event.DeploymentEventStore;
+import com.panda.backend.feature.deploy.event.PacedEventDispatcher;
 import com.panda.backend.feature.deploy.infrastructure.ExecutionArnStore;
+import com.panda.backend.feature.deploy.infrastructure.ExecutionHistoryCursor;
+import com.panda.backend.feature.deploy.infrastructure.DeploymentJournal;
 import com.panda.backend.feature.deploy.infrastructure.DeploymentResultStore;
+import com.panda.backend.feature.deploy.infrastructure.TaskOutputParser;
+import com.panda.backend.feature.deploy.infrastructure.TaskOutputParser.CheckDeploymentOutput;
+import com.panda.backend.feature.deploy.infrastructure.TaskOutputParser.RunMetricsOutput;
+import com.panda.backend.feature.deploy.infrastructure.TaskOutputParser.TaskStateOutput;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.sfn.SfnAsyncClient;
 import software.amazon.awssdk.services.sfn.SfnClient;
 import software.amazon.awssdk.services.sfn.model.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Step Functions의 실행 상태를 주기적으로 폴링하고
@@ -26,10 +53,30 @@ import java.util.concurrent.Executors;
  *
  * 흐름:
  * 1. ECR 푸시 직후 startPollingAsync(deploymentId) 호출
- * 2. Secrets Manager에서 ExecutionArn 조회 (3초 대기 후)
- * 3. 2초마다 GetExecutionHistory API 호출
+ * 2. ExecutionArn 조회 (찾을 때까지 짧은 지수 백오프로 재시도, 최대 waitForExecutionArnMs)
+ *    - 이 프로세스에서 등록된 ARN이면 등록 즉시 깨어나 바로 사용 (ExecutionArnStore 등록 리스너)
+ *    - Secrets Manager 조회, stateMachineArn이 설정되어 있으면 ListExecutions로도 탐색
+ * 3. 공용 스케줄러가 2초(조용한 구간에서는 최대 15초까지 점진적으로 증가)마다 GetExecutionHistory API 호출 (ExecutionHistoryCursor로 새 이벤트만 증분 조회)
  * 4. 상태 변화 감지 시 SSE 이벤트 발행
  * 5. SUCCEEDED/FAILED 상태 도달 시 폴링 중단 및 정리
+ *
+ * 배포별 상태는 PollingSession으로 activeSessions에 보관하고,
+ * 소수의 스케줄러 스레드가 모든 배포의 폴링 틱을 번갈아 실행함
+ * (배포 수가 늘어도 스레드 수는 POLLING_SCHEDULER_THREADS로 고정)
+ *
+ * 푸시 모드 (aws.step-functions.push.enabled=true):
+ * EventBridge → API Destination → POST /api/v1/deploy/stepfunctions/events 로 들어온 이벤트가
+ * onExecutionPush()로 즉시 틱을 실행하고, 푸시가 끊기면 일반 폴링으로 자동 복귀
+ *
+ * 비동기 모드 (aws.step-functions.async-client.enabled=true):
+ * GetExecutionHistory를 SfnAsyncClient(Netty)로 호출하고 응답이 오면 스케줄러에서 분석을 이어감
+ * → 응답 대기 중에는 스케줄러 스레드를 점유하지 않아 같은 스레드 수로 더 많은 배포를 동시에 폴링
+ * Blue/Green URL 해석(ECS/ELB 조회)도 분석 전에 비동기로 미리 끝내 두어 스케줄러에서 블로킹하지 않음
+ *
+ * 재시작 복구:
+ * 진행이 있을 때마다 세션 상태(ExecutionArn, 마지막 이벤트 ID, stage, monitoringContext, CheckDeployment 타이머)를
+ * DeploymentJournal에 체크포인트로 남기고, 시작 시 종료되지 않은 세션을 마지막 체크포인트부터 재개
+ * → 이미 처리한 히스토리를 다시 조회하거나 SSE 이벤트를 다시 발행하지 않음
  */
 @Slf4j
 @Service
@@ -37,31 +84,104 @@ import java.util.concurrent.Executors;
 public class StepFunctionsPollingService {
 
     private final SfnClient sfnClient;
+    private final ObjectProvider<SfnAsyncClient> sfnAsyncClientProvider;
     private final ExecutionArnStore executionArnStore;
     private final DeploymentEventPublisher eventPublisher;
     private final DeploymentEventStore deploymentEventStore;
+    private final PacedEventDispatcher eventDispatcher;
     private final ObjectMapper objectMapper;
     private final EcsServiceUrlResolverService ecsServiceUrlResolverService;
     private final HealthCheckService healthCheckService;
     private final DeploymentResultStore deploymentResultStore;
+    private final DeploymentJournal journal;
+    private final ConnectionStore connectionStore;
+    private final TaskOutputParser taskOutputParser;
 
     @Value("${aws.step-functions.polling-interval-ms:2000}")
     private long pollingIntervalMs;
 
+    @Value("${aws.step-functions.max-polling-interval-ms:15000}")
+    private long maxPollingIntervalMs;
+
+    @Value("${aws.step-functions.polling-backoff-multiplier:1.5}")
+    private double pollingBackoffMultiplier;
+
+    @Value("${aws.step-functions.push.enabled:false}")
+    private boolean pushEnabled;
+
+    @Value("${aws.step-functions.push.fallback-polling-interval-ms:30000}")
+    private long pushFallbackPollingIntervalMs;
+
+    @Value("${aws.step-functions.push.stale-after-ms:60000}")
+    private long pushStaleAfterMs;
+
     @Value("${aws.step-functions.max-polling-duration-ms:1800000}")
     private long maxPollingDurationMs;
 
-    @Value("${aws.step-functions.wait-for-execution-arn-ms:10000}")
+    // ExecutionArn을 찾을 때까지 기다리는 최대 시간 (이 안에서 백오프로 재시도)
+    @Value("${aws.step-functions.wait-for-execution-arn-ms:60000}")
     private long waitForExecutionArnMs;
 
+    @Value("${aws.step-functions.execution-arn-retry.initial-delay-ms:250}")
+    private long executionArnRetryInitialDelayMs;
+
+    @Value("${aws.step-functions.execution-arn-retry.max-delay-ms:2000}")
+    private long executionArnRetryMaxDelayMs;
+
+    // 설정되어 있으면 ListExecutions로도 ExecutionArn 탐색 (비어 있으면 사용 안 함)
+    @Value("${aws.step-functions.state-machine-arn:}")
+    private String stateMachineArn;
+
+    @Value("${aws.step-functions.history-page-size:100}")
+    private int historyPageSize;
+
     @Value("${aws.step-functions.stale-event-timeout-ms:120000}")
     private long staleEventTimeoutMs;
 
     @Value("${aws.lambda.monitor-interval-seconds:30}")
     private long monitorIntervalSeconds;
 
+    // 비동기 조회 모드 (aws.step-functions.async-client.enabled=true일 때만 빈이 생성됨)
+    private SfnAsyncClient sfnAsyncClient;
+
+    // 폴링 스케줄러 스레드 수 (동시 배포 수와 무관하게 고정)
+    private static final int POLLING_SCHEDULER_THREADS = 4;
+
+    // ✅ CheckDeployment 자동 완료 대기 시간: 2분 30초
+    private static final long AUTO_WAIT_DURATION_MS = 2 * 60 * 1000 + 30 * 1000;
+
+    // Health Check 등 장시간 작업용
     private final ExecutorService executorService = Executors.newFixedThreadPool(10);
 
+    // 모든 배포의 폴링 틱을 실행하는 공용 스케줄러
+    private final ScheduledExecutorService pollingScheduler = Executors.newScheduledThreadPool(
+        POLLING_SCHEDULER_THREADS,
+        new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r);
+                t.setName("sfn-poller-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        }
+    );
+
+    // deploymentId -> 진행 중인 폴링 세션
+    private final Map<String, PollingSession> activeSessions = new ConcurrentHashMap<>();
+
+    // executionArn -> 진행 중인 폴링 세션 (푸시 이벤트 매칭용)
+    private final Map<String, PollingSession> sessionsByExecutionArn = new ConcurrentHashMap<>();
+
+    // ExecutionArn 조회 시 세션 시작 이전 실행을 허용하는 여유 (그보다 이전 실행은 이전 배포로 보고 무시)
+    private static final long EXECUTION_START_SLACK_MS = 30000;
+
+    // monitoringContext 내 감지 플래그 키 (폴링 간 유지)
+    private static final String CHECK_DEPLOYMENT_DETECTED_KEY = "checkDeploymentDetected";
+    private static final String RUN_METRICS_DETECTED_KEY = "runMetricsDetected";
+
     /**
      * ✅ 폴링 결과를 반환하는 내부 클래스
      * - currentStage: 현재 단계
@@ -77,317 +197,928 @@ public class StepFunctionsPollingService {
         }
     }
 
+    /**
+     * ✅ 배포 하나의 폴링 상태
+     * 기존 폴링 루프의 지역 변수를 모아 스케줄러 틱 사이에 유지
+     */
+    private static class PollingSession {
+        final String deploymentId;
+        final String owner;
+        final String repo;
+        final AwsConnection awsConnection;
+        final String awsConnectionId;   // 재시작 후 자격증명 재조회용
+        final String branch = "main";  // Default branch
+        final String secretName;
+        final long pollingStartTime;
+
+        // CloudWatch 모니터링용 컨텍스트
+        final Map<String, Object> monitoringContext = new HashMap<>();
+
+        String executionArn;
+        ExecutionHistoryCursor historyCursor;
+        long resumeFromEventId = 0L;     // 재개된 세션: 커서를 이 이벤트 이후부터 시작
+        String previousStage;
+        long lastProcessedEventId = 0L;  // ✅ 마지막 처리한 이벤트 ID 추적
+        long lastNewEventTime;           // ✅ 마지막 새 이벤트 도착 시간
+        long checkDeploymentDetectedTime = -1;  // ✅ CheckDeployment 감지 시간 (자동 완료 타이머)
+        long currentIntervalMs;          // ✅ 다음 폴링까지 대기 시간 (적응형)
+        long arnRetryDelayMs;            // ExecutionArn 재조회 대기 시간 (지수 백오프)
+        int arnLookupAttempts = 0;
+        int pollCount = 0;
+        int eventCount = 0;
+
+        // 비동기 모드: RegisterTaskAndDeploy 이벤트 ID -> 미리 해석한 Blue/Green URL (분석 시 블로킹 조회 대신 사용)
+        final Map<Long, Map<String, String>> prefetchedServiceUrls = new HashMap<>();
+
+        // 푸시 모드: 마지막 푸시 수신 시간 / 다음 틱 예약 정보
+        volatile long lastPushTime = 0L;
+        final AtomicBoolean pushPending = new AtomicBoolean(false);
+        final Object scheduleLock = new Object();
+        ScheduledFuture<?> nextTick;
+
+        PollingSession(String deploymentId, String owner, String repo,
+                       AwsConnection awsConnection, String awsConnectionId, long pollingStartTime) {
+            this.deploymentId = deploymentId;
+            this.owner = owner;
+            this.repo = repo;
+            this.awsConnection = awsConnection;
+            this.awsConnectionId = awsConnectionId;
+            this.pollingStartTime = pollingStartTime;
+            this.secretName = "panda/stepfunctions/" + owner.toLowerCase() + "-" + repo.toLowerCase() + "-latest-execution";
+        }
+    }
+
     /**
      * 비동기로 Step Functions 폴링 시작
      * ECR 푸시 완료 직후 호출되어야 함
      *
+     * 배포마다 스레드를 점유하지 않고, 세션을 activeSessions에 등록한 뒤
+     * 공용 스케줄러가 pollingIntervalMs마다 한 번씩 폴링 틱을 실행
+     *
      * @param deploymentId 배포 ID
      * @param owner GitHub owner
      * @param repo GitHub repo
      * @param awsConnection 사용자 AWS 연결 정보 (CloudWatch 모니터링용)
+     * @param awsConnectionId AWS 연결 ID (재시작 후 재개 시 자격증명 재조회용, 없으면 null)
      */
-    public void startPollingAsync(String deploymentId, String owner, String repo, AwsConnection awsConnection) {
-        executorService.submit(() -> {
+    public void startPollingAsync(String deploymentId, String owner, String repo,
+                                  AwsConnection awsConnection, String awsConnectionId) {
+        PollingSession session = new PollingSession(deploymentId, owner, repo,
+            awsConnection, awsConnectionId, System.currentTimeMillis());
+        PollingSession previous = activeSessions.put(deploymentId, session);
+        if (previous != null) {
+            log.warn("Replacing existing polling session for deploymentId: {}", deploymentId);
+            // 이전 실행의 이벤트 ID로 캐시된 파싱 결과가 섞이지 않도록
+            taskOutputParser.release(deploymentId);
+        }
+
+        // Step 1: ExecutionArn 조회를 바로 시작 (없으면 백오프로 재시도, 등록되면 즉시 깨어남)
+        log.info("⏳ [POLLING-START] deploymentId: {}, owner: {}, repo: {} - Waiting up to {}ms for ExecutionArn...",
+            deploymentId, owner, repo, waitForExecutionArnMs);
+        log.info("   Expected Secret Name: {}", session.secretName);
+        session.arnRetryDelayMs = executionArnRetryInitialDelayMs;
+        scheduleNextPoll(session, 0);
+
+        log.info("Step Functions polling started asynchronously for deploymentId: {} ({}/{}), activeSessions: {}",
+            deploymentId, owner, repo, activeSessions.size());
+    }
+
+    /**
+     * 현재 폴링 중인 배포 수
+     */
+    public int getActivePollingCount() {
+        return activeSessions.size();
+    }
+
+    /**
+     * 초기화 순서를 한 곳에서 고정 (@PostConstruct 메서드가 여러 개면 실행 순서가 보장되지 않음)
+     * 1. 비동기 클라이언트 확인 → 2. ExecutionArn 등록 리스너 연결
+     * 체크포인트 세션 재개는 애플리케이션이 완전히 뜬 뒤(ApplicationReadyEvent) 실행
+     */
+    @PostConstruct
+    void init() {
+        sfnAsyncClient = sfnAsyncClientProvider.getIfAvailable();
+        if (sfnAsyncClient != null) {
+            log.info("Step Functions polling uses async ExecutionHistory client");
+        }
+        executionArnStore.addRegistrationListener(this::onExecutionArnRegistered);
+    }
+
+    /**
+     * 이 프로세스에서 ExecutionArn이 등록되면 해당 저장소를 기다리는 세션의 틱을 즉시 실행
+     */
+    void onExecutionArnRegistered(String owner, String repo) {
+        for (PollingSession session : activeSessions.values()) {
+            if (session.executionArn == null
+                && session.owner.equalsIgnoreCase(owner) && session.repo.equalsIgnoreCase(repo)) {
+                log.info("⚡ [EXECUTION-ARN-REGISTERED] Waking up polling session - deploymentId: {}", session.deploymentId);
+                triggerImmediateTick(session);
+            }
+        }
+    }
+
+    /**
+     * 재시작 전 종료되지 않은 폴링 세션을 마지막 체크포인트부터 재개
+     *
+     * init() 이후, 모든 빈(연결 저장소, 이벤트 히스토리 복구 등) 준비가 끝난 다음에 세션을 스케줄러에 올림
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void resumeCheckpointedSessions() {
+        Map<String, PollingCheckpoint> checkpoints = new LinkedHashMap<>();
+        journal.replay(new DeploymentJournal.ReplayHandler() {
+            @Override
+            public void onPollingCheckpoint(PollingCheckpoint checkpoint) {
+                checkpoints.put(checkpoint.getDeploymentId(), checkpoint);
+            }
+
+            @Override
+            public void onPollingFinished(String deploymentId) {
+                checkpoints.remove(deploymentId);
+            }
+        });
+
+        for (PollingCheckpoint checkpoint : checkpoints.values()) {
             try {
-                pollExecutionHistory(deploymentId, owner, repo, awsConnection);
+                resumeSession(checkpoint);
             } catch (Exception e) {
-                log.error("Polling failed for deploymentId: {}", deploymentId, e);
-                eventPublisher.publishErrorEvent(deploymentId,
-                    "Step Functions 모니터링 오류: " + e.getMessage());
+                log.error("Failed to resume polling session - deploymentId: {}", checkpoint.getDeploymentId(), e);
             }
-        });
+        }
+    }
+
+    private void resumeSession(PollingCheckpoint checkpoint) {
+        String deploymentId = checkpoint.getDeploymentId();
+        AwsConnection awsConnection = loadAwsConnection(checkpoint.getAwsConnectionId(), deploymentId);
+        PollingSession session = new PollingSession(deploymentId, checkpoint.getOwner(), checkpoint.getRepo(),
+            awsConnection, checkpoint.getAwsConnectionId(), checkpoint.getPollingStartTime());
+
+        session.executionArn = checkpoint.getExecutionArn();
+        session.resumeFromEventId = checkpoint.getLastSeenEventId();
+        session.lastProcessedEventId = checkpoint.getLastProcessedEventId();
+        session.previousStage = checkpoint.getPreviousStage();
+        session.checkDeploymentDetectedTime = checkpoint.getCheckDeploymentDetectedTime();
+        session.eventCount = checkpoint.getEventCount();
+        if (checkpoint.getMonitoringContext() != null) {
+            session.monitoringContext.putAll(checkpoint.getMonitoringContext());
+        }
+        // 중단되어 있던 시간은 Stale Event로 보지 않음 (CheckDeployment 타이머는 실제 경과 시간 기준으로 유지)
+        session.lastNewEventTime = System.currentTimeMillis();
+        session.currentIntervalMs = pollingIntervalMs;
+
+        if (activeSessions.putIfAbsent(deploymentId, session) != null) {
+            return;
+        }
+        sessionsByExecutionArn.put(session.executionArn, session);
+        log.info("♻️ [POLLING-RESUMED] deploymentId: {}, executionArn: {}, stage: {}, lastEventId: {}",
+            deploymentId, session.executionArn, session.previousStage, session.resumeFromEventId);
+        scheduleNextPoll(session, 0);
+    }
 
-        log.info("Step Functions polling started asynchronously for deploymentId: {} ({}/{})", deploymentId, owner, repo);
+    // 자격증명은 체크포인트에 없으므로 연결 ID로 다시 조회 (실패하면 CloudWatch/URL 해석 없이 계속 폴링)
+    private AwsConnection loadAwsConnection(String awsConnectionId, String deploymentId) {
+        if (awsConnectionId == null) {
+            return null;
+        }
+        try {
+            return connectionStore.getAwsConnection(awsConnectionId).orElse(null);
+        } catch (Exception e) {
+            log.warn("Failed to reload AWS connection for resumed polling - deploymentId: {}: {}",
+                deploymentId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 세션 상태를 저널에 기록 (폴링 스케줄러의 틱 안에서만 호출 → monitoringContext 동시 수정 없음)
+     */
+    private void checkpoint(PollingSession session) {
+        journal.appendPollingCheckpoint(PollingCheckpoint.builder()
+            .deploymentId(session.deploymentId)
+            .owner(session.owner)
+            .repo(session.repo)
+            .awsConnectionId(session.awsConnectionId)
+            .executionArn(session.executionArn)
+            .lastSeenEventId(session.historyCursor != null
+                ? session.historyCursor.getLastSeenEventId() : session.resumeFromEventId)
+            .lastProcessedEventId(session.lastProcessedEventId)
+            .previousStage(session.previousStage)
+            .pollingStartTime(session.pollingStartTime)
+            .checkDeploymentDetectedTime(session.checkDeploymentDetectedTime)
+            .eventCount(session.eventCount)
+            .monitoringContext(new HashMap<>(session.monitoringContext))
+            .build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pollingScheduler.shutdownNow();
+        executorService.shutdownNow();
+        log.info("Step Functions polling scheduler stopped - activeSessions: {}", activeSessions.size());
     }
 
     /**
-     * ExecutionHistory를 폴링하여 상태 변화 감지
+     * EventBridge 푸시 수신 시 해당 세션의 폴링 틱을 즉시 실행
      *
-     * @param deploymentId 배포 ID
-     * @param owner GitHub owner
-     * @param repo GitHub repo
-     * @param awsConnection 사용자 AWS 연결 정보
+     * @param executionArn 푸시된 Step Functions Execution ARN
+     * @param status 실행 상태 (RUNNING, SUCCEEDED, FAILED ...)
+     * @return 진행 중인 세션과 매칭되었으면 true
      */
-    private void pollExecutionHistory(String deploymentId, String owner, String repo, AwsConnection awsConnection) {
-        long pollingStartTime = System.currentTimeMillis();
-        long lastMonitoringTime = System.currentTimeMillis();
-        String executionArn = null;
-        String previousStage = null;
-        long lastProcessedEventId = 0L;  // ✅ 마지막 처리한 이벤트 ID 추적
-        int pollCount = 0;
-        int eventCount = 0;
-        String secretName = "panda/stepfunctions/" + owner.toLowerCase() + "-" + repo.toLowerCase() + "-latest-execution";
-        String branch = "main";  // Default branch
+    public boolean onExecutionPush(String executionArn, String status) {
+        PollingSession session = sessionsByExecutionArn.get(executionArn);
+        if (session == null) {
+            return false;
+        }
 
-        // ✅ CheckDeployment 자동 완료용 타이머
-        long checkDeploymentDetectedTime = -1;  // CheckDeployment 감지 시간
-        final long AUTO_WAIT_DURATION_MS = 2 * 60 * 1000 + 30 * 1000;  // 2분 30초
+        session.lastPushTime = System.currentTimeMillis();
+        log.info("⚡ [SFN-Push] Triggering immediate poll - deploymentId: {}, status: {}", session.deploymentId, status);
+        triggerImmediateTick(session);
+        return true;
+    }
 
-        // CloudWatch 모니터링용 컨텍스트
-        Map<String, Object> monitoringContext = new HashMap<>();
+    private void triggerImmediateTick(PollingSession session) {
+        session.pushPending.set(true);
+        synchronized (session.scheduleLock) {
+            // 대기 중인 틱을 취소할 수 있으면 즉시 실행으로 교체
+            // (이미 실행 중이면 해당 틱이 끝날 때 pushPending을 보고 바로 다시 실행)
+            if (session.nextTick != null && session.nextTick.cancel(false)) {
+                scheduleNextPoll(session, 0);
+            }
+        }
+    }
 
-        try {
-            // Step 1: Secrets Manager에서 ExecutionArn 조회
-            log.info("⏳ [POLLING-START] deploymentId: {}, owner: {}, repo: {} - Waiting {}ms for ExecutionArn to be saved in Secrets Manager...",
-                deploymentId, owner, repo, waitForExecutionArnMs);
-            log.info("   Expected Secret Name: {}", secretName);
-            Thread.sleep(waitForExecutionArnMs);
-
-            log.info("🔍 [SECRETS-MANAGER-LOOKUP] deploymentId: {} - Attempting to retrieve ExecutionArn...", deploymentId);
-            executionArn = executionArnStore.get(owner, repo);
-
-            if (executionArn == null) {
-                String errorMsg = "ExecutionArn not found in Secrets Manager after waiting";
-                log.error("❌ [POLLING-FAILED] deploymentId: {}, owner: {}, repo: {} - {} (Secret may not have been created)",
-                    deploymentId, owner, repo, errorMsg);
-                log.error("   This means:");
-                log.error("   1. EventBridge 규칙이 트리거되지 않음");
-                log.error("   2. Step Functions이 실행되지 않음");
-                log.error("   3. Lambda 함수가 ExecutionArn을 저장하지 않음");
-                log.error("   ➜ AWS Console에서 다음을 확인하세요:");
-                log.error("     - EventBridge 규칙: softbank-ecr-trigger-{}-{}", owner, repo);
-                log.error("     - Secrets Manager Secret: {}", secretName);
-                log.error("     - Step Functions: 실행 이력");
-                log.error("     - Lambda: lambda_0_register_to_eventbus 로그");
-
-                // 상세정보와 함께 에러 발행
-                Map<String, Object> errorDetails = Map.of(
-                    "errorCode", "EXECUTION_ARN_NOT_FOUND",
-                    "errorMessage", errorMsg,
-                    "deploymentId", deploymentId,
-                    "owner", owner,
-                    "repo", repo,
-                    "secretName", secretName,
-                    "suggestion", "EventBridge 규칙, Step Functions 실행, Lambda 로그를 확인하세요",
-                    "timestamp", java.time.LocalDateTime.now().toString()
-                );
-                eventPublisher.publishErrorEvent(deploymentId, errorMsg, errorDetails);
+    private void scheduleNextPoll(PollingSession session, long delayMs) {
+        synchronized (session.scheduleLock) {
+            try {
+                session.nextTick = pollingScheduler.schedule(() -> runPollTick(session), delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                log.warn("Polling scheduler rejected task (shutting down?) - deploymentId: {}", session.deploymentId);
+                activeSessions.remove(session.deploymentId, session);
+            }
+        }
+    }
+
+    /**
+     * 다음 틱까지의 대기 시간
+     * 푸시가 최근에 도착하고 있으면 fallback 간격으로 느리게, 끊겼으면 일반 적응형 폴링
+     */
+    private long nextPollDelay(PollingSession session) {
+        if (session.pushPending.get()) {
+            return 0;
+        }
+        boolean pushHealthy = pushEnabled && session.lastPushTime > 0
+            && System.currentTimeMillis() - session.lastPushTime < pushStaleAfterMs;
+        if (pushHealthy) {
+            return Math.max(session.currentIntervalMs, pushFallbackPollingIntervalMs);
+        }
+        return session.currentIntervalMs;
+    }
+
+    /**
+     * 스케줄러 틱: 한 번 폴링하고 종료 여부에 따라 다음 틱 예약 또는 세션 정리
+     */
+    private void runPollTick(PollingSession session) {
+        // 같은 deploymentId로 새 세션이 시작되었으면 이 세션은 중단
+        if (activeSessions.get(session.deploymentId) != session) {
+            log.debug("Polling session superseded, stopping - deploymentId: {}", session.deploymentId);
+            return;
+        }
+
+        // 실행 중인 틱은 취소 대상이 아님 (즉시 실행 요청은 pushPending으로 틱 종료 후 처리)
+        synchronized (session.scheduleLock) {
+            session.nextTick = null;
+        }
+        session.pushPending.set(false);
+
+        // ExecutionArn을 아직 못 찾았으면 조회 (못 찾으면 재시도 예약 또는 종료는 resolveExecutionArn이 처리)
+        if (session.executionArn == null) {
+            boolean resolved;
+            try {
+                resolved = resolveExecutionArn(session);
+            } catch (Exception e) {
+                completeTick(session, handleCriticalPollingError(session, e));
+                return;
+            }
+            if (!resolved) {
                 return;
             }
+        }
 
-            log.info("✅ [EXECUTION-ARN-FOUND] deploymentId: {}, owner: {}, repo: {} - ExecutionArn: {}",
-                deploymentId, owner, repo, executionArn);
-            log.info("🚀 [POLLING-STARTED] deploymentId: {} - Starting Step Functions history polling...", deploymentId);
+        // 재개된 세션은 체크포인트의 마지막 이벤트 이후부터 조회
+        if (session.historyCursor == null) {
+            session.historyCursor = new ExecutionHistoryCursor(sfnClient, sfnAsyncClient,
+                session.executionArn, historyPageSize, session.resumeFromEventId);
+        }
 
-            // Step 2: ExecutionHistory 폴링 (최대 30분)
-            long lastNewEventTime = System.currentTimeMillis();  // ✅ 마지막 새 이벤트 도착 시간
-            while (System.currentTimeMillis() - pollingStartTime < maxPollingDurationMs) {
-                pollCount++;
-                long pollStartTime = System.currentTimeMillis();
+        // 비동기 모드: ExecutionHistory 조회 중에는 스케줄러 스레드를 점유하지 않음
+        if (sfnAsyncClient != null) {
+            runPollTickAsync(session);
+            return;
+        }
+
+        boolean finished;
+        try {
+            finished = pollOnce(session);
+        } catch (Exception e) {
+            finished = handleCriticalPollingError(session, e);
+        }
+        completeTick(session, finished);
+    }
+
+    /**
+     * 비동기 틱: 사전 점검 후 ExecutionHistory를 비동기로 조회하고,
+     * 응답이 오면 폴링 스케줄러에서 이어서 분석
+     */
+    private void runPollTickAsync(PollingSession session) {
+        boolean finished;
+        try {
+            finished = checkBeforePoll(session);
+        } catch (Exception e) {
+            finished = handleCriticalPollingError(session, e);
+        }
+        if (finished) {
+            finishSession(session);
+            return;
+        }
+
+        session.pollCount++;
+        long pollStartTime = System.currentTimeMillis();
 
+        session.historyCursor.fetchNewEventsAsync()
+            .thenComposeAsync(batch -> prefetchServiceUrls(session, batch.getEvents())
+                .thenApply(ignored -> batch), pollingScheduler)
+            .whenCompleteAsync((batch, error) -> {
+                boolean done;
                 try {
-                    // GetExecutionHistory API 호출 (includeExecutionData=true로 Task output 포함)
-                    GetExecutionHistoryResponse history = sfnClient.getExecutionHistory(
-                        GetExecutionHistoryRequest.builder()
-                            .executionArn(executionArn)
-                            .includeExecutionData(true)  // ✅ Task output 데이터 포함
-                            .build()
-                    );
-
-                    // ✅ 현재 stage 분석 (마지막 처리한 이벤트 ID 이후의 이벤트만 처리)
-                    PollingResult pollingResult = analyzeExecutionHistoryWithContext(
-                        deploymentId,
-                        history.events(),
-                        monitoringContext,
-                        awsConnection,
-                        lastProcessedEventId
-                    );
-
-                    String currentStage = pollingResult.currentStage;
-                    long previousLastEventId = lastProcessedEventId;
-                    lastProcessedEventId = pollingResult.lastEventId;  // ✅ 마지막 이벤트 ID 업데이트
-
-                    // ✅ 새 이벤트가 도착했으면 타이머 리셋
-                    if (lastProcessedEventId > previousLastEventId) {
-                        lastNewEventTime = System.currentTimeMillis();
-                        log.debug("New events received - lastEventId: {} (was: {})", lastProcessedEventId, previousLastEventId);
+                    if (error != null) {
+                        handlePollError(session, error);
+                        done = false;
+                    } else {
+                        done = processNewEvents(session, batch, pollStartTime);
                     }
+                } catch (Exception e) {
+                    done = handleCriticalPollingError(session, e);
+                }
+                completeTick(session, done);
+            }, pollingScheduler);
+    }
 
-                    // 현재 실행 상태 상세 로깅
-                    long apiCallElapsedMs = System.currentTimeMillis() - pollStartTime;
-                    int totalEventCount = history.events() != null ? history.events().size() : 0;
-                    long lastEventTimestamp = 0;
-                    String lastEventType = "";
-                    if (history.events() != null && !history.events().isEmpty()) {
-                        Object lastEvent = history.events().get(0); // 가장 최신 이벤트
-                        if (lastEvent instanceof HistoryEvent) {
-                            HistoryEvent he = (HistoryEvent) lastEvent;
-                            lastEventTimestamp = he.timestamp() != null ? he.timestamp().getEpochSecond() : 0;
-                            lastEventType = he.typeAsString() != null ? he.typeAsString() : "";
-                        }
-                    }
+    /**
+     * 비동기 모드: 새 이벤트 중 RegisterTaskAndDeploy 완료 이벤트가 있으면 Blue/Green URL을 미리 비동기로 해석
+     * → 분석(extractBlueGreenDetails)이 스케줄러 스레드에서 AWS 응답을 기다리지 않음
+     *
+     * @return URL 해석이 끝나면 newEvents 그대로 완료 (해석 실패 시에도 정상 완료)
+     */
+    private CompletableFuture<List<HistoryEvent>> prefetchServiceUrls(PollingSession session, List<HistoryEvent> newEvents) {
+        if (session.awsConnection == null) {
+            return CompletableFuture.completedFuture(newEvents);
+        }
 
-                    // Step Functions 실행 상태 정보 출력 (30초마다 또는 상태 변화 시)
-                    if (pollCount % 15 == 1 || pollCount == 1) {  // 2초 간격이므로 약 30초마다
-                        long totalElapsedSeconds = (System.currentTimeMillis() - pollingStartTime) / 1000;
-                        long lastEventAgoSeconds = (System.currentTimeMillis() / 1000) - lastEventTimestamp;
-                        log.info("📊 [Polling-Status] Poll #{}, deploymentId: {}, currentStage: {}, " +
-                                "lastEventId: {} (type: {}), totalEvents: {}, totalElapsed: {}s, lastEventAgo: {}s",
-                            pollCount, deploymentId, currentStage, lastProcessedEventId, lastEventType,
-                            totalEventCount, totalElapsedSeconds, lastEventAgoSeconds);
-                    }
+        List<CompletableFuture<Void>> lookups = new ArrayList<>();
+        for (HistoryEvent event : newEvents) {
+            var exitedDetails = event.stateExitedEventDetails();
+            if (!"TaskStateExited".equals(event.typeAsString()) || exitedDetails == null
+                    || !"RegisterTaskAndDeploy".equals(exitedDetails.name())
+                    || exitedDetails.output() == null || exitedDetails.output().isEmpty()) {
+                continue;
+            }
 
-                    log.debug("Poll #{} - deploymentId: {}, stage: {}, lastEventId: {}, totalEvents: {}, lastEventType: {}, apiCallElapsed: {}ms",
-                        pollCount, deploymentId, currentStage, lastProcessedEventId, totalEventCount, lastEventType, apiCallElapsedMs);
+            TaskStateOutput output = taskOutputParser.parseTaskState(session.deploymentId, event.id(), exitedDetails.output());
+            if (output == null || output.getClusterName() == null) {
+                continue;
+            }
+            Map<String, String> unresolvedArns = unresolvedServiceArns(output);
+            if (unresolvedArns.isEmpty()) {
+                continue;
+            }
 
-                    // 상태 변화 감지 및 모니터링 정보 저장
-                    if (!Objects.equals(currentStage, previousStage)) {
-                        log.info("Stage changed: {} → {}", previousStage, currentStage);
-                        eventPublisher.publishStepFunctionsProgress(deploymentId, currentStage);
-                        previousStage = currentStage;
-                        eventCount++;
-                    }
+            log.info("Resolving service URLs asynchronously from ARNs: {}", unresolvedArns);
+            lookups.add(ecsServiceUrlResolverService
+                .resolveServiceUrlsAsync(unresolvedArns, output.getClusterName(), session.awsConnection)
+                .thenAcceptAsync(urls -> session.prefetchedServiceUrls.put(event.id(), urls), pollingScheduler));
+        }
 
-                    // ✅ CheckDeployment 감지 후 타이머 시작
-                    if ("DEPLOYMENT_READY".equals(currentStage) && checkDeploymentDetectedTime == -1) {
-                        checkDeploymentDetectedTime = System.currentTimeMillis();
-                        log.info("🔄 [AutoDeploy-2m30s] CheckDeployment 감지! 2분 30초 자동 대기 시작 - deploymentId: {}", deploymentId);
-                    }
+        if (lookups.isEmpty()) {
+            return CompletableFuture.completedFuture(newEvents);
+        }
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> newEvents);
+    }
 
-                    // ✅ CheckDeployment 감지 후 2분 30초 경과 확인
-                    if ("DEPLOYMENT_READY".equals(currentStage) && checkDeploymentDetectedTime != -1) {
-                        long elapsedMs = System.currentTimeMillis() - checkDeploymentDetectedTime;
-                        long remainingMs = AUTO_WAIT_DURATION_MS - elapsedMs;
+    private void completeTick(PollingSession session, boolean finished) {
+        if (finished) {
+            finishSession(session);
+        } else {
+            scheduleNextPoll(session, nextPollDelay(session));
+        }
+    }
 
-                        log.info("⏳ [AutoDeploy-2m30s-Countdown] CheckDeployment 감지 후 경과: {}ms/{}, 남은 시간: {}초",
-                            elapsedMs, AUTO_WAIT_DURATION_MS, remainingMs / 1000);
+    /**
+     * 복구할 수 없는 폴링 오류 → 에러 이벤트 발행 후 폴링 종료
+     *
+     * @return 항상 true (폴링 종료)
+     */
+    private boolean handleCriticalPollingError(PollingSession session, Throwable e) {
+        log.error("Critical error in polling for deploymentId: {}", session.deploymentId, e);
+        String errorMsg = "Step Functions 모니터링 중 오류 발생: " + e.getMessage();
+
+        // 상세정보와 함께 에러 발행
+        Map<String, Object> errorDetails = Map.of(
+            "errorCode", "POLLING_ERROR",
+            "errorMessage", errorMsg,
+            "exceptionType", e.getClass().getSimpleName(),
+            "exceptionMessage", e.getMessage() != null ? e.getMessage() : "Unknown error",
+            "deploymentId", session.deploymentId,
+            "timestamp", java.time.LocalDateTime.now().toString()
+        );
+        eventDispatcher.dispatch(session.deploymentId,
+            () -> eventPublisher.publishErrorEvent(session.deploymentId, errorMsg, errorDetails));
+        return true;
+    }
 
-                        // 2분 30초가 지났으면 자동 완료
-                        if (elapsedMs >= AUTO_WAIT_DURATION_MS) {
-                            log.info("✅ [AutoDeploy-2m30s-Complete] 2분 30초 경과! 자동으로 DEPLOYMENT_READY 상태로 저장 - deploymentId: {}", deploymentId);
+    /**
+     * 일시적인 폴링 오류 (API 호출 실패, 쓰로틀링 등) → 다음 틱에서 재시도
+     */
+    private void handlePollError(PollingSession session, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        log.error("Error during polling (poll #{}), retrying...", session.pollCount, cause);
+        // 에러 발생 시에도 다음 틱에서 계속 폴링 시도 (쓰로틀링 대비 간격은 늘림)
+        adjustPollingInterval(session, false);
+    }
 
-                            // ✅ 1. Success 이벤트 먼저 발행
-                            deploymentEventStore.sendConnectedEvent(deploymentId);
+    /**
+     * 폴링 종료 후 정리
+     */
+    private void finishSession(PollingSession session) {
+        // 새 세션으로 교체된 경우에는 그 세션의 체크포인트/파싱 캐시를 지우지 않음
+        if (activeSessions.remove(session.deploymentId, session)) {
+            journal.appendPollingFinished(session.deploymentId);
+            taskOutputParser.release(session.deploymentId);
+        }
+        if (session.executionArn != null) {
+            sessionsByExecutionArn.remove(session.executionArn, session);
+        }
+        log.info("Polling finished - deploymentId: {}, totalPolls: {}, activeSessions: {}",
+            session.deploymentId, session.pollCount, activeSessions.size());
 
-                            // ✅ 2. Success 이벤트 발행
-                            DeploymentEvent successEvent = new DeploymentEvent();
-                            successEvent.setType("success");
-                            successEvent.setMessage("Deployment completed successfully");
-                            deploymentEventStore.broadcastEvent(deploymentId, successEvent);
+        // 배포 완료 후 Secrets Manager에서 정리
+        if (session.executionArn != null) {
+            try {
+                executionArnStore.remove(session.owner, session.repo);
+            } catch (Exception e) {
+                log.warn("Failed to clean up ExecutionArn for deploymentId: {}, owner: {}, repo: {}",
+                    session.deploymentId, session.owner, session.repo, e);
+            }
+        }
+    }
 
-                            // ✅ 3. 배포 준비 완료 상태로 저장 (수동 전환 대기)
-                            saveDeploymentReadyResult(deploymentId, owner, repo, branch,
-                                monitoringContext, pollingStartTime, eventCount, awsConnection);
+    /**
+     * ExecutionArn 조회 (로컬 등록 → Secrets Manager → ListExecutions 순)
+     *
+     * 아직 없으면 백오프 후 재조회를 예약하고, waitForExecutionArnMs가 지나면 에러 발행 후 세션 종료
+     *
+     * @return 찾았으면 true (같은 틱에서 바로 히스토리 폴링 진행), 아니면 false
+     */
+    private boolean resolveExecutionArn(PollingSession session) {
+        String deploymentId = session.deploymentId;
+        String owner = session.owner;
+        String repo = session.repo;
+
+        session.arnLookupAttempts++;
+        log.info("🔍 [EXECUTION-ARN-LOOKUP] deploymentId: {} - Attempt #{} to retrieve ExecutionArn...",
+            deploymentId, session.arnLookupAttempts);
+        String executionArn = lookupExecutionArn(session);
+
+        if (executionArn == null) {
+            long elapsedMs = System.currentTimeMillis() - session.pollingStartTime;
+            if (elapsedMs < waitForExecutionArnMs) {
+                long delayMs = session.pushPending.get()
+                    ? 0 : Math.min(session.arnRetryDelayMs, waitForExecutionArnMs - elapsedMs);
+                session.arnRetryDelayMs = Math.min(session.arnRetryDelayMs * 2, executionArnRetryMaxDelayMs);
+                log.debug("ExecutionArn not available yet - deploymentId: {}, retrying in {}ms", deploymentId, delayMs);
+                scheduleNextPoll(session, delayMs);
+                return false;
+            }
 
-                            // ✅ 4. DEPLOYMENT_READY 상태 전송 (connected 이벤트 포함)
-                            deploymentEventStore.sendDeploymentReadyEvent(deploymentId,
-                                Map.of("blueUrl", monitoringContext.getOrDefault("blueUrl", ""),
-                                    "greenUrl", monitoringContext.getOrDefault("greenUrl", "")));
-                            break;  // ✅ 폴링 종료
-                        }
-                    }
+            String errorMsg = "ExecutionArn not found in Secrets Manager after waiting";
+            log.error("❌ [POLLING-FAILED] deploymentId: {}, owner: {}, repo: {} - {} (Secret may not have been created)",
+                deploymentId, owner, repo, errorMsg);
+            log.error("   This means:");
+            log.error("   1. EventBridge 규칙이 트리거되지 않음");
+            log.error("   2. Step Functions이 실행되지 않음");
+            log.error("   3. Lambda 함수가 ExecutionArn을 저장하지 않음");
+            log.error("   ➜ AWS Console에서 다음을 확인하세요:");
+            log.error("     - EventBridge 규칙: softbank-ecr-trigger-{}-{}", owner, repo);
+            log.error("     - Secrets Manager Secret: {}", session.secretName);
+            log.error("     - Step Functions: 실행 이력");
+            log.error("     - Lambda: lambda_0_register_to_eventbus 로그");
 
-                    // Stage 4 완료 시 배포 완료 (RegisterTaskAndDeploy 만 완료)
-                    if ("REGISTER_TASK_COMPLETED".equals(currentStage)) {
-                        log.debug("RegisterTaskAndDeploy completed, waiting for CheckDeployment...");
-                        // 계속 폴링 진행 (CheckDeployment 응답을 기다림)
-                    }
+            // 상세정보와 함께 에러 발행
+            Map<String, Object> errorDetails = Map.of(
+                "errorCode", "EXECUTION_ARN_NOT_FOUND",
+                "errorMessage", errorMsg,
+                "deploymentId", deploymentId,
+                "owner", owner,
+                "repo", repo,
+                "secretName", session.secretName,
+                "suggestion", "EventBridge 규칙, Step Functions 실행, Lambda 로그를 확인하세요",
+                "timestamp", java.time.LocalDateTime.now().toString()
+            );
+            eventDispatcher.dispatch(deploymentId,
+                () -> eventPublisher.publishErrorEvent(deploymentId, errorMsg, errorDetails));
+            finishSession(session);
+            return false;
+        }
 
-                    // 완료/실패 시 폴링 종료
-                    if ("SUCCEEDED".equals(currentStage) || "FAILED".equals(currentStage)) {
-                        log.info("Polling completed for deploymentId: {}, final stage: {}", deploymentId, currentStage);
+        log.info("✅ [EXECUTION-ARN-FOUND] deploymentId: {}, owner: {}, repo: {} - ExecutionArn: {} ({}ms, {} attempt(s))",
+            deploymentId, owner, repo, executionArn,
+            System.currentTimeMillis() - session.pollingStartTime, session.arnLookupAttempts);
+        log.info("🚀 [POLLING-STARTED] deploymentId: {} - Starting Step Functions history polling...", deploymentId);
+
+        session.executionArn = executionArn;
+        // ✅ 커서로 마지막 처리 이후의 새 이벤트만 조회
+        session.historyCursor = new ExecutionHistoryCursor(sfnClient, sfnAsyncClient, executionArn, historyPageSize, 0L);
+        session.lastNewEventTime = System.currentTimeMillis();
+        session.currentIntervalMs = pollingIntervalMs;
+        sessionsByExecutionArn.put(executionArn, session);
+        checkpoint(session);
+        return true;
+    }
 
-                        // 최종 결과 저장
-                        saveFinalDeploymentResult(deploymentId, owner, repo, branch, currentStage,
-                            monitoringContext, pollingStartTime, eventCount);
-                        break;
-                    }
+    /**
+     * ExecutionArn 조회 한 번 (일시적인 조회 실패는 "아직 없음"으로 보고 다음 재시도에 맡김)
+     *
+     * @return ExecutionArn (없으면 null)
+     */
+    private String lookupExecutionArn(PollingSession session) {
+        try {
+            // 로컬 등록 또는 Secrets Manager (이전 배포의 ARN이 남아 있을 수 있으므로 시작 시각 확인)
+            String executionArn = executionArnStore.get(session.owner, session.repo);
+            if (executionArn != null && !isClaimedByOtherSession(session, executionArn)) {
+                DescribeExecutionResponse execution = describeExecution(executionArn);
+                if (startedAfterSession(session, execution.startDate())) {
+                    return executionArn;
+                }
+                log.debug("Ignoring stale ExecutionArn (started {}) - deploymentId: {}",
+                    execution.startDate(), session.deploymentId);
+            }
+        } catch (Exception e) {
+            log.warn("ExecutionArn lookup in Secrets Manager failed - deploymentId: {}: {}",
+                session.deploymentId, e.getMessage());
+        }
 
-                    // ✅ Stale Event 체크: 새 이벤트가 도착하지 않은 지 너무 오래된 경우 → DEPLOYMENT_READY로 변경
-                    long timeSinceLastNewEvent = System.currentTimeMillis() - lastNewEventTime;
-                    if (timeSinceLastNewEvent > staleEventTimeoutMs && lastProcessedEventId > 0) {
-                        log.warn("⏳ [StaleEvent-Detected] Step Functions execution appears to be stuck - no new events for {}ms, lastEventId: {}, deploymentId: {}",
-                            timeSinceLastNewEvent, lastProcessedEventId, deploymentId);
-                        log.info("✅ [StaleEvent-AutoReady] Stale Event 감지! DEPLOYMENT_READY 상태로 자동 변경하여 /api/v1/deploy/{}/switch 호출 준비 - deploymentId: {}",
-                            deploymentId, deploymentId);
-
-                        // ✅ 1. Connected 이벤트 먼저 발행
-                        deploymentEventStore.sendConnectedEvent(deploymentId);
-
-                        // ✅ 2. Success 이벤트 발행
-                        DeploymentEvent successEvent = new DeploymentEvent();
-                        successEvent.setType("success");
-                        successEvent.setMessage("Deployment completed successfully");
-                        deploymentEventStore.broadcastEvent(deploymentId, successEvent);
-
-                        // ✅ 3. Stale Event 감지 시 DEPLOYMENT_READY 상태로 저장 (수동 전환 준비)
-                        saveDeploymentReadyResult(deploymentId, owner, repo, branch,
-                            monitoringContext, pollingStartTime, eventCount, awsConnection);
-
-                        // ✅ 4. DEPLOYMENT_READY 상태 전송 (connected 이벤트 포함)
-                        deploymentEventStore.sendDeploymentReadyEvent(deploymentId,
-                            Map.of("blueUrl", monitoringContext.getOrDefault("blueUrl", ""),
-                                "greenUrl", monitoringContext.getOrDefault("greenUrl", "")));
-                        break;
-                    }
+        if (stateMachineArn == null || stateMachineArn.isEmpty()) {
+            return null;
+        }
+        try {
+            return findExecutionByStateMachine(session);
+        } catch (Exception e) {
+            log.warn("ListExecutions lookup failed - deploymentId: {}: {}", session.deploymentId, e.getMessage());
+            return null;
+        }
+    }
 
-                    // 타임아웃 체크: 최대 폴링 시간 초과
-                    long elapsedMs = System.currentTimeMillis() - pollingStartTime;
-                    if (elapsedMs > maxPollingDurationMs) {
-                        log.error("Step Functions polling exceeded maximum duration for deploymentId: {}", deploymentId);
-                        String errorMsg = String.format("Step Functions polling timeout: exceeded %d minutes",
-                            maxPollingDurationMs / (60 * 1000));
-
-                        // 상세정보와 함께 에러 발행
-                        Map<String, Object> errorDetails = Map.of(
-                            "errorCode", "POLLING_TIMEOUT",
-                            "errorMessage", errorMsg,
-                            "deploymentId", deploymentId,
-                            "elapsedMs", elapsedMs,
-                            "maxDurationMs", maxPollingDurationMs,
-                            "pollCount", pollCount,
-                            "suggestion", "배포가 너무 오래 진행 중입니다. AWS Step Functions를 확인하세요.",
-                            "timestamp", java.time.LocalDateTime.now().toString()
-                        );
-                        eventPublisher.publishErrorEvent(deploymentId, errorMsg, errorDetails);
-
-                        // 타임아웃 결과 저장
-                        saveTimeoutResult(deploymentId, owner, repo, branch, pollingStartTime, eventCount,
-                            "Step Functions 모니터링 타임아웃");
-                        break;
-                    }
+    /**
+     * ListExecutions로 이 세션 시작 이후 시작된 RUNNING 실행 탐색
+     *
+     * 상태 머신을 여러 저장소가 공유하므로, 실행 input(ECR 이벤트의 repository-name) 또는 실행 이름으로
+     * 이 세션의 저장소 실행인지 확인한 뒤, 다른 세션이 사용 중이지 않은 후보가 정확히 하나일 때만 채택
+     */
+    private String findExecutionByStateMachine(PollingSession session) {
+        ListExecutionsResponse response = sfnClient.listExecutions(
+            ListExecutionsRequest.builder()
+                .stateMachineArn(stateMachineArn)
+                .statusFilter(ExecutionStatus.RUNNING)
+                .maxResults(20)
+                .build()
+        );
+
+        List<String> candidates = new ArrayList<>();
+        for (ExecutionListItem execution : response.executions()) {
+            if (execution.startDate() == null || !startedAfterSession(session, execution.startDate())
+                || sessionsByExecutionArn.containsKey(execution.executionArn())) {
+                continue;
+            }
+            if (ownedBySession(session, describeExecution(execution.executionArn()))) {
+                candidates.add(execution.executionArn());
+            }
+        }
 
-                    // 폴링 간격 대기
-                    Thread.sleep(pollingIntervalMs);
+        if (candidates.size() == 1) {
+            log.info("ExecutionArn found via ListExecutions - deploymentId: {}", session.deploymentId);
+            return candidates.get(0);
+        }
+        if (candidates.size() > 1) {
+            log.debug("Ambiguous ListExecutions result ({} candidates) - deploymentId: {}",
+                candidates.size(), session.deploymentId);
+        }
+        return null;
+    }
 
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.warn("Polling interrupted for deploymentId: {}", deploymentId);
-                    break;
-                } catch (Exception e) {
-                    log.error("Error during polling (poll #{}), retrying...", pollCount, e);
-                    // 에러 발생 시에도 계속 폴링 시도
-                    Thread.sleep(pollingIntervalMs);
+    private DescribeExecutionResponse describeExecution(String executionArn) {
+        return sfnClient.describeExecution(DescribeExecutionRequest.builder()
+            .executionArn(executionArn)
+            .build());
+    }
+
+    // 세션 시작 직전에 시작된 실행도 포함하도록 약간의 여유를 둠 (그보다 이전 실행은 이전 배포의 것)
+    private static boolean startedAfterSession(PollingSession session, Instant startDate) {
+        return startDate != null && startDate.toEpochMilli() >= session.pollingStartTime - EXECUTION_START_SLACK_MS;
+    }
+
+    private boolean isClaimedByOtherSession(PollingSession session, String executionArn) {
+        PollingSession owner = sessionsByExecutionArn.get(executionArn);
+        return owner != null && owner != session;
+    }
+
+    /**
+     * 실행이 이 세션의 저장소(owner-repo ECR 저장소)에서 트리거되었는지 확인
+     *
+     * EventBridge가 넘기는 ECR 이벤트의 detail.repository-name을 우선 보고, input에 없으면 실행 이름으로 판단
+     */
+    private boolean ownedBySession(PollingSession session, DescribeExecutionResponse execution) {
+        String repositoryName = String.format("%s-%s", session.owner, session.repo).toLowerCase();
+        String input = execution.input();
+        if (input != null && !input.isBlank()) {
+            try {
+                JsonNode root = objectMapper.readTree(input);
+                List<String> names = new ArrayList<>(root.findValuesAsText("repository-name"));
+                names.addAll(root.findValuesAsText("repositoryName"));
+                if (!names.isEmpty()) {
+                    return names.stream().anyMatch(repositoryName::equalsIgnoreCase);
                 }
+            } catch (Exception e) {
+                log.debug("Execution input is not JSON - {}: {}", execution.executionArn(), e.getMessage());
             }
+        }
+        String name = execution.name();
+        return name != null && name.toLowerCase().contains(repositoryName);
+    }
+
+    /**
+     * 폴링 결과에 따라 다음 폴링 간격 조정
+     * - 새 이벤트 도착 또는 stage 전환: 즉시 기본 간격(pollingIntervalMs)으로 복귀
+     * - 조용한 구간 (CheckDeployment 대기 등): 배수만큼 늘려 maxPollingIntervalMs까지 감속
+     *
+     * @param session 폴링 세션
+     * @param active 이번 폴링에서 새 이벤트 또는 stage 전환이 있었는지
+     */
+    private void adjustPollingInterval(PollingSession session, boolean active) {
+        long previousIntervalMs = session.currentIntervalMs;
+        if (active) {
+            session.currentIntervalMs = pollingIntervalMs;
+        } else {
+            long backedOffMs = (long) (previousIntervalMs * pollingBackoffMultiplier);
+            session.currentIntervalMs = Math.max(pollingIntervalMs, Math.min(backedOffMs, maxPollingIntervalMs));
+        }
 
-            log.info("Polling finished - deploymentId: {}, totalPolls: {}", deploymentId, pollCount);
+        if (session.currentIntervalMs != previousIntervalMs) {
+            log.debug("Polling interval adjusted - deploymentId: {}, {}ms → {}ms",
+                session.deploymentId, previousIntervalMs, session.currentIntervalMs);
+        }
+    }
 
+    /**
+     * ExecutionHistory를 한 번 폴링하여 상태 변화 감지
+     *
+     * @param session 폴링 세션
+     * @return 폴링을 종료해야 하면 true
+     */
+    private boolean pollOnce(PollingSession session) {
+        if (checkBeforePoll(session)) {
+            return true;
+        }
+
+        session.pollCount++;
+        long pollStartTime = System.currentTimeMillis();
+
+        ExecutionHistoryCursor.HistoryBatch batch;
+        try {
+            // GetExecutionHistory API 호출 (새 이벤트만, Task output 포함)
+            batch = session.historyCursor.fetchNewEvents();
         } catch (Exception e) {
-            log.error("Critical error in polling for deploymentId: {}", deploymentId, e);
-            String errorMsg = "Step Functions 모니터링 중 오류 발생: " + e.getMessage();
+            handlePollError(session, e);
+            return false;
+        }
+
+        return processNewEvents(session, batch, pollStartTime);
+    }
+
+    /**
+     * 폴링 전 점검: 최대 폴링 시간 초과 확인 (ExecutionArn은 runPollTick에서 먼저 조회됨)
+     *
+     * @return 폴링을 종료해야 하면 true
+     */
+    private boolean checkBeforePoll(PollingSession session) {
+        String deploymentId = session.deploymentId;
+        String owner = session.owner;
+        String repo = session.repo;
+        String branch = session.branch;
+        long pollingStartTime = session.pollingStartTime;
+
+        // Step 2: ExecutionHistory 폴링 (최대 30분)
+        // 타임아웃 체크: 최대 폴링 시간 초과
+        long elapsedMs = System.currentTimeMillis() - pollingStartTime;
+        if (elapsedMs > maxPollingDurationMs) {
+            log.error("Step Functions polling exceeded maximum duration for deploymentId: {}", deploymentId);
+            String errorMsg = String.format("Step Functions polling timeout: exceeded %d minutes",
+                maxPollingDurationMs / (60 * 1000));
 
             // 상세정보와 함께 에러 발행
             Map<String, Object> errorDetails = Map.of(
-                "errorCode", "POLLING_ERROR",
+                "errorCode", "POLLING_TIMEOUT",
                 "errorMessage", errorMsg,
-                "exceptionType", e.getClass().getSimpleName(),
-                "exceptionMessage", e.getMessage() != null ? e.getMessage() : "Unknown error",
                 "deploymentId", deploymentId,
+                "elapsedMs", elapsedMs,
+                "maxDurationMs", maxPollingDurationMs,
+                "pollCount", session.pollCount,
+                "suggestion", "배포가 너무 오래 진행 중입니다. AWS Step Functions를 확인하세요.",
                 "timestamp", java.time.LocalDateTime.now().toString()
             );
-            eventPublisher.publishErrorEvent(deploymentId, errorMsg, errorDetails);
-        } finally {
-            // 배포 완료 후 Secrets Manager에서 정리
-            if (executionArn != null) {
-                try {
-                    executionArnStore.remove(owner, repo);
-                } catch (Exception e) {
-                    log.warn("Failed to clean up ExecutionArn for deploymentId: {}, owner: {}, repo: {}",
-                        deploymentId, owner, repo, e);
+            eventDispatcher.dispatch(deploymentId,
+                () -> eventPublisher.publishErrorEvent(deploymentId, errorMsg, errorDetails));
+
+            // 타임아웃 결과 저장
+            saveTimeoutResult(deploymentId, owner, repo, branch, pollingStartTime, session.eventCount,
+                "Step Functions 모니터링 타임아웃");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 새로 조회된 ExecutionHistory 이벤트로 상태 변화 감지 (동기/비동기 조회 공용)
+     *
+     * 분석을 마친 뒤에만 커서를 전진시킴 → 분석 중 실패하면 다음 폴링에서 같은 이벤트를 다시 분석
+     * (이미 발행한 이벤트는 lastProcessedEventId로 걸러져 중복 발행되지 않음)
+     *
+     * @param session 폴링 세션
+     * @param batch 새 이벤트 묶음 (ID 오름차순)
+     * @param pollStartTime 이번 폴링 시작 시각 (API 호출 시간 로깅용)
+     * @return 폴링을 종료해야 하면 true
+     */
+    private boolean processNewEvents(PollingSession session, ExecutionHistoryCursor.HistoryBatch batch, long pollStartTime) {
+        List<HistoryEvent> newEvents = batch.getEvents();
+        String deploymentId = session.deploymentId;
+        String owner = session.owner;
+        String repo = session.repo;
+        String branch = session.branch;
+        AwsConnection awsConnection = session.awsConnection;
+        Map<String, Object> monitoringContext = session.monitoringContext;
+        long pollingStartTime = session.pollingStartTime;
+        int pollCount = session.pollCount;
+        ExecutionHistoryCursor historyCursor = session.historyCursor;
+
+        try {
+            // ✅ 현재 stage 분석 (새로 도착한 이벤트만 처리)
+            PollingResult pollingResult = analyzeExecutionHistoryWithContext(
+                deploymentId,
+                newEvents,
+                monitoringContext,
+                awsConnection,
+                session.lastProcessedEventId,
+                session.prefetchedServiceUrls
+            );
+
+            String currentStage = pollingResult.currentStage;
+            long previousLastEventId = session.lastProcessedEventId;
+            session.lastProcessedEventId = pollingResult.lastEventId;  // ✅ 마지막 이벤트 ID 업데이트
+            long lastProcessedEventId = session.lastProcessedEventId;
+
+            // 분석이 끝난 이벤트까지만 커서 전진
+            historyCursor.commit(batch);
+
+            // ✅ 새 이벤트가 도착했으면 타이머 리셋
+            if (lastProcessedEventId > previousLastEventId) {
+                session.lastNewEventTime = System.currentTimeMillis();
+                log.debug("New events received - lastEventId: {} (was: {})", lastProcessedEventId, previousLastEventId);
+            }
+
+            // 현재 실행 상태 상세 로깅
+            long apiCallElapsedMs = System.currentTimeMillis() - pollStartTime;
+            long lastEventTimestamp = historyCursor.getLastEventTimestamp();
+            String lastEventType = historyCursor.getLastEventType();
+
+            // Step Functions 실행 상태 정보 출력 (30초마다 또는 상태 변화 시)
+            if (pollCount % 15 == 1 || pollCount == 1) {  // 2초 간격이므로 약 30초마다
+                long totalElapsedSeconds = (System.currentTimeMillis() - pollingStartTime) / 1000;
+                long lastEventAgoSeconds = (System.currentTimeMillis() / 1000) - lastEventTimestamp;
+                log.info("📊 [Polling-Status] Poll #{}, deploymentId: {}, currentStage: {}, " +
+                        "lastEventId: {} (type: {}), totalEvents: {}, totalElapsed: {}s, lastEventAgo: {}s",
+                    pollCount, deploymentId, currentStage, lastProcessedEventId, lastEventType,
+                    historyCursor.getLastSeenEventId(), totalElapsedSeconds, lastEventAgoSeconds);
+            }
+
+            log.debug("Poll #{} - deploymentId: {}, stage: {}, lastEventId: {}, newEvents: {}, lastEventType: {}, apiCallElapsed: {}ms",
+                pollCount, deploymentId, currentStage, lastProcessedEventId, newEvents.size(), lastEventType, apiCallElapsedMs);
+
+            // 상태 변화 감지 및 모니터링 정보 저장
+            boolean stageChanged = !Objects.equals(currentStage, session.previousStage);
+            if (stageChanged) {
+                log.info("Stage changed: {} → {}", session.previousStage, currentStage);
+                eventDispatcher.dispatch(deploymentId,
+                    () -> eventPublisher.publishStepFunctionsProgress(deploymentId, currentStage));
+                session.previousStage = currentStage;
+                session.eventCount++;
+            }
+
+            // ✅ 다음 폴링 간격 조정 (새 이벤트/stage 전환 시 빠르게, 조용하면 점점 느리게)
+            adjustPollingInterval(session, lastProcessedEventId > previousLastEventId || stageChanged);
+
+            // ✅ CheckDeployment 감지 후 타이머 시작
+            if ("DEPLOYMENT_READY".equals(currentStage) && session.checkDeploymentDetectedTime == -1) {
+                session.checkDeploymentDetectedTime = System.currentTimeMillis();
+                log.info("🔄 [AutoDeploy-2m30s] CheckDeployment 감지! 2분 30초 자동 대기 시작 - deploymentId: {}", deploymentId);
+            }
+
+            // ✅ CheckDeployment 감지 후 2분 30초 경과 확인
+            if ("DEPLOYMENT_READY".equals(currentStage) && session.checkDeploymentDetectedTime != -1) {
+                long readyElapsedMs = System.currentTimeMillis() - session.checkDeploymentDetectedTime;
+                long remainingMs = AUTO_WAIT_DURATION_MS - readyElapsedMs;
+
+                log.info("⏳ [AutoDeploy-2m30s-Countdown] CheckDeployment 감지 후 경과: {}ms/{}, 남은 시간: {}초",
+                    readyElapsedMs, AUTO_WAIT_DURATION_MS, remainingMs / 1000);
+
+                // 2분 30초가 지났으면 자동 완료
+                if (readyElapsedMs >= AUTO_WAIT_DURATION_MS) {
+                    log.info("✅ [AutoDeploy-2m30s-Complete] 2분 30초 경과! 자동으로 DEPLOYMENT_READY 상태로 저장 - deploymentId: {}", deploymentId);
+
+                    // ✅ 1. Success 이벤트 발행
+                    DeploymentEvent successEvent = new DeploymentEvent();
+                    successEvent.setType("success");
+                    successEvent.setMessage("Deployment completed successfully");
+                    eventDispatcher.dispatch(deploymentId,
+                        () -> deploymentEventStore.broadcastEvent(deploymentId, successEvent));
+
+                    // ✅ 2. 배포 준비 완료 상태로 저장 (수동 전환 대기)
+                    saveDeploymentReadyResult(deploymentId, owner, repo, branch,
+                        monitoringContext, pollingStartTime, session.eventCount, awsConnection);
+
+                    // ✅ 3. DEPLOYMENT_READY 상태 전송
+                    Map<String, Object> readyDetails = Map.of(
+                        "blueUrl", monitoringContext.getOrDefault("blueUrl", ""),
+                        "greenUrl", monitoringContext.getOrDefault("greenUrl", ""));
+                    eventDispatcher.dispatch(deploymentId,
+                        () -> deploymentEventStore.sendDeploymentReadyEvent(deploymentId, readyDetails));
+                    return true;  // ✅ 폴링 종료
                 }
             }
+
+            // Stage 4 완료 시 배포 완료 (RegisterTaskAndDeploy 만 완료)
+            if ("REGISTER_TASK_COMPLETED".equals(currentStage)) {
+                log.debug("RegisterTaskAndDeploy completed, waiting for CheckDeployment...");
+                // 계속 폴링 진행 (CheckDeployment 응답을 기다림)
+            }
+
+            // 완료/실패 시 폴링 종료
+            if ("SUCCEEDED".equals(currentStage) || "FAILED".equals(currentStage)) {
+                log.info("Polling completed for deploymentId: {}, final stage: {}", deploymentId, currentStage);
+
+                // 최종 결과 저장
+                saveFinalDeploymentResult(deploymentId, owner, repo, branch, currentStage,
+                    monitoringContext, pollingStartTime, session.eventCount);
+                return true;
+            }
+
+            // ✅ Stale Event 체크: 새 이벤트가 도착하지 않은 지 너무 오래된 경우 → DEPLOYMENT_READY로 변경
+            long timeSinceLastNewEvent = System.currentTimeMillis() - session.lastNewEventTime;
+            if (timeSinceLastNewEvent > staleEventTimeoutMs && lastProcessedEventId > 0) {
+                log.warn("⏳ [StaleEvent-Detected] Step Functions execution appears to be stuck - no new events for {}ms, lastEventId: {}, deploymentId: {}",
+                    timeSinceLastNewEvent, lastProcessedEventId, deploymentId);
+                log.info("✅ [StaleEvent-AutoReady] Stale Event 감지! DEPLOYMENT_READY 상태로 자동 변경하여 /api/v1/deploy/{}/switch 호출 준비 - deploymentId: {}",
+                    deploymentId, deploymentId);
+
+                // ✅ 1. Success 이벤트 발행
+                DeploymentEvent successEvent = new DeploymentEvent();
+                successEvent.setType("success");
+                successEvent.setMessage("Deployment completed successfully");
+                eventDispatcher.dispatch(deploymentId,
+                    () -> deploymentEventStore.broadcastEvent(deploymentId, successEvent));
+
+                // ✅ 2. Stale Event 감지 시 DEPLOYMENT_READY 상태로 저장 (수동 전환 준비)
+                saveDeploymentReadyResult(deploymentId, owner, repo, branch,
+                    monitoringContext, pollingStartTime, session.eventCount, awsConnection);
+
+                // ✅ 3. DEPLOYMENT_READY 상태 전송
+                Map<String, Object> readyDetails = Map.of(
+                    "blueUrl", monitoringContext.getOrDefault("blueUrl", ""),
+                    "greenUrl", monitoringContext.getOrDefault("greenUrl", ""));
+                eventDispatcher.dispatch(deploymentId,
+                    () -> deploymentEventStore.sendDeploymentReadyEvent(deploymentId, readyDetails));
+                return true;
+            }
+
+            // 진행이 있었으면 체크포인트 기록 (재시작 시 여기서부터 재개)
+            if (!newEvents.isEmpty() || stageChanged) {
+                checkpoint(session);
+            }
+
+        } catch (Exception e) {
+            handlePollError(session, e);
+        } finally {
+            session.prefetchedServiceUrls.clear();
         }
+
+        return false;
     }
 
     /**
@@ -424,8 +1155,9 @@ public class StepFunctionsPollingService {
                 // ExecutionFailed 체크
                 if (event.typeAsString() != null && event.typeAsString().equals("ExecutionFailed")) {
                     log.warn("Execution failed for deploymentId: {}", deploymentId);
-                    eventPublisher.publishErrorEvent(deploymentId, "Deployment failed.",
-                        Map.of("stage", 4, "stepFunctionsStage", "FAILED"));
+                    eventDispatcher.dispatch(deploymentId,
+                        () -> eventPublisher.publishErrorEvent(deploymentId, "Deployment failed.",
+                            Map.of("stage", 4, "stepFunctionsStage", "FAILED")));
                     return "FAILED";
                 }
 
@@ -504,7 +1236,9 @@ public class StepFunctionsPollingService {
         return null;
     }
 
-    private String analyzeTaskStateExited(String deploymentId, HistoryEvent event, AwsConnection awsConnection, Map<String, Object> monitoringContext) {
+    private String analyzeTaskStateExited(String deploymentId, HistoryEvent event, AwsConnection awsConnection,
+                                          Map<String, Object> monitoringContext,
+                                          Map<Long, Map<String, String>> prefetchedServiceUrls) {
         try {
             var stateExitedDetails = event.stateExitedEventDetails();
             if (stateExitedDetails == null) return null;
@@ -512,23 +1246,28 @@ public class StepFunctionsPollingService {
             String taskName = stateExitedDetails.name();
             if (taskName == null) return null;
 
+            // ✅ RunMetrics, CheckDeployment는 analyzeExecutionHistoryWithContext에서만 처리
+            // 여기서는 절대 처리하지 않음 (중복 파싱 방지)
+            if ("CheckDeployment".equals(taskName) || "RunMetrics".equals(taskName)) {
+                return null; // ← 여기서는 처리하지 않음
+            }
+
             String taskOutput = stateExitedDetails.output();
             if (taskOutput == null || taskOutput.isEmpty()) return null;
 
             log.info("📤 [TaskStateExited-Direct] Task: {}, Got output from AWS SDK directly: {}",
                 taskName, taskOutput.length() > 300 ? taskOutput.substring(0, 300) + "..." : taskOutput);
+            log.debug("📤 [TaskStateExited-FULL-JSON] Task: {}, fullOutput: {}", taskName, taskOutput);
 
-            // 🔥 정답: JSON 최상단 자체가 outputMap
-            Map<String, Object> outputMap = objectMapper.readValue(taskOutput, Map.class);
-
-            log.info("📤 [TaskStateExited-FULL-JSON] Task: {}, fullOutput: {}",
-                taskName, objectMapper.writeValueAsString(outputMap));
+            // 필요한 필드만 스트리밍으로 추출 (이벤트별로 한 번만 파싱)
+            TaskStateOutput output = taskOutputParser.parseTaskState(deploymentId, event.id(), taskOutput);
+            if (output == null) return null;
 
             // -------------------------
             // 1) EnsureInfra
             // -------------------------
             if ("EnsureInfra".equals(taskName)) {
-                Map<String, Object> details = extractEnsureInfraDetails(outputMap);
+                Map<String, Object> details = extractEnsureInfraDetails(output);
                 publishStageEvent(deploymentId, 3, "Infrastructure check and provisioning completed.", details);
                 return "ENSURE_INFRA_COMPLETED";
             }
@@ -538,30 +1277,18 @@ public class StepFunctionsPollingService {
             // -------------------------
             if ("RegisterTaskAndDeploy".equals(taskName)) {
 
-                Map<String, Object> details = extractBlueGreenDetails(deploymentId, outputMap, awsConnection);
+                Map<String, Object> details = extractBlueGreenDetails(deploymentId, output, awsConnection,
+                    prefetchedServiceUrls.get(event.id()));
 
-                // codeDeployDeploymentId boomer fix
-                try {
-                    Map<String, Object> deployResult = (Map<String, Object>) outputMap.get("deployResult");
-                    if (deployResult != null) {
-                        Map<String, Object> payload = (Map<String, Object>) deployResult.get("Payload");
-                        if (payload != null && payload.get("deploymentId") != null) {
-                            details.put("codeDeployDeploymentId", payload.get("deploymentId"));
-                            outputMap.put("codeDeployDeploymentId", payload.get("deploymentId"));
-                        }
-                    }
-                } catch (Exception ignored) {}
+                // CodeDeploy deploymentId (deployResult.Payload.deploymentId)
+                if (output.getDeployResultDeploymentId() != null) {
+                    details.put("codeDeployDeploymentId", output.getDeployResultDeploymentId());
+                }
 
                 publishStageEvent(deploymentId, 4, "Blue/Green deployment in progress...", details);
                 return "REGISTER_TASK_COMPLETED";
             }
 
-            // ✅ RunMetrics, CheckDeployment는 analyzeExecutionHistoryWithContext에서만 처리
-            // 여기서는 절대 처리하지 않음 (중복 파싱 방지)
-            if ("CheckDeployment".equals(taskName) || "RunMetrics".equals(taskName)) {
-                return null; // ← 여기서는 처리하지 않음
-            }
-
         } catch (Exception e) {
             log.debug("Failed to analyze TaskStateExited", e);
         }
@@ -573,104 +1300,68 @@ public class StepFunctionsPollingService {
      * CheckDeployment 파싱 - Lambda Invoke 결과 구조 (Payload 래핑)
      * outputMap.checkResult.Payload.checkResult.{deploymentId, blueTargetGroupArn, greenTargetGroupArn}
      */
-    private void parseCheckDeployment(Map<String, Object> outputMap, Map<String, Object> context) {
-
-        try {
-            // 1st layer: checkResult
-            Map<String, Object> checkResultWrapper = (Map<String, Object>) outputMap.get("checkResult");
-            if (checkResultWrapper == null) return;
-
-            // 2nd layer: Payload (Lambda Invoke wrapper)
-            Map<String, Object> payload = (Map<String, Object>) checkResultWrapper.get("Payload");
-            if (payload == null) return;
-
-            // 3rd layer: actual checkResult inside Payload
-            Map<String, Object> checkResult = (Map<String, Object>) payload.get("checkResult");
-            if (checkResult == null) return;
-
-            // CodeDeploy DeploymentId
-            if (checkResult.get("deploymentId") != null) {
-                context.put("codeDeployDeploymentId", checkResult.get("deploymentId"));
-                log.info("📌 [CheckDeployment-Parsed] deploymentId={}", checkResult.get("deploymentId"));
-            }
+    private void parseCheckDeployment(CheckDeploymentOutput output, Map<String, Object> context) {
 
-            // Blue TargetGroup
-            if (checkResult.get("blueTargetGroupArn") != null) {
-                context.put("blueTargetGroupArn", checkResult.get("blueTargetGroupArn"));
-                log.info("📌 [CheckDeployment-Parsed] blueTargetGroupArn={}", checkResult.get("blueTargetGroupArn"));
-            }
+        // CodeDeploy DeploymentId
+        if (output.getDeploymentId() != null) {
+            context.put("codeDeployDeploymentId", output.getDeploymentId());
+            log.info("📌 [CheckDeployment-Parsed] deploymentId={}", output.getDeploymentId());
+        }
 
-            // Green TargetGroup
-            if (checkResult.get("greenTargetGroupArn") != null) {
-                context.put("greenTargetGroupArn", checkResult.get("greenTargetGroupArn"));
-                log.info("📌 [CheckDeployment-Parsed] greenTargetGroupArn={}", checkResult.get("greenTargetGroupArn"));
-            }
+        // Blue TargetGroup
+        if (output.getBlueTargetGroupArn() != null) {
+            context.put("blueTargetGroupArn", output.getBlueTargetGroupArn());
+            log.info("📌 [CheckDeployment-Parsed] blueTargetGroupArn={}", output.getBlueTargetGroupArn());
+        }
 
-        } catch (Exception e) {
-            log.error("❌ Failed to parse CheckDeployment output", e);
+        // Green TargetGroup
+        if (output.getGreenTargetGroupArn() != null) {
+            context.put("greenTargetGroupArn", output.getGreenTargetGroupArn());
+            log.info("📌 [CheckDeployment-Parsed] greenTargetGroupArn={}", output.getGreenTargetGroupArn());
         }
     }
 
     /**
      * RunMetrics 파싱 - AWS Step Functions TaskSucceeded output 구조
-     * taskOutput이 이미 outputMap (ExecutedVersion, Payload, StatusCode...)
-     * taskOutput = raw JSON string from AWS SDK
+     * output 최상단 = Lambda Invoke 결과 (ExecutedVersion, Payload, StatusCode...)
+     * Payload(객체 또는 JSON 문자열) 안의 blue/green/comparison 값을 context에 저장
      */
-    private void parseRunMetrics(String taskOutput, Map<String, Object> context) {
-        try {
-            // 🔥 taskOutput 최상단 = outputMap (ExecutedVersion, Payload...)
-            Map<String, Object> outputMap = objectMapper.readValue(taskOutput, Map.class);
-
-            log.info("📤 [RunMetrics-OutputMap] {}", outputMap.keySet());
-
-            // 1️⃣ Payload 추출 (String 또는 Map 둘 다 처리)
-            Object payloadObj = outputMap.get("Payload");
-            if (payloadObj == null) {
-                log.warn("❌ [RunMetrics] Payload=null - RunMetrics 파싱 불가");
-                return;
-            }
-
-            Map<String, Object> payload;
-            if (payloadObj instanceof String) {
-                payload = objectMapper.readValue((String) payloadObj, Map.class);
-            } else {
-                payload = (Map<String, Object>) payloadObj;
-            }
-
-            log.info("📥 [RunMetrics-Payload] {}", objectMapper.writeValueAsString(payload));
-
-            // 2️⃣ blue/green
-            Map<String, Object> blue = (Map<String, Object>) payload.get("blue");
-            Map<String, Object> green = (Map<String, Object>) payload.get("green");
-
-            if (blue == null || green == null) {
-                log.warn("❌ [RunMetrics] blue/green 없음");
-                return;
-            }
-
-            // 3️⃣ 저장
-            context.put("blueLatencyMs", blue.get("latencyMs"));
-            context.put("greenLatencyMs", green.get("latencyMs"));
-            context.put("blueErrorRate", blue.get("errorRate"));
-            context.put("greenErrorRate", green.get("errorRate"));
-            context.put("blueUrl", blue.get("url"));
-            context.put("greenUrl", green.get("url"));
-            context.put("blueTargetGroupArn", blue.get("targetGroupArn"));
-            context.put("greenTargetGroupArn", green.get("targetGroupArn"));
+    private void parseRunMetrics(RunMetricsOutput output, Map<String, Object> context) {
+        if (output == null || !output.isPayloadPresent()) {
+            log.warn("❌ [RunMetrics] Payload=null - RunMetrics 파싱 불가");
+            return;
+        }
 
-            Map<String, Object> comparison = (Map<String, Object>) payload.get("comparison");
-            if (comparison != null) {
-                context.put("fasterService", comparison.get("fasterService"));
-                context.put("latencyImprovement", comparison.get("latencyImprovement"));
-            }
+        if (!output.isBluePresent() || !output.isGreenPresent()) {
+            log.warn("❌ [RunMetrics] blue/green 없음");
+            return;
+        }
 
-            log.info("✅ [RunMetrics-Final] blueLatency={}, greenLatency={}",
-                context.get("blueLatencyMs"),
-                context.get("greenLatencyMs")
-            );
+        log.info("📥 [RunMetrics-Payload] blue={{latencyMs={}, errorRate={}, url={}}}, green={{latencyMs={}, errorRate={}, url={}}}, fasterService={}",
+            output.getBlueLatencyMs(), output.getBlueErrorRate(), output.getBlueUrl(),
+            output.getGreenLatencyMs(), output.getGreenErrorRate(), output.getGreenUrl(), output.getFasterService());
+
+        // 저장 (값이 없는 항목은 넣지 않음)
+        putIfPresent(context, "blueLatencyMs", output.getBlueLatencyMs());
+        putIfPresent(context, "greenLatencyMs", output.getGreenLatencyMs());
+        putIfPresent(context, "blueErrorRate", output.getBlueErrorRate());
+        putIfPresent(context, "greenErrorRate", output.getGreenErrorRate());
+        putIfPresent(context, "blueUrl", output.getBlueUrl());
+        putIfPresent(context, "greenUrl", output.getGreenUrl());
+        putIfPresent(context, "blueTargetGroupArn", output.getBlueTargetGroupArn());
+        putIfPresent(context, "greenTargetGroupArn", output.getGreenTargetGroupArn());
+        putIfPresent(context, "fasterService", output.getFasterService());
+        putIfPresent(context, "latencyImprovement", output.getLatencyImprovement());
+
+        log.info("✅ [RunMetrics-Final] blueLatency={}, greenLatency={}",
+            context.get("blueLatencyMs"),
+            context.get("greenLatencyMs")
+        );
+    }
 
-        } catch (Exception e) {
-            log.error("❌ [RunMetrics-Parse-Error] {}", e.getMessage(), e);
+    private static void putIfPresent(Map<String, Object> target, String key, Object value) {
+        if (value != null) {
+            target.put(key, value);
         }
     }
 
@@ -745,7 +1436,7 @@ public class StepFunctionsPollingService {
     /**
      * EnsureInfra Task의 output에서 세부 정보 추출
      */
-    private Map<String, Object> extractEnsureInfraDetails(Map<String, Object> outputMap) {
+    private Map<String, Object> extractEnsureInfraDetails(TaskStateOutput output) {
         Map<String, Object> details = new HashMap<>();
 
         // output 예시:
@@ -756,15 +1447,9 @@ public class StepFunctionsPollingService {
         //   "taskDefinition": "panda-task:1"
         // }
 
-        if (outputMap.containsKey("clusterName")) {
-            details.put("clusterName", outputMap.get("clusterName"));
-        }
-        if (outputMap.containsKey("serviceName")) {
-            details.put("serviceName", outputMap.get("serviceName"));
-        }
-        if (outputMap.containsKey("taskDefinition")) {
-            details.put("taskDefinition", outputMap.get("taskDefinition"));
-        }
+        putIfPresent(details, "clusterName", output.getClusterName());
+        putIfPresent(details, "serviceName", output.getServiceName());
+        putIfPresent(details, "taskDefinition", output.getTaskDefinition());
 
         details.put("stage", 3);
         return details;
@@ -774,12 +1459,13 @@ public class StepFunctionsPollingService {
      * RegisterTaskAndDeploy Task의 output에서 Blue/Green 서비스 정보 추출
      *
      * @param deploymentId 배포 ID
-     * @param outputMap Step Functions Task output
+     * @param output Step Functions Task output
      * @param awsConnection AWS 연결 정보 (URL 해석용)
+     * @param prefetchedUrls 비동기 모드에서 미리 해석한 URL (없으면 null → 동기 조회)
      * @return 세부 정보 맵
      */
-    private Map<String, Object> extractBlueGreenDetails(String deploymentId, Map<String, Object> outputMap,
-        AwsConnection awsConnection) {
+    private Map<String, Object> extractBlueGreenDetails(String deploymentId, TaskStateOutput output,
+        AwsConnection awsConnection, Map<String, String> prefetchedUrls) {
         Map<String, Object> details = new HashMap<>();
 
         // output 예시:
@@ -797,78 +1483,47 @@ public class StepFunctionsPollingService {
         //   }
         // }
 
-        String clusterName = null;
-        String serviceName = null;
-        String blueServiceArn = null;
-        String greenServiceArn = null;
-        String blueUrl = null;
-        String greenUrl = null;
-
-        if (outputMap.containsKey("clusterName")) {
-            clusterName = (String) outputMap.get("clusterName");
-            details.put("clusterName", clusterName);
-        }
-        if (outputMap.containsKey("serviceName")) {
-            serviceName = (String) outputMap.get("serviceName");
-            details.put("serviceName", serviceName);
-        }
-
-        // Blue Service 처리
-        if (outputMap.containsKey("blueService")) {
-            Object blueObj = outputMap.get("blueService");
-            if (blueObj instanceof Map) {
-                Map<String, Object> blueService = (Map<String, Object>) blueObj;
-                if (blueService.containsKey("serviceArn")) {
-                    blueServiceArn = (String) blueService.get("serviceArn");
-                    details.put("blueServiceArn", blueServiceArn);
-                }
-                if (blueService.containsKey("url")) {
-                    blueUrl = (String) blueService.get("url");
-                    details.put("blueUrl", blueUrl);
-                }
-            }
-        }
-
-        // Green Service 처리
-        if (outputMap.containsKey("greenService")) {
-            Object greenObj = outputMap.get("greenService");
-            if (greenObj instanceof Map) {
-                Map<String, Object> greenService = (Map<String, Object>) greenObj;
-                if (greenService.containsKey("serviceArn")) {
-                    greenServiceArn = (String) greenService.get("serviceArn");
-                    details.put("greenServiceArn", greenServiceArn);
-                }
-                if (greenService.containsKey("url")) {
-                    greenUrl = (String) greenService.get("url");
-                    details.put("greenUrl", greenUrl);
+        String clusterName = output.getClusterName();
+        String blueServiceArn = output.getBlueServiceArn();
+        String greenServiceArn = output.getGreenServiceArn();
+        String blueUrl = output.getBlueUrl();
+        String greenUrl = output.getGreenUrl();
+
+        putIfPresent(details, "clusterName", clusterName);
+        putIfPresent(details, "serviceName", output.getServiceName());
+        putIfPresent(details, "blueServiceArn", blueServiceArn);
+        putIfPresent(details, "blueUrl", blueUrl);
+        putIfPresent(details, "greenServiceArn", greenServiceArn);
+        putIfPresent(details, "greenUrl", greenUrl);
+
+        // URL이 없으면 ECS Service 정보로부터 해석 (Blue/Green을 한 번에 일괄 조회)
+        if (clusterName != null && awsConnection != null) {
+            Map<String, String> unresolvedArns = unresolvedServiceArns(output);
+
+            if (!unresolvedArns.isEmpty()) {
+                Map<String, String> resolvedUrls;
+                if (prefetchedUrls != null) {
+                    resolvedUrls = prefetchedUrls;
+                } else {
+                    log.info("Resolving service URLs from ARNs: {}", unresolvedArns);
+                    resolvedUrls = ecsServiceUrlResolverService.resolveServiceUrls(unresolvedArns, clusterName, awsConnection);
                 }
-            }
-        }
 
-        // URL이 없으면 ECS Service 정보로부터 해석
-        if (blueUrl == null && blueServiceArn != null && clusterName != null && awsConnection != null) {
-            try {
-                log.info("Resolving Blue service URL from ARN: {}", blueServiceArn);
-                blueUrl = ecsServiceUrlResolverService.resolveServiceUrl(blueServiceArn, clusterName, awsConnection);
-                if (blueUrl != null) {
+                if (resolvedUrls.containsKey("blueUrl")) {
+                    blueUrl = resolvedUrls.get("blueUrl");
                     details.put("blueUrl", blueUrl);
                     log.info("Resolved Blue service URL: {}", blueUrl);
+                } else if (unresolvedArns.containsKey("blue")) {
+                    log.warn("Failed to resolve Blue service URL from ARN: {}", blueServiceArn);
                 }
-            } catch (Exception e) {
-                log.warn("Failed to resolve Blue service URL from ARN: {}", blueServiceArn, e);
-            }
-        }
 
-        if (greenUrl == null && greenServiceArn != null && clusterName != null && awsConnection != null) {
-            try {
-                log.info("Resolving Green service URL from ARN: {}", greenServiceArn);
-                greenUrl = ecsServiceUrlResolverService.resolveServiceUrl(greenServiceArn, clusterName, awsConnection);
-                if (greenUrl != null) {
+                if (resolvedUrls.containsKey("greenUrl")) {
+                    greenUrl = resolvedUrls.get("greenUrl");
                     details.put("greenUrl", greenUrl);
                     log.info("Resolved Green service URL: {}", greenUrl);
+                } else if (unresolvedArns.containsKey("green")) {
+                    log.warn("Failed to resolve Green service URL from ARN: {}", greenServiceArn);
                 }
-            } catch (Exception e) {
-                log.warn("Failed to resolve Green service URL from ARN: {}", greenServiceArn, e);
             }
         }
 
@@ -886,6 +1541,18 @@ public class StepFunctionsPollingService {
         return details;
     }
 
+    // URL이 output에 없어 ARN으로 해석해야 하는 서비스 (key: "blue"/"green")
+    private static Map<String, String> unresolvedServiceArns(TaskStateOutput output) {
+        Map<String, String> unresolvedArns = new HashMap<>();
+        if (output.getBlueUrl() == null && output.getBlueServiceArn() != null) {
+            unresolvedArns.put("blue", output.getBlueServiceArn());
+        }
+        if (output.getGreenUrl() == null && output.getGreenServiceArn() != null) {
+            unresolvedArns.put("green", output.getGreenServiceArn());
+        }
+        return unresolvedArns;
+    }
+
     /**
      * CheckDeployment Task의 output에서 HealthCheck 및 RunMetrics 정보 추출
      * Step Functions RunMetrics 응답 구조:
@@ -1054,23 +1721,16 @@ public class StepFunctionsPollingService {
     }
 
     /**
-     * SSE 이벤트 발행 헬퍼 메서드 (stage별 event 전송 전 0.5초 delay 적용)
+     * SSE 이벤트 발행 헬퍼 메서드 (stage 이벤트 간 0.5초 간격 유지)
+     * - 폴링 스레드를 재우지 않고 PacedEventDispatcher의 배포별 대기열에 넣은 뒤 바로 반환
      */
     private void publishStageEvent(String deploymentId, Integer stage, String message) {
         publishStageEvent(deploymentId, stage, message, Map.of("stage", stage));
     }
 
     private void publishStageEvent(String deploymentId, Integer stage, String message, Map<String, Object> details) {
-        try {
-            // ✅ Stage event 발행 전 0.5초 delay
-            Thread.sleep(500);
-            eventPublisher.publishStageEvent(deploymentId, stage, message, details);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.debug("Stage event publishing interrupted", e);
-        } catch (Exception e) {
-            log.debug("Failed to publish stage event", e);
-        }
+        eventDispatcher.dispatchPaced(deploymentId,
+            () -> eventPublisher.publishStageEvent(deploymentId, stage, message, details));
     }
 
     /**
@@ -1086,17 +1746,19 @@ public class StepFunctionsPollingService {
     private PollingResult analyzeExecutionHistoryWithContext(String deploymentId, List<?> events,
         Map<String, Object> context,
         AwsConnection awsConnection,
-        long lastProcessedEventId) {
-        if (events == null || events.isEmpty()) {
-            return new PollingResult("RUNNING", lastProcessedEventId);
-        }
-
+        long lastProcessedEventId,
+        Map<Long, Map<String, String>> prefetchedServiceUrls) {
         String currentStage = "RUNNING";
         long maxEventId = lastProcessedEventId;
         String lastTaskName = "";
         long lastTaskStartedTime = 0;
-        boolean checkDeploymentDetected = false;  // ✅ CheckDeployment 감지 플래그
-        boolean runMetricsDetected = false;       // ✅ RunMetrics 감지 플래그 (둘 다 필요!)
+        // ✅ 감지 플래그는 context에 유지 (증분 조회에서는 CheckDeployment/RunMetrics 이벤트가 한 번만 도착함)
+        boolean checkDeploymentDetected = Boolean.TRUE.equals(context.get(CHECK_DEPLOYMENT_DETECTED_KEY));
+        boolean runMetricsDetected = Boolean.TRUE.equals(context.get(RUN_METRICS_DETECTED_KEY));
+
+        if (events == null) {
+            events = List.of();
+        }
 
         try {
             // ✅ Event를 ID 순서로 정렬 (오래된 것부터 처리하도록)
@@ -1131,7 +1793,7 @@ public class StepFunctionsPollingService {
                             if (out.contains("\"blue\"") && out.contains("\"green\"")) {
                                 log.info("🔥 [RunMetrics-Detected] TaskSucceeded에서 RunMetrics 발견! eventId={}", event.id());
                                 Map<String, Object> metricsContext = new HashMap<>();
-                                parseRunMetrics(out, metricsContext);
+                                parseRunMetrics(taskOutputParser.parseRunMetrics(deploymentId, event.id(), out), metricsContext);
                                 context.putAll(metricsContext);  // ← monitoringContext에 merge
                                 runMetricsDetected = true;  // 🔥 RunMetrics 감지 플래그
                                 log.info("✅ [RunMetrics-Parsed] RunMetrics 파싱 성공! blueLatency: {}, greenLatency: {}, blueError: {}, greenError: {}",
@@ -1155,9 +1817,14 @@ public class StepFunctionsPollingService {
                 // 🔥🔥 CheckDeployment 우선 처리 (ID 필터링 완전 우회)
                 if ("CheckDeployment".equals(taskName) && taskOutput != null && !taskOutput.isEmpty()) {
                     try {
-                        Map<String, Object> outputMap = objectMapper.readValue(taskOutput, Map.class);
+                        CheckDeploymentOutput checkOutput =
+                            taskOutputParser.parseCheckDeployment(deploymentId, event.id(), taskOutput);
+                        if (checkOutput == null) {
+                            log.warn("Failed to parse CheckDeployment with priority, skipping - eventId: {}", event.id());
+                            continue;
+                        }
                         Map<String, Object> parseContext = new HashMap<>();
-                        parseCheckDeployment(outputMap, parseContext);
+                        parseCheckDeployment(checkOutput, parseContext);
                         context.putAll(parseContext);  // ← monitoringContext에 merge
                         checkDeploymentDetected = true;  // 🔥 CheckDeployment 감지 플래그
                         log.info("✅ [CheckDeployment-Priority] CheckDeployment 우선 파싱 성공! codeDeployDeploymentId: {}",
@@ -1185,8 +1852,9 @@ public class StepFunctionsPollingService {
                 if (event.typeAsString() != null && event.typeAsString().equals("ExecutionFailed")) {
                     log.info("📤 [AWS Step Functions] ExecutionFailed - Event ID: {}", event.id());
                     log.warn("Execution failed for deploymentId: {}", deploymentId);
-                    eventPublisher.publishErrorEvent(deploymentId, "Deployment failed.",  // ✅ Stage 4까지만 사용
-                        Map.of("stage", 4, "stepFunctionsStage", "FAILED"));
+                    eventDispatcher.dispatch(deploymentId,
+                        () -> eventPublisher.publishErrorEvent(deploymentId, "Deployment failed.",  // ✅ Stage 4까지만 사용
+                            Map.of("stage", 4, "stepFunctionsStage", "FAILED")));
                     return new PollingResult("FAILED", maxEventId);  // ✅ PollingResult 반환
                 }
 
@@ -1258,7 +1926,7 @@ public class StepFunctionsPollingService {
                     String outputTaskName = outputDetails != null ? outputDetails.name() : null;
                     String outputTaskOutput = outputDetails != null ? outputDetails.output() : null;
 
-                    String stage = analyzeTaskStateExited(deploymentId, event, awsConnection, context);
+                    String stage = analyzeTaskStateExited(deploymentId, event, awsConnection, context, prefetchedServiceUrls);
                     if (stage != null) {
                         currentStage = stage;
                     }
@@ -1266,79 +1934,45 @@ public class StepFunctionsPollingService {
                     // TaskStateExited에서 추출된 정보를 context에 저장
                     if (outputTaskOutput != null && !outputTaskOutput.isEmpty()) {
                         try {
-                            // 🔥 정답: JSON 최상단 자체가 outputMap
-                            Map<String, Object> outputMap = objectMapper.readValue(outputTaskOutput, Map.class);
-
-                                String stageStatus = (String) outputMap.get("stage");
-
-                                // Stage 4 완료 - Blue/Green 서비스 정보 저장
-                                if (stageStatus != null && stageStatus.contains("REGISTER_TASK")) {
-                                    log.info("📤 [AWS Step Functions] RegisterTaskAndDeploy output - Stage: {}, Payload: {}", stageStatus, objectMapper.writeValueAsString(outputMap));
-                                    String greenUrl = null;
-                                    String codeDeployDeploymentId = null;  // ✅ 블록 스코프에서 선언
-                                    if (outputMap.containsKey("blueService")) {
-                                        Object blueObj = outputMap.get("blueService");
-                                        if (blueObj instanceof Map) {
-                                            Map<String, Object> blueService = (Map<String, Object>) blueObj;
-                                            context.put("blueServiceArn", blueService.get("serviceArn"));
-                                        }
-                                    }
-                                    if (outputMap.containsKey("greenService")) {
-                                        Object greenObj = outputMap.get("greenService");
-                                        if (greenObj instanceof Map) {
-                                            Map<String, Object> greenService = (Map<String, Object>) greenObj;
-                                            context.put("greenServiceArn", greenService.get("serviceArn"));
-                                            if (greenService.containsKey("url")) {
-                                                greenUrl = (String) greenService.get("url");
-                                                context.put("greenUrl", greenUrl);
-                                            }
-                                        }
-                                    }
-                                    if (outputMap.containsKey("clusterName")) {
-                                        context.put("clusterName", outputMap.get("clusterName"));
-                                    }
-                                    if (outputMap.containsKey("serviceName")) {
-                                        context.put("serviceName", outputMap.get("serviceName"));
-                                    }
-
-                                    // ✅ CodeDeploy deploymentId 추출 (deployResult.Payload.deploymentId)
-                                    if (outputMap.containsKey("deployResult")) {
-                                        Object deployResultObj = outputMap.get("deployResult");
-                                        if (deployResultObj instanceof Map) {
-                                            Map<String, Object> deployResult = (Map<String, Object>) deployResultObj;
-                                            if (deployResult.containsKey("Payload")) {
-                                                Object payloadObj = deployResult.get("Payload");
-                                                if (payloadObj instanceof Map) {
-                                                    Map<String, Object> innerPayload = (Map<String, Object>) payloadObj;
-                                                    if (innerPayload.containsKey("deploymentId")) {
-                                                        codeDeployDeploymentId = (String) innerPayload.get("deploymentId");
-                                                        context.put("codeDeployDeploymentId", codeDeployDeploymentId);
-                                                        log.info("📌 [CodeDeploy-ID-Extracted] Extracted codeDeployDeploymentId from RegisterTaskAndDeploy: {}", codeDeployDeploymentId);
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-
-                                    // CodeDeploy 정보 저장 (이전 방식 - 호환성)
-                                    if (outputMap.containsKey("codeDeployDeploymentId")) {
-                                        context.put("codeDeployDeploymentId", outputMap.get("codeDeployDeploymentId"));
-                                    }
-                                    if (outputMap.containsKey("codeDeployApplicationName")) {
-                                        context.put("codeDeployApplicationName", outputMap.get("codeDeployApplicationName"));
-                                    }
+                            // analyzeTaskStateExited에서 파싱한 결과 재사용 (이벤트 ID 캐시)
+                            TaskStateOutput output =
+                                taskOutputParser.parseTaskState(deploymentId, event.id(), outputTaskOutput);
+                            String stageStatus = output != null ? output.getStage() : null;
+
+                            // Stage 4 완료 - Blue/Green 서비스 정보 저장
+                            if (stageStatus != null && stageStatus.contains("REGISTER_TASK")) {
+                                log.info("📤 [AWS Step Functions] RegisterTaskAndDeploy output - Stage: {}, cluster: {}, service: {}, blueServiceArn: {}, greenServiceArn: {}, greenUrl: {}",
+                                    stageStatus, output.getClusterName(), output.getServiceName(),
+                                    output.getBlueServiceArn(), output.getGreenServiceArn(), output.getGreenUrl());
+                                String greenUrl = output.getGreenUrl();
+                                putIfPresent(context, "blueServiceArn", output.getBlueServiceArn());
+                                putIfPresent(context, "greenServiceArn", output.getGreenServiceArn());
+                                putIfPresent(context, "greenUrl", greenUrl);
+                                putIfPresent(context, "clusterName", output.getClusterName());
+                                putIfPresent(context, "serviceName", output.getServiceName());
+
+                                // ✅ CodeDeploy deploymentId 추출 (deployResult.Payload.deploymentId)
+                                String codeDeployDeploymentId = output.getDeployResultDeploymentId();
+                                if (codeDeployDeploymentId != null) {
+                                    context.put("codeDeployDeploymentId", codeDeployDeploymentId);
+                                    log.info("📌 [CodeDeploy-ID-Extracted] Extracted codeDeployDeploymentId from RegisterTaskAndDeploy: {}", codeDeployDeploymentId);
+                                }
 
-                                    // Health Check 실행 (Green URL이 있는 경우)
-                                    if (greenUrl != null && !greenUrl.isEmpty()) {
-                                        try {
-                                            String codeDeployApplicationName = (String) context.get("codeDeployApplicationName");
-                                            triggerHealthCheck(deploymentId, greenUrl, codeDeployDeploymentId,
-                                                codeDeployApplicationName, awsConnection);
-                                        } catch (Exception e) {
-                                            log.warn("Failed to trigger health check for deploymentId: {}", deploymentId, e);
-                                        }
+                                // CodeDeploy 정보 저장 (이전 방식 - 호환성)
+                                putIfPresent(context, "codeDeployDeploymentId", output.getCodeDeployDeploymentId());
+                                putIfPresent(context, "codeDeployApplicationName", output.getCodeDeployApplicationName());
+
+                                // Health Check 실행 (Green URL이 있는 경우)
+                                if (greenUrl != null && !greenUrl.isEmpty()) {
+                                    try {
+                                        String codeDeployApplicationName = (String) context.get("codeDeployApplicationName");
+                                        triggerHealthCheck(deploymentId, greenUrl, codeDeployDeploymentId,
+                                            codeDeployApplicationName, awsConnection);
+                                    } catch (Exception e) {
+                                        log.warn("Failed to trigger health check for deploymentId: {}", deploymentId, e);
                                     }
                                 }
+                            }
 
                             // ✅ CheckDeployment는 loop 처음에서 우선 처리됨 (여기서는 처리하지 않음)
                             // (중복 파싱/감지 방지)
@@ -1352,6 +1986,9 @@ public class StepFunctionsPollingService {
             log.error("Error analyzing execution history for deploymentId: {}", deploymentId, e);
         }
 
+        context.put(CHECK_DEPLOYMENT_DETECTED_KEY, checkDeploymentDetected);
+        context.put(RUN_METRICS_DETECTED_KEY, runMetricsDetected);
+
         // 🔥🔥 CheckDeployment + RunMetrics 둘 다 감지되었을 때만 DEPLOYMENT_READY로 변경
         if (checkDeploymentDetected && runMetricsDetected) {
             currentStage = "DEPLOYMENT_READY";
@@ -1403,8 +2040,9 @@ public class StepFunctionsPollingService {
             } catch (Exception e) {
                 log.error("Health check failed for deploymentId: {}", deploymentId, e);
                 try {
-                    eventPublisher.publishErrorEvent(deploymentId,
-                        "Health Check 실패: " + e.getMessage());
+                    String errorMsg = "Health Check 실패: " + e.getMessage();
+                    eventDispatcher.dispatch(deploymentId,
+                        () -> eventPublisher.publishErrorEvent(deploymentId, errorMsg));
                 } catch (Exception publishEx) {
                     log.warn("Failed to publish error event for health check failure", publishEx);
                 }
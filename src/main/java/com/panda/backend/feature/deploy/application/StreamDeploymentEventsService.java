@@ -1,16 +1,13 @@
 package com.panda.backend.feature.deploy.application;
 
-import com.panda.backend.feature.deploy.event.DeploymentEvent;
 import com.panda.backend.feature.deploy.event.DeploymentEventStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-
-import java.io.IOException;
-import java.util.Map;
-import java.util.UUID;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Service
@@ -19,21 +16,16 @@ public class StreamDeploymentEventsService {
 
     private final DeploymentEventStore deploymentEventStore;
 
-    public SseEmitter stream(String deploymentId) {
-        // Emitter 등록
-        SseEmitter emitter = deploymentEventStore.registerEmitter(deploymentId);
-
-        try {
-            emitter.send(SseEmitter.event()
-                    .id(UUID.randomUUID().toString())
-                    .name("connected")
-                    .reconnectTime(3000)  // 재연결 시간 단축 (5초 -> 3초)
-                    .data(Map.of("message", "SSE connection established")));
-
-            log.info("Connected event sent immediately for deployment: {}", deploymentId);
-        } catch (IOException e) {
-            log.warn("Failed to send connected event for deployment: {}", deploymentId, e);
-        }
+    /**
+     * SSE 스트림 시작
+     *
+     * @param deploymentId 배포 ID
+     * @param lastEventId Last-Event-ID 헤더 값 (재연결 시 마지막으로 받은 이벤트 ID, 없으면 null)
+     */
+    public SseEmitter stream(String deploymentId, String lastEventId) {
+        // Emitter 등록 + connected 이벤트 + 놓친 이벤트 재전송 (Last-Event-ID 없으면 전체 히스토리)
+        // 모든 프레임은 구독자 큐를 거쳐 순서대로 전송됨
+        SseEmitter emitter = deploymentEventStore.registerEmitter(deploymentId, parseLastEventId(lastEventId));
 
         // Keepalive 시작
         deploymentEventStore.startKeepalive(deploymentId);
@@ -41,21 +33,25 @@ public class StreamDeploymentEventsService {
         return emitter;
     }
 
-    private SseEmitter.SseEventBuilder buildSseEvent(DeploymentEvent event) {
-        String eventType = event.getType() != null ? event.getType() : "stage";
-
-        SseEmitter.SseEventBuilder builder = SseEmitter.event()
-                .id(UUID.randomUUID().toString())
-                .name(eventType)
-                .reconnectTime(3000);  // 재연결 시간 단축 (5초 -> 3초)
+    /**
+     * 리액티브 SSE 스트림 시작 (연결마다 emitter/writer 작업을 두지 않고 배포별 sink를 공유)
+     *
+     * @param deploymentId 배포 ID
+     * @param lastEventId Last-Event-ID 헤더 값 (재연결 시 마지막으로 받은 이벤트 ID, 없으면 null)
+     */
+    public Flux<ServerSentEvent<String>> streamReactive(String deploymentId, String lastEventId) {
+        return deploymentEventStore.streamEvents(deploymentId, parseLastEventId(lastEventId));
+    }
 
-        // Event 타입에 따라 데이터 설정
-        if ("stage".equals(eventType)) {
-            builder.data(event);
-        } else if ("success".equals(eventType) || "fail".equals(eventType)) {
-            builder.data(Map.of("message", event.getMessage()));
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring non-numeric Last-Event-ID: {}", lastEventId);
+            return null;
         }
-
-        return builder;
     }
 }
@@ -0,0 +1,37 @@
+package com.panda.backend.feature.deploy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Step Functions 폴링 세션 체크포인트 (재시작 후 이어서 모니터링하기 위한 상태)
+ *
+ * NOTE: AWS 자격증명은 담지 않음 (awsConnectionId로 ConnectionStore에서 다시 조회)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PollingCheckpoint {
+
+    private String deploymentId;
+    private String owner;
+    private String repo;
+    private String awsConnectionId;
+
+    private String executionArn;
+    private long lastSeenEventId;           // ExecutionHistoryCursor가 마지막으로 받은 이벤트 ID
+    private long lastProcessedEventId;      // 분석까지 끝난 마지막 이벤트 ID
+    private String previousStage;
+
+    private long pollingStartTime;
+    private long checkDeploymentDetectedTime;  // CheckDeployment 감지 시간 (-1이면 미감지)
+    private int eventCount;
+
+    // CloudWatch 모니터링 / 결과 저장용 컨텍스트 (URL, 메트릭, 감지 플래그 등)
+    private Map<String, Object> monitoringContext;
+}
@@ -0,0 +1,75 @@
+package com.panda.backend.feature.deploy.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * EventBridge API Destination이 전달하는 Step Functions 상태 변경 이벤트
+ *
+ * EventBridge 규칙 패턴 (서비스 계정):
+ * {
+ *   "source": ["aws.states"],
+ *   "detail-type": ["Step Functions Execution Status Change"]
+ * }
+ *
+ * 요청 예시:
+ * {
+ *   "id": "315c1398-40ff-a850-213b-158f73e60175",
+ *   "detail-type": "Step Functions Execution Status Change",
+ *   "source": "aws.states",
+ *   "time": "2025-11-20T10:00:00Z",
+ *   "detail": {
+ *     "executionArn": "arn:aws:states:ap-northeast-2:123456789012:execution:panda-deployment:xxx",
+ *     "stateMachineArn": "arn:aws:states:ap-northeast-2:123456789012:stateMachine:panda-deployment",
+ *     "name": "xxx",
+ *     "status": "RUNNING"
+ *   }
+ * }
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StepFunctionsStatusEvent {
+
+    /** EventBridge 이벤트 ID */
+    private String id;
+
+    /** 이벤트 종류 (Step Functions Execution Status Change 등) */
+    @JsonProperty("detail-type")
+    private String detailType;
+
+    /** 이벤트 소스 (aws.states) */
+    private String source;
+
+    /** 이벤트 발생 시간 (ISO-8601) */
+    private String time;
+
+    /** 실행 상세 정보 */
+    private Detail detail;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Detail {
+
+        /** Step Functions Execution ARN */
+        private String executionArn;
+
+        /** State Machine ARN */
+        private String stateMachineArn;
+
+        /** Execution 이름 */
+        private String name;
+
+        /** 실행 상태: RUNNING, SUCCEEDED, FAILED, TIMED_OUT, ABORTED */
+        private String status;
+    }
+}
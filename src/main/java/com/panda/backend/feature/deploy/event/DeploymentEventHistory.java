@@ -0,0 +1,119 @@
+package com.panda.backend.feature.deploy.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 배포 하나의 이벤트 히스토리 (고정 크기 링 버퍼)
+ *
+ * - 용량을 넘으면 가장 오래된 이벤트부터 덮어씀 (메모리 상한 고정)
+ * - 이벤트마다 1부터 증가하는 시퀀스 번호 부여
+ * - 배포 종료 시간(finishedAt)을 기록해 DeploymentEventStore가 TTL 기반으로 정리
+ */
+public class DeploymentEventHistory {
+
+    // 시퀀스는 연속으로 증가하므로 별도로 저장하지 않고 lastSequence/size로 계산
+    private final DeploymentEvent[] events;
+
+    // 다음에 쓸 위치 / 저장된 개수 / 마지막 시퀀스 번호
+    private int head = 0;
+    private int size = 0;
+    private long lastSequence = 0L;
+
+    private volatile long lastUpdatedAt = System.currentTimeMillis();
+    private volatile long finishedAt = -1L;
+
+    public DeploymentEventHistory(int capacity) {
+        this.events = new DeploymentEvent[capacity];
+    }
+
+    /**
+     * 이벤트 추가
+     *
+     * @return 부여된 시퀀스 번호
+     */
+    public synchronized long append(DeploymentEvent event) {
+        long sequence = ++lastSequence;
+        events[head] = event;
+        head = (head + 1) % events.length;
+        if (size < events.length) {
+            size++;
+        }
+        lastUpdatedAt = System.currentTimeMillis();
+        return sequence;
+    }
+
+    /**
+     * 저널에서 복구한 이벤트 추가 (원래 시퀀스 번호와 시간 유지, 이미 반영된 번호는 무시)
+     */
+    public synchronized void restore(long sequence, DeploymentEvent event, long timestamp) {
+        if (sequence <= lastSequence) {
+            return;
+        }
+        lastSequence = sequence - 1;
+        append(event);
+        lastUpdatedAt = timestamp;
+    }
+
+    /**
+     * 보관 중인 전체 이벤트 (오래된 순)
+     */
+    public List<DeploymentEvent> snapshot() {
+        return since(0L);
+    }
+
+    /**
+     * 특정 시퀀스 이후의 이벤트 (오래된 순)
+     *
+     * @param afterSequence 이 번호보다 큰 이벤트만 반환
+     */
+    public synchronized List<DeploymentEvent> since(long afterSequence) {
+        if (size == 0 || afterSequence >= lastSequence) {
+            return Collections.emptyList();
+        }
+
+        long oldestSequence = lastSequence - size + 1;
+        long fromSequence = Math.max(afterSequence + 1, oldestSequence);
+        int count = (int) (lastSequence - fromSequence + 1);
+        int start = Math.floorMod(head - count, events.length);
+
+        List<DeploymentEvent> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(events[(start + i) % events.length]);
+        }
+        return result;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    public long getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
+    /**
+     * 배포 종료 표시 (완료/실패) - 이후 TTL이 지나면 정리 대상
+     */
+    public void markFinished() {
+        markFinished(System.currentTimeMillis());
+    }
+
+    /**
+     * 배포 종료 표시 (저널 복구 시 원래 종료 시간 사용)
+     */
+    public void markFinished(long at) {
+        if (finishedAt < 0) {
+            finishedAt = at;
+        }
+    }
+
+    public boolean isFinished() {
+        return finishedAt >= 0;
+    }
+
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -21,9 +21,6 @@ public class DeploymentEventPublisherImpl implements DeploymentEventPublisher {
     @Override
     public void publishStageEvent(String deploymentId, Integer stage, String message, Map<String, Object> details) {
         try {
-            // ✅ Stage 이벤트 전에 connected 이벤트 먼저 전송
-            deploymentEventStore.sendConnectedEvent(deploymentId);
-
             // 이벤트 생성 및 발행
             DeploymentEvent event = new DeploymentEvent();
             event.setType("stage");
@@ -96,6 +93,8 @@ public class DeploymentEventPublisherImpl implements DeploymentEventPublisher {
 
     @Override
     public void initializeDeployment(String deploymentId, String owner, String repo, String branch, String awsRegion) {
+        // 첫 이벤트 전에 연결한 SSE 클라이언트도 구독할 수 있도록 히스토리를 먼저 생성
+        deploymentEventStore.openHistory(deploymentId);
         log.info("Deployment initialized - deploymentId: {}, owner: {}, repo: {}",
                  deploymentId, owner, repo);
     }
@@ -103,9 +102,6 @@ public class DeploymentEventPublisherImpl implements DeploymentEventPublisher {
     @Override
     public void publishStepFunctionsProgress(String deploymentId, String stepFunctionsStage) {
         try {
-            // ✅ Step Functions 진행상황 이벤트 전에 connected 이벤트 먼저 전송
-            deploymentEventStore.sendConnectedEvent(deploymentId);
-
             String message = mapStepFunctionsStageToMessage(stepFunctionsStage);
             Integer stageNumber = mapStepFunctionsStageToNumber(stepFunctionsStage);
 
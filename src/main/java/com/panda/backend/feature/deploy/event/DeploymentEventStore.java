@@ -1,100 +1,504 @@
 package com.panda.backend.feature.deploy.event;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.panda.backend.feature.deploy.infrastructure.DeploymentJournal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class DeploymentEventStore {
 
-    // deploymentId -> List of SseEmitters
-    private final Map<String, List<SseEmitter>> emitterMap = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final DeploymentJournal journal;
+
+    // deploymentId -> List of SSE 구독자 (emitter + 전송 대기 큐)
+    private final Map<String, List<SseSubscriber>> emitterMap = new ConcurrentHashMap<>();
+
+    // deploymentId -> 이벤트 히스토리 (고정 크기 링 버퍼)
+    private final Map<String, DeploymentEventHistory> eventHistoryMap = new ConcurrentHashMap<>();
+
+    // keepalive, 지연 종료, 히스토리 정리를 모든 배포에 대해 처리하는 공용 스케줄러
+    // (배포/클라이언트 수와 무관하게 스레드 수 고정)
+    private static final int SCHEDULER_THREADS = 2;
+    private static final long KEEPALIVE_INTERVAL_MS = 30000;  // 30초마다 keepalive 전송
+    private static final long CLOSE_DELAY_MS = 5000;          // 완료/실패 이벤트 후 연결 종료까지 대기
+    private static final SseFrame KEEPALIVE_FRAME = SseFrame.comment("keepalive");  // 주석 이벤트는 클라이언트에서 무시됨
+
+    // 리액티브 스트림용 (SseFrame과 같은 재연결 시간 / keepalive)
+    private static final Duration RECONNECT_TIME = Duration.ofMillis(3000);
+    private static final ServerSentEvent<String> KEEPALIVE_EVENT =
+            ServerSentEvent.<String>builder().comment("keepalive").retry(RECONNECT_TIME).build();
+
+    private final AtomicInteger schedulerThreadCount = new AtomicInteger(0);
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(SCHEDULER_THREADS, r -> {
+        Thread t = new Thread(r, "SSE-Scheduler-" + schedulerThreadCount.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 실제 소켓 쓰기를 담당하는 writer 스레드 (구독자별 drain 작업 실행, 구독자별로는 한 번에 하나씩 직렬 실행)
+    // 구독자 수와 무관하게 고정 크기 + 대기 큐 상한 → 큐가 넘치면 drain이 거부되어 해당 구독자 종료
+    // 막힌 쓰기는 writeTimeoutMs 후 에러 종료되므로 느린 클라이언트가 writer 스레드를 계속 점유하지 못함
+    private final AtomicInteger writerThreadCount = new AtomicInteger(0);
+    private ThreadPoolExecutor writer;
+
+    @Value("${panda.events.writer-threads:8}")
+    private int writerThreads;
+
+    @Value("${panda.events.writer-queue-capacity:4096}")
+    private int writerQueueCapacity;
+
+    // 소켓 쓰기 한 번(배치)의 마감 시간
+    @Value("${panda.events.write-timeout-ms:10000}")
+    private long writeTimeoutMs;
+
+    // 구독자별 전송 대기 큐 크기 (가득 차면 느린 구독자로 보고 연결 종료)
+    // 재연결 시 히스토리 전체 재전송이 들어갈 수 있도록 history-capacity보다 크게 유지
+    @Value("${panda.events.subscriber-queue-capacity:512}")
+    private int subscriberQueueCapacity;
+
+    // 이 시간 안에 발생한 프레임은 하나로 묶어 한 번에 flush (0이면 즉시 전송)
+    @Value("${panda.events.coalesce-window-ms:20}")
+    private long coalesceWindowMs;
+
+    @Value("${panda.events.history-capacity:256}")
+    private int historyCapacity;
+
+    // 완료/실패된 배포의 히스토리 보관 시간
+    @Value("${panda.events.finished-ttl-ms:3600000}")
+    private long finishedTtlMs;
+
+    // 종료 이벤트 없이 멈춘 배포(DEPLOYMENT_READY 대기 등)의 히스토리 보관 시간
+    @Value("${panda.events.idle-ttl-ms:86400000}")
+    private long idleTtlMs;
+
+    @Value("${panda.events.eviction-interval-ms:60000}")
+    private long evictionIntervalMs;
+
+    // deploymentId -> 리액티브 구독자 공용 replay sink (구독자가 처음 생길 때 히스토리로 채워서 생성)
+    // 구독자마다 스레드/큐를 두지 않고, 하나의 sink를 구독자별 버퍼로 나눠 받음
+    private final Map<String, Sinks.Many<SequencedEvent>> reactiveSinks = new ConcurrentHashMap<>();
+
+    // deploymentId -> keepalive 예약 작업 (공용 스케줄러에서 주기 실행)
+    private final Map<String, ScheduledFuture<?>> keepaliveTaskMap = new ConcurrentHashMap<>();
+
+    // 재시작 전 히스토리 복구 (재연결한 클라이언트가 Last-Event-ID로 이어서 받을 수 있도록 시퀀스 유지)
+    @PostConstruct
+    void recoverHistories() {
+        journal.replay(new DeploymentJournal.ReplayHandler() {
+            @Override
+            public void onEvent(String deploymentId, long sequence, DeploymentEvent event, long timestamp) {
+                getOrCreateHistory(deploymentId).restore(sequence, event, timestamp);
+            }
+
+            @Override
+            public void onHistoryFinished(String deploymentId, long timestamp) {
+                DeploymentEventHistory history = eventHistoryMap.get(deploymentId);
+                if (history != null) {
+                    history.markFinished(timestamp);
+                }
+            }
+
+            @Override
+            public void onHistoryRemoved(String deploymentId) {
+                eventHistoryMap.remove(deploymentId);
+            }
+        });
+        if (!eventHistoryMap.isEmpty()) {
+            log.info("Recovered event histories from journal - deployments: {}", eventHistoryMap.size());
+        }
+    }
+
+    @PostConstruct
+    void startWriters() {
+        writer = new ThreadPoolExecutor(writerThreads, writerThreads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(writerQueueCapacity), r -> {
+                Thread t = new Thread(r, "SSE-Writer-" + writerThreadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        writer.allowCoreThreadTimeOut(true);
+
+        long checkInterval = Math.max(writeTimeoutMs / 2, 100);
+        scheduler.scheduleWithFixedDelay(this::expireStalledWrites,
+            checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
 
-    // deploymentId -> List of events (히스토리)
-    private final Map<String, Queue<DeploymentEvent>> eventHistoryMap = new ConcurrentHashMap<>();
+    @PostConstruct
+    void startHistoryEviction() {
+        scheduler.scheduleWithFixedDelay(this::evictExpiredHistories,
+            evictionIntervalMs, evictionIntervalMs, TimeUnit.MILLISECONDS);
+    }
 
-    // deploymentId -> keepalive thread (주기적 connected 이벤트 전송 스레드)
-    private final Map<String, Thread> keepaliveThreadMap = new ConcurrentHashMap<>();
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        writer.shutdownNow();
+    }
 
     // 새로운 SSE 클라이언트 연결 등록
     public SseEmitter registerEmitter(String deploymentId) {
+        return registerEmitter(deploymentId, null);
+    }
+
+    /**
+     * 배포 시작 시 이벤트 히스토리 생성 (발행 측에서만 생성)
+     * 첫 이벤트가 발행되기 전에 연결한 클라이언트도 이 배포를 구독할 수 있도록 미리 만들어 둠
+     */
+    public void openHistory(String deploymentId) {
+        getOrCreateHistory(deploymentId);
+    }
+
+    /**
+     * 새로운 SSE 클라이언트 연결 등록 + 놓친 이벤트 재전송
+     *
+     * 히스토리가 없는 배포 ID(시작되지 않았거나 이미 정리된 배포)는 히스토리를 만들지 않고 빈 스트림으로 바로 종료
+     *
+     * @param deploymentId 배포 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (Last-Event-ID, 없으면 전체 히스토리 전송)
+     */
+    public SseEmitter registerEmitter(String deploymentId, Long lastEventId) {
 
         SseEmitter emitter = new SseEmitter(600000L); // 10분 타임아웃 (5분 -> 10분으로 증가)
 
-        emitterMap.computeIfAbsent(deploymentId, k -> Collections.synchronizedList(new ArrayList<>()))
-                .add(emitter);
+        DeploymentEventHistory history = eventHistoryMap.get(deploymentId);
+        if (history == null) {
+            log.info("SSE subscription for unknown deployment: {}, closing with empty stream", deploymentId);
+            emitter.complete();
+            return emitter;
+        }
+
+        SseSubscriber subscriber = new SseSubscriber(emitter, subscriberQueueCapacity, writer,
+                scheduler, coalesceWindowMs, failed -> removeSubscriber(deploymentId, failed), currentRequest());
+
+        // 등록과 재전송을 broadcastEvent와 같은 히스토리 락 안에서 처리 (누락/중복 방지)
+        // connected 이벤트를 먼저 큐에 넣어 재전송 이벤트보다 앞서 도착하도록 보장
+        synchronized (history) {
+            emitterMap.computeIfAbsent(deploymentId, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(subscriber);
+            subscriber.offer(buildControlFrame("SSE connection established"));
+            replayHistory(deploymentId, subscriber, history, lastEventId != null ? lastEventId : 0L);
+        }
 
         emitter.onCompletion(() -> {
-            removeEmitter(deploymentId, emitter);
-            stopKeepalive(deploymentId);
+            removeSubscriber(deploymentId, subscriber);
+            stopKeepaliveIfIdle(deploymentId);
         });
         emitter.onTimeout(() -> {
-            removeEmitter(deploymentId, emitter);
-            stopKeepalive(deploymentId);
+            removeSubscriber(deploymentId, subscriber);
+            stopKeepaliveIfIdle(deploymentId);
         });
         emitter.onError((throwable) -> {
-            removeEmitter(deploymentId, emitter);
-            stopKeepalive(deploymentId);
+            removeSubscriber(deploymentId, subscriber);
+            stopKeepaliveIfIdle(deploymentId);
         });
 
         log.info("SSE emitter registered for deployment: {}", deploymentId);
         return emitter;
     }
 
+    /**
+     * 리액티브 SSE 스트림 (Flux) - connected 이벤트 + 놓친 이벤트 재전송 + 실시간 이벤트
+     *
+     * - 배포별 replay sink 하나를 모든 구독자가 공유 (최근 historyCapacity개 이벤트를 새 구독자에게 재생)
+     * - 구독자별 버퍼(subscriberQueueCapacity)를 넘도록 못 따라오면 해당 구독자만 에러로 종료 (재연결 시 Last-Event-ID로 이어받음)
+     * - 배포 완료/실패로 연결이 닫히면 남은 이벤트를 보낸 뒤 complete
+     * - 히스토리가 없는 배포 ID는 히스토리를 만들지 않고 빈 스트림
+     *
+     * @param deploymentId 배포 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (Last-Event-ID, 없으면 전체 히스토리 전송)
+     */
+    public Flux<ServerSentEvent<String>> streamEvents(String deploymentId, Long lastEventId) {
+        long after = lastEventId != null ? lastEventId : 0L;
+        ServerSentEvent<String> connected = ServerSentEvent.<String>builder()
+                .event("connected")
+                .retry(RECONNECT_TIME)
+                .data(serializeControlMessage("SSE connection established"))
+                .build();
+
+        return Flux.defer(() -> {
+            DeploymentEventHistory history = eventHistoryMap.get(deploymentId);
+            if (history == null) {
+                log.info("Reactive SSE subscription for unknown deployment: {}, returning empty stream", deploymentId);
+                return Flux.<ServerSentEvent<String>>empty();
+            }
+
+            Flux<ServerSentEvent<String>> events = reactiveEvents(deploymentId, history)
+                    .filter(event -> event.sequence > after)
+                    .map(event -> event.event)
+                    .onBackpressureBuffer(subscriberQueueCapacity,
+                            dropped -> log.warn("Evicting slow reactive SSE subscriber for deployment: {}", deploymentId),
+                            BufferOverflowStrategy.ERROR);
+
+            // keepalive는 이벤트 스트림이 끝나면 같이 종료
+            Sinks.Empty<Void> done = Sinks.empty();
+            Flux<ServerSentEvent<String>> keepalive = Flux.interval(Duration.ofMillis(KEEPALIVE_INTERVAL_MS))
+                    .onBackpressureDrop()
+                    .map(tick -> KEEPALIVE_EVENT)
+                    .takeUntilOther(done.asMono());
+
+            return Flux.merge(events.doFinally(signal -> done.tryEmitEmpty()), keepalive)
+                    .startWith(connected);
+        })
+        .doOnSubscribe(subscription -> log.info("Reactive SSE subscriber registered for deployment: {}", deploymentId))
+        .doFinally(signal -> log.info("Reactive SSE subscriber finished for deployment: {} ({})", deploymentId, signal));
+    }
+
+    // 배포의 리액티브 이벤트 스트림 (broadcastEvent와 같은 락 안에서 처리해 누락/중복 방지)
+    // - 진행 중: replay sink 공유 (없으면 현재 히스토리로 채워서 생성)
+    // - 이미 끝난 배포: 더 이상 이벤트가 오지 않으므로 히스토리만 보내고 바로 완료 (sink를 만들지 않음)
+    private Flux<SequencedEvent> reactiveEvents(String deploymentId, DeploymentEventHistory history) {
+        synchronized (history) {
+            // 완료 직후 아직 닫히지 않은 sink는 closeAllEmitters에서 완료되므로 그대로 사용
+            Sinks.Many<SequencedEvent> live = reactiveSinks.get(deploymentId);
+            if (live != null) {
+                return live.asFlux();
+            }
+            if (history.isFinished()) {
+                return Flux.fromIterable(replayHistory(history));
+            }
+            return reactiveSinks.computeIfAbsent(deploymentId, id -> {
+                Sinks.Many<SequencedEvent> sink = Sinks.many().replay().limit(historyCapacity);
+                replayHistory(history).forEach(event -> emitReactive(sink, event));
+                return sink;
+            }).asFlux();
+        }
+    }
+
+    // 히스토리를 시퀀스 번호가 붙은 리액티브 이벤트로 변환 (history 락 안에서 호출)
+    private List<SequencedEvent> replayHistory(DeploymentEventHistory history) {
+        List<DeploymentEvent> existing = history.since(0L);
+        long eventId = history.getLastSequence() - existing.size() + 1;
+        List<SequencedEvent> events = new ArrayList<>(existing.size());
+        for (DeploymentEvent event : existing) {
+            SequencedEvent sequenced = buildReactiveEvent(event, eventId++);
+            if (sequenced != null) {
+                events.add(sequenced);
+            }
+        }
+        return events;
+    }
+
+    // 리액티브 구독자에게 이벤트 전달 (keepalive 없이 이벤트만 sink를 거침)
+    private void emitReactive(Sinks.Many<SequencedEvent> sink, SequencedEvent event) {
+        if (event == null) {
+            return;
+        }
+        synchronized (sink) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            if (result.isFailure()) {
+                log.debug("Reactive SSE emit skipped (sequence: {}): {}", event.sequence, result);
+            }
+        }
+    }
+
+    // 남은 이벤트를 보낸 뒤 리액티브 구독자 종료 (다음 구독 시 히스토리로 새 sink 생성)
+    private void completeReactiveSink(String deploymentId) {
+        Sinks.Many<SequencedEvent> sink = reactiveSinks.remove(deploymentId);
+        if (sink != null) {
+            synchronized (sink) {
+                sink.tryEmitComplete();
+            }
+        }
+    }
+
     // SSE 클라이언트 연결 제거
-    private void removeEmitter(String deploymentId, SseEmitter emitter) {
-        List<SseEmitter> emitters = emitterMap.get(deploymentId);
-        if (emitters != null) {
-            emitters.remove(emitter);
-            log.info("SSE emitter removed for deployment: {}, remaining: {}", deploymentId, emitters.size());
+    private void removeSubscriber(String deploymentId, SseSubscriber subscriber) {
+        List<SseSubscriber> subscribers = emitterMap.get(deploymentId);
+        if (subscribers != null && subscribers.remove(subscriber)) {
+            log.info("SSE emitter removed for deployment: {}, remaining: {}", deploymentId, subscribers.size());
+        }
+    }
+
+    // 모든 구독자의 큐에 같은 프레임 추가 (큐가 가득 찬 느린 구독자는 연결 종료)
+    private void fanOut(String deploymentId, SseFrame frame) {
+        List<SseSubscriber> subscribers = emitterMap.get(deploymentId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        List<SseSubscriber> rejected = new ArrayList<>();
+        synchronized (subscribers) {
+            for (SseSubscriber subscriber : subscribers) {
+                if (!subscriber.offer(frame)) {
+                    rejected.add(subscriber);
+                }
+            }
+        }
+
+        for (SseSubscriber subscriber : rejected) {
+            evictSubscriber(deploymentId, subscriber);
         }
     }
 
+    // 소켓 쓰기가 마감 시간을 넘긴 구독자를 에러로 종료 (재연결 시 Last-Event-ID로 이어받음)
+    private void expireStalledWrites() {
+        long now = System.currentTimeMillis();
+        emitterMap.forEach((deploymentId, subscribers) -> {
+            List<SseSubscriber> snapshot;
+            synchronized (subscribers) {
+                snapshot = new ArrayList<>(subscribers);
+            }
+            for (SseSubscriber subscriber : snapshot) {
+                if (subscriber.expireStalledWrite(now, writeTimeoutMs)) {
+                    log.warn("SSE write exceeded {}ms, closing subscriber for deployment: {}", writeTimeoutMs, deploymentId);
+                    removeSubscriber(deploymentId, subscriber);
+                }
+            }
+        });
+    }
+
+    private void evictSubscriber(String deploymentId, SseSubscriber subscriber) {
+        if (!subscriber.isClosed()) {
+            log.warn("Evicting slow SSE subscriber for deployment: {} (pending frames: {})",
+                    deploymentId, subscriber.getPendingCount());
+        }
+        removeSubscriber(deploymentId, subscriber);
+        subscriber.evict();
+    }
+
     // 모든 연결된 클라이언트에게 이벤트 전송
     public void broadcastEvent(String deploymentId, DeploymentEvent event) {
-        // 이벤트 히스토리에 저장
-        eventHistoryMap.computeIfAbsent(deploymentId, k -> new LinkedList<>())
-                .offer(event);
-
-        // 모든 연결된 클라이언트에게 전송
-        List<SseEmitter> emitters = emitterMap.get(deploymentId);
-        if (emitters != null && !emitters.isEmpty()) {
-            List<SseEmitter> failedEmitters = new ArrayList<>();
-
-            for (SseEmitter emitter : emitters) {
-                try {
-                    // event type에 따라 다른 event name 설정
-                    String eventType = event.getType() != null ? event.getType() : "stage";
-
-                    SseEmitter.SseEventBuilder eventBuilder = SseEmitter.event()
-                            .id(UUID.randomUUID().toString())
-                            .name(eventType)
-                            .reconnectTime(3000);  // 재연결 시간 단축 (5초 -> 3초)
-
-                    // 모든 이벤트 타입에 전체 데이터 전송 (stage, success, fail 모두)
-                    if ("stage".equals(eventType) || "success".equals(eventType) || "fail".equals(eventType)) {
-                        eventBuilder.data(event);
-                    }
+        DeploymentEventHistory history = getOrCreateHistory(deploymentId);
 
-                    emitter.send(eventBuilder);
-                } catch (IOException e) {
-                    log.warn("Failed to send event to emitter for deployment: {}", deploymentId, e);
-                    failedEmitters.add(emitter);
-                }
+        synchronized (history) {
+            // 이벤트 히스토리에 저장 (시퀀스 번호 = SSE 이벤트 ID)
+            long eventId = history.append(event);
+            journal.appendEvent(deploymentId, eventId, event);
+
+            // 구독자 수와 무관하게 한 번만 직렬화한 뒤 각 구독자 큐에 추가 (전송은 writer 스레드에서 비동기)
+            String eventType = eventType(event);
+            String data;
+            try {
+                data = serializeEventData(event, eventType);
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize event {} for SSE", eventId, e);
+                return;
             }
+            fanOut(deploymentId, SseFrame.event(eventId, eventType, data));
 
-            // 실패한 emitter 제거
-            for (SseEmitter failedEmitter : failedEmitters) {
-                removeEmitter(deploymentId, failedEmitter);
+            Sinks.Many<SequencedEvent> sink = reactiveSinks.get(deploymentId);
+            if (sink != null) {
+                emitReactive(sink, new SequencedEvent(eventId, buildServerSentEvent(eventId, eventType, data)));
             }
         }
     }
 
+    // 구독 요청 (요청 스레드 밖에서 호출되면 null → 쓰기 마감 초과 시 비동기 요청 종료 없이 구독만 정리)
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    // 히스토리 생성은 발행 측(openHistory, broadcastEvent, 저널 복구)에서만
+    private DeploymentEventHistory getOrCreateHistory(String deploymentId) {
+        return eventHistoryMap.computeIfAbsent(deploymentId, k -> new DeploymentEventHistory(historyCapacity));
+    }
+
+    // lastEventId 이후의 이벤트만 재전송 (재연결 시 놓친 이벤트 복구)
+    private void replayHistory(String deploymentId, SseSubscriber subscriber, DeploymentEventHistory history, long lastEventId) {
+        List<DeploymentEvent> missed = history.since(lastEventId);
+        if (missed.isEmpty()) {
+            return;
+        }
+
+        // since()는 연속된 시퀀스를 반환하므로 마지막 시퀀스에서 역산
+        long eventId = history.getLastSequence() - missed.size() + 1;
+        for (DeploymentEvent event : missed) {
+            SseFrame frame = buildEventFrame(event, eventId++);
+            if (frame != null && !subscriber.offer(frame)) {
+                log.warn("Subscriber queue full while replaying history for deployment: {}", deploymentId);
+                return;
+            }
+        }
+        log.info("Replayed {} events for deployment: {} (after eventId: {})", missed.size(), deploymentId, lastEventId);
+    }
+
+    // 히스토리 이벤트 SSE 프레임 생성 (id = 배포별 단조 증가 시퀀스), 직렬화 실패 시 null
+    private SseFrame buildEventFrame(DeploymentEvent event, long eventId) {
+        String eventType = eventType(event);
+        try {
+            return SseFrame.event(eventId, eventType, serializeEventData(event, eventType));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize event {} for SSE", eventId, e);
+            return null;
+        }
+    }
+
+    // 리액티브 스트림용 이벤트 생성 (SseFrame과 같은 id/event/data), 직렬화 실패 시 null
+    private SequencedEvent buildReactiveEvent(DeploymentEvent event, long eventId) {
+        String eventType = eventType(event);
+        try {
+            return new SequencedEvent(eventId, buildServerSentEvent(eventId, eventType, serializeEventData(event, eventType)));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize event {} for reactive SSE", eventId, e);
+            return null;
+        }
+    }
+
+    private static ServerSentEvent<String> buildServerSentEvent(long eventId, String eventType, String data) {
+        return ServerSentEvent.<String>builder()
+                .id(String.valueOf(eventId))
+                .event(eventType)
+                .retry(RECONNECT_TIME)
+                .data(data)
+                .build();
+    }
+
+    // event type에 따라 다른 event name 설정
+    private static String eventType(DeploymentEvent event) {
+        return event.getType() != null ? event.getType() : "stage";
+    }
+
+    // 모든 이벤트 타입에 전체 데이터 전송 (stage, success, fail 모두), 그 외 타입은 data 없음(null)
+    private String serializeEventData(DeploymentEvent event, String eventType) throws JsonProcessingException {
+        if ("stage".equals(eventType) || "success".equals(eventType) || "fail".equals(eventType)) {
+            return objectMapper.writeValueAsString(event);
+        }
+        return null;
+    }
+
+    // connected 이벤트 프레임 (id 없이 전송 - 브라우저의 Last-Event-ID는 히스토리 이벤트만 추적)
+    private SseFrame buildControlFrame(String message) {
+        return SseFrame.event(null, "connected", serializeControlMessage(message));
+    }
+
+    private String serializeControlMessage(String message) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("message", message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize connected event", e);
+        }
+    }
+
     // "success" 이벤트 전송 (배포 완료)
     public void sendDoneEvent(String deploymentId, String message) {
         DeploymentEvent event = new DeploymentEvent();
@@ -102,26 +506,17 @@ public class DeploymentEventStore {
         event.setMessage(message);
 
         broadcastEvent(deploymentId, event);
+        markHistoryFinished(deploymentId);
 
         // 배포 결과 저장
         saveDeploymentResult(deploymentId, "COMPLETED");
 
         // 이벤트 전송 후 5초 후에 모든 연결 종료
-        new Thread(() -> {
-            try {
-                Thread.sleep(5000);
-                closeAllEmitters(deploymentId);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        scheduleClose(deploymentId);
     }
 
     // "deployment ready" 상태 전송 (배포 준비 완료, 수동 전환 대기)
     public void sendDeploymentReadyEvent(String deploymentId, Map<String, Object> details) {
-        // ✅ Deployment ready 이벤트 전에 connected 이벤트 먼저 전송
-        sendConnectedEvent(deploymentId);
-
         DeploymentEvent event = new DeploymentEvent();
         event.setType("stage");
         event.setMessage("Green environment is being prepared. This may take a few minutes.");
@@ -160,33 +555,36 @@ public class DeploymentEventStore {
         log.info("📤 [Error Event] type: fail, message: {}, details: {}", message, event.getDetails());
 
         broadcastEvent(deploymentId, event);
+        markHistoryFinished(deploymentId);
 
         // 배포 결과 저장
         saveDeploymentResult(deploymentId, "FAILED");
 
         // 에러 전송 후 5초 후에 모든 연결 종료
-        new Thread(() -> {
-            try {
-                Thread.sleep(5000);
-                closeAllEmitters(deploymentId);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        scheduleClose(deploymentId);
+    }
+
+    // 일정 시간 후 모든 SSE 클라이언트 연결 종료 (공용 스케줄러 사용)
+    private void scheduleClose(String deploymentId) {
+        try {
+            scheduler.schedule(() -> closeAllEmitters(deploymentId), CLOSE_DELAY_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            closeAllEmitters(deploymentId);
+        }
     }
 
     // 모든 SSE 클라이언트 연결 종료
     public void closeAllEmitters(String deploymentId) {
         // Keepalive 중지
         stopKeepalive(deploymentId);
-
-        List<SseEmitter> emitters = emitterMap.remove(deploymentId);
-        if (emitters != null) {
-            for (SseEmitter emitter : emitters) {
-                try {
-                    emitter.complete();
-                } catch (Exception e) {
-                    log.warn("Failed to complete emitter for deployment: {}", deploymentId, e);
+        completeReactiveSink(deploymentId);
+
+        List<SseSubscriber> subscribers = emitterMap.remove(deploymentId);
+        if (subscribers != null) {
+            synchronized (subscribers) {
+                // 큐에 남은 이벤트(success/fail 등)를 모두 보낸 뒤 종료
+                for (SseSubscriber subscriber : subscribers) {
+                    subscriber.completeAfterFlush();
                 }
             }
             log.info("All emitters closed for deployment: {}", deploymentId);
@@ -195,118 +593,124 @@ public class DeploymentEventStore {
 
     // 배포 이벤트 히스토리 조회 (신규 클라이언트가 기존 진행 상황을 받을 수 있도록)
     public List<DeploymentEvent> getEventHistory(String deploymentId) {
-        Queue<DeploymentEvent> events = eventHistoryMap.get(deploymentId);
-        return events != null ? new ArrayList<>(events) : new ArrayList<>();
+        DeploymentEventHistory history = eventHistoryMap.get(deploymentId);
+        return history != null ? history.snapshot() : Collections.emptyList();
     }
 
-    // 배포 결과 저장 (배포 완료/실패 시)
-    private void saveDeploymentResult(String deploymentId, String status) {
-        try {
-            log.info("Deployment result saved - deploymentId: {}, status: {}", deploymentId, status);
-        } catch (Exception e) {
-            log.error("Failed to save deployment result for deploymentId: {}", deploymentId, e);
+    private void markHistoryFinished(String deploymentId) {
+        DeploymentEventHistory history = eventHistoryMap.get(deploymentId);
+        if (history != null && !history.isFinished()) {
+            history.markFinished();
+            journal.appendHistoryFinished(deploymentId);
         }
     }
 
-    // Connected 이벤트 전송 (stage 이벤트 직전에 연결 상태 확인)
-    public void sendConnectedEvent(String deploymentId) {
-        List<SseEmitter> emitters = emitterMap.get(deploymentId);
-        if (emitters != null && !emitters.isEmpty()) {
-            List<SseEmitter> failedEmitters = new ArrayList<>();
-
-            for (SseEmitter emitter : emitters) {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .id(UUID.randomUUID().toString())
-                            .name("connected")
-                            .reconnectTime(3000)
-                            .data(Map.of("message", "SSE connection active")));
-                } catch (IOException e) {
-                    log.warn("Failed to send connected event to emitter for deployment: {}", deploymentId, e);
-                    failedEmitters.add(emitter);
+    // TTL이 지난 히스토리 정리 (완료/실패 후 finishedTtlMs, 또는 idleTtlMs 동안 이벤트 없음)
+    void evictExpiredHistories() {
+        try {
+            long now = System.currentTimeMillis();
+            int before = eventHistoryMap.size();
+            eventHistoryMap.entrySet().removeIf(entry -> {
+                DeploymentEventHistory history = entry.getValue();
+                boolean expired = (history.isFinished() && now - history.getFinishedAt() > finishedTtlMs)
+                        || now - history.getLastUpdatedAt() > idleTtlMs;
+                List<SseSubscriber> subscribers = emitterMap.get(entry.getKey());
+                Sinks.Many<SequencedEvent> sink = reactiveSinks.get(entry.getKey());
+                boolean remove = expired && (subscribers == null || subscribers.isEmpty())
+                        && (sink == null || sink.currentSubscriberCount() == 0);
+                if (remove) {
+                    journal.appendHistoryRemoved(entry.getKey());
+                    completeReactiveSink(entry.getKey());
+                }
+                return remove;
+            });
+
+            // 구독자가 모두 떠난 replay sink 정리 (다음 구독 시 히스토리로 다시 생성)
+            reactiveSinks.forEach((deploymentId, sink) -> {
+                if (sink.currentSubscriberCount() == 0 && reactiveSinks.remove(deploymentId, sink)) {
+                    synchronized (sink) {
+                        sink.tryEmitComplete();
+                    }
                 }
+            });
+            int evicted = before - eventHistoryMap.size();
+            if (evicted > 0) {
+                log.info("Evicted {} expired event histories, remaining: {}", evicted, eventHistoryMap.size());
             }
+        } catch (Exception e) {
+            log.error("Failed to evict expired event histories", e);
+        }
+    }
 
-            // 실패한 emitter 제거
-            for (SseEmitter failedEmitter : failedEmitters) {
-                removeEmitter(deploymentId, failedEmitter);
-            }
+    // 배포 결과 저장 (배포 완료/실패 시)
+    private void saveDeploymentResult(String deploymentId, String status) {
+        try {
+            log.info("Deployment result saved - deploymentId: {}, status: {}", deploymentId, status);
+        } catch (Exception e) {
+            log.error("Failed to save deployment result for deploymentId: {}", deploymentId, e);
         }
     }
 
     // Keepalive 시작 (주기적으로 주석 이벤트 전송하여 연결 유지)
     public void startKeepalive(String deploymentId) {
-        // 이미 keepalive가 실행 중이면 중복 시작 방지
-        if (keepaliveThreadMap.containsKey(deploymentId)) {
-            Thread existingThread = keepaliveThreadMap.get(deploymentId);
-            if (existingThread != null && existingThread.isAlive()) {
+        keepaliveTaskMap.compute(deploymentId, (id, existing) -> {
+            // 이미 keepalive가 실행 중이면 중복 시작 방지
+            if (existing != null && !existing.isDone()) {
                 log.debug("Keepalive already running for deployment: {}", deploymentId);
-                return;
+                return existing;
             }
-        }
-
-        Thread keepaliveThread = new Thread(() -> {
-            try {
-                while (!Thread.currentThread().isInterrupted()) {
-                    Thread.sleep(30000); // 30초마다 keepalive 전송
-
-                    List<SseEmitter> emitters = emitterMap.get(deploymentId);
-                    if (emitters == null || emitters.isEmpty()) {
-                        log.debug("No emitters found for deployment: {}, stopping keepalive", deploymentId);
-                        break;
-                    }
+            log.info("Keepalive started for deployment: {}", deploymentId);
+            return scheduler.scheduleWithFixedDelay(() -> sendKeepalive(deploymentId),
+                    KEEPALIVE_INTERVAL_MS, KEEPALIVE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        });
+    }
 
-                    List<SseEmitter> failedEmitters = new ArrayList<>();
-
-                    for (SseEmitter emitter : emitters) {
-                        try {
-                            // 주석 이벤트로 keepalive 전송 (프록시/로드밸런서가 연결을 끊지 않도록)
-                            emitter.send(SseEmitter.event()
-                                    .id(UUID.randomUUID().toString())
-                                    .comment("keepalive")  // 주석 이벤트는 클라이언트에서 무시됨
-                                    .reconnectTime(3000));
-                        } catch (IOException e) {
-                            log.debug("Failed to send keepalive to emitter for deployment: {}", deploymentId, e);
-                            failedEmitters.add(emitter);
-                        }
-                    }
+    // keepalive 1회 전송 (공용 스케줄러에서 실행)
+    private void sendKeepalive(String deploymentId) {
+        try {
+            List<SseSubscriber> subscribers = emitterMap.get(deploymentId);
+            if (subscribers == null || subscribers.isEmpty()) {
+                log.debug("No emitters found for deployment: {}, stopping keepalive", deploymentId);
+                stopKeepalive(deploymentId);
+                return;
+            }
 
-                    // 실패한 emitter 제거
-                    for (SseEmitter failedEmitter : failedEmitters) {
-                        removeEmitter(deploymentId, failedEmitter);
-                    }
+            // 주석 이벤트로 keepalive 전송 (프록시/로드밸런서가 연결을 끊지 않도록)
+            fanOut(deploymentId, KEEPALIVE_FRAME);
 
-                    // 모든 emitter가 제거되면 keepalive 종료
-                    if (emitters.isEmpty() || (emitters.size() == failedEmitters.size())) {
-                        log.debug("All emitters removed for deployment: {}, stopping keepalive", deploymentId);
-                        break;
-                    }
-                }
-            } catch (InterruptedException e) {
-                log.debug("Keepalive thread interrupted for deployment: {}", deploymentId);
-                Thread.currentThread().interrupt();
-            } catch (Exception e) {
-                log.error("Error in keepalive thread for deployment: {}", deploymentId, e);
-            } finally {
-                keepaliveThreadMap.remove(deploymentId);
-                log.debug("Keepalive thread stopped for deployment: {}", deploymentId);
-            }
-        });
+            // 모든 emitter가 제거되면 keepalive 종료
+            stopKeepaliveIfIdle(deploymentId);
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 주기 작업이 조용히 중단되므로 여기서 처리
+            log.error("Error in keepalive for deployment: {}", deploymentId, e);
+        }
+    }
 
-        keepaliveThread.setDaemon(true);
-        keepaliveThread.setName("SSE-Keepalive-" + deploymentId);
-        keepaliveThread.start();
-        keepaliveThreadMap.put(deploymentId, keepaliveThread);
-        log.info("Keepalive started for deployment: {}", deploymentId);
+    // 남은 emitter가 없을 때만 keepalive 중지
+    private void stopKeepaliveIfIdle(String deploymentId) {
+        List<SseSubscriber> subscribers = emitterMap.get(deploymentId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            stopKeepalive(deploymentId);
+        }
     }
 
     // Keepalive 중지
     public void stopKeepalive(String deploymentId) {
-        Thread keepaliveThread = keepaliveThreadMap.remove(deploymentId);
-        if (keepaliveThread != null && keepaliveThread.isAlive()) {
-            keepaliveThread.interrupt();
+        ScheduledFuture<?> keepaliveTask = keepaliveTaskMap.remove(deploymentId);
+        if (keepaliveTask != null) {
+            keepaliveTask.cancel(false);
             log.debug("Keepalive stopped for deployment: {}", deploymentId);
         }
     }
 
+    // 리액티브 sink 항목 (Last-Event-ID 비교용 시퀀스 + 미리 만든 ServerSentEvent)
+    private static class SequencedEvent {
+        private final long sequence;
+        private final ServerSentEvent<String> event;
+
+        private SequencedEvent(long sequence, ServerSentEvent<String> event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
+    }
 }
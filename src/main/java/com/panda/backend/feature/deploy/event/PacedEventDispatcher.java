@@ -0,0 +1,145 @@
+package com.panda.backend.feature.deploy.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포별 순서 보장 + 간격 조절 이벤트 발행기
+ *
+ * 동작 방식:
+ * 1. 배포마다 발행 대기열(Lane)을 두고, 들어온 순서대로 발행
+ * 2. dispatchPaced()로 넣은 이벤트는 직전 발행 후 최소 paceMs가 지난 뒤 발행 (UI 단계 표시 간격 유지)
+ * 3. dispatch()로 넣은 이벤트는 간격 없이 발행하되, 앞에 대기 중인 이벤트를 추월하지 않음
+ *
+ * → 호출 스레드(폴링 워커)는 대기열에 넣기만 하고 바로 반환하므로 한 번의 폴링에서
+ *   여러 단계 전환을 발견해도 분석 지연이 늘어나지 않음
+ */
+@Slf4j
+@Component
+public class PacedEventDispatcher {
+
+    @Value("${panda.events.stage-pacing-ms:500}")
+    private long paceMs;
+
+    // 발행 작업은 큐에 넣는 것뿐이라 가벼우므로 단일 스레드로 모든 배포를 처리 (발행 순서도 자연히 보장)
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "SSE-Pacer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // deploymentId -> 발행 대기열 (모든 변경은 compute 계열로 원자적으로 처리)
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // 순서만 보장하고 즉시 발행
+    public void dispatch(String deploymentId, Runnable publish) {
+        enqueue(deploymentId, new PendingEvent(publish, false));
+    }
+
+    // 순서 보장 + 직전 발행과 최소 paceMs 간격 유지
+    public void dispatchPaced(String deploymentId, Runnable publish) {
+        enqueue(deploymentId, new PendingEvent(publish, true));
+    }
+
+    private void enqueue(String deploymentId, PendingEvent event) {
+        boolean[] wasEmpty = new boolean[1];
+        lanes.compute(deploymentId, (id, lane) -> {
+            if (lane == null) {
+                lane = new Lane();
+            }
+            wasEmpty[0] = lane.pending.isEmpty();
+            lane.pending.add(event);
+            return lane;
+        });
+
+        // 대기열이 비어 있었으면 drain 시작 (이미 대기 중인 이벤트가 있으면 기존 drain이 이어서 처리)
+        if (wasEmpty[0]) {
+            schedule(deploymentId, 0);
+        }
+    }
+
+    private void schedule(String deploymentId, long delayMs) {
+        try {
+            scheduler.schedule(() -> drain(deploymentId), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Event dispatcher is shut down, dropping pending events for deployment: {}", deploymentId);
+            lanes.remove(deploymentId);
+        }
+    }
+
+    // 발행 시점이 된 이벤트를 순서대로 실행 (단일 스케줄러 스레드에서만 실행)
+    private void drain(String deploymentId) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            PendingEvent[] next = new PendingEvent[1];
+            long[] waitMs = new long[1];
+
+            lanes.computeIfPresent(deploymentId, (id, lane) -> {
+                PendingEvent head = lane.pending.peek();
+                if (head == null) {
+                    // 간격 유지가 더 이상 필요 없으면 대기열 정리, 아니면 남은 시간 뒤 다시 확인
+                    long remaining = lane.lastPublishedAt + paceMs - now;
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    waitMs[0] = remaining;
+                    return lane;
+                }
+
+                long remaining = head.paced ? lane.lastPublishedAt + paceMs - now : 0;
+                if (remaining > 0) {
+                    waitMs[0] = remaining;
+                    return lane;
+                }
+
+                next[0] = lane.pending.poll();
+                lane.lastPublishedAt = now;
+                return lane;
+            });
+
+            if (next[0] == null) {
+                if (waitMs[0] > 0) {
+                    schedule(deploymentId, waitMs[0]);
+                }
+                return;
+            }
+
+            try {
+                next[0].publish.run();
+            } catch (Exception e) {
+                log.error("Failed to publish event for deployment: {}", deploymentId, e);
+            }
+        }
+    }
+
+    private static class Lane {
+        private final Deque<PendingEvent> pending = new ArrayDeque<>();
+        private long lastPublishedAt = 0L;
+    }
+
+    private static class PendingEvent {
+        private final Runnable publish;
+        private final boolean paced;
+
+        private PendingEvent(Runnable publish, boolean paced) {
+            this.publish = publish;
+            this.paced = paced;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.panda.backend.feature.deploy.event;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 미리 인코딩된 SSE 프레임 (불변)
+ *
+ * - 이벤트 1건을 SSE 텍스트("id:..", "event:..", "data:..")로 한 번만 직렬화해 바이트로 보관
+ * - 구독자 수만큼 Jackson 직렬화를 반복하지 않고 같은 바이트를 그대로 전송
+ */
+public final class SseFrame {
+
+    private static final long RECONNECT_TIME_MS = 3000;  // 재연결 시간 단축 (5초 -> 3초)
+
+    private static final MediaType EVENT_STREAM_UTF8 = new MediaType(MediaType.TEXT_EVENT_STREAM, StandardCharsets.UTF_8);
+
+    private final byte[] bytes;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> items;
+
+    private SseFrame(byte[] bytes) {
+        this.bytes = bytes;
+        this.items = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, EVENT_STREAM_UTF8));
+    }
+
+    private SseFrame(String text) {
+        this(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 이벤트 프레임 생성
+     *
+     * @param id 이벤트 ID (null이면 id 없이 전송 - 브라우저의 Last-Event-ID에 영향 없음)
+     * @param name 이벤트 이름
+     * @param jsonData JSON 직렬화된 데이터 (null이면 data 없이 전송)
+     */
+    public static SseFrame event(Long id, String name, String jsonData) {
+        StringBuilder sb = new StringBuilder();
+        if (id != null) {
+            sb.append("id:").append(id).append('\n');
+        }
+        sb.append("event:").append(name).append('\n');
+        sb.append("retry:").append(RECONNECT_TIME_MS).append('\n');
+        if (jsonData != null) {
+            sb.append("data:").append(jsonData).append('\n');
+        }
+        sb.append('\n');
+        return new SseFrame(sb.toString());
+    }
+
+    // 주석 프레임 (클라이언트에서 무시됨, 프록시/로드밸런서 연결 유지용)
+    public static SseFrame comment(String comment) {
+        return new SseFrame(":" + comment + "\nretry:" + RECONNECT_TIME_MS + "\n\n");
+    }
+
+    void writeTo(SseEmitter emitter) throws IOException {
+        emitter.send(items);
+    }
+
+    /**
+     * 여러 프레임을 하나로 이어 붙여 한 번의 write + flush로 전송
+     */
+    static void writeBatch(SseEmitter emitter, List<SseFrame> frames) throws IOException {
+        if (frames.size() == 1) {
+            frames.get(0).writeTo(emitter);
+            return;
+        }
+
+        int totalLength = 0;
+        for (SseFrame frame : frames) {
+            totalLength += frame.bytes.length;
+        }
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(totalLength);
+        for (SseFrame frame : frames) {
+            batch.write(frame.bytes, 0, frame.bytes.length);
+        }
+        new SseFrame(batch.toByteArray()).writeTo(emitter);
+    }
+}
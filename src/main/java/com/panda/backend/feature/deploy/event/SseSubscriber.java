@@ -0,0 +1,250 @@
+package com.panda.backend.feature.deploy.event;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * SSE 구독자 1명 (emitter + 전송 대기 큐)
+ *
+ * - broadcastEvent는 큐에 넣기만 하고 즉시 반환 (소켓 쓰기는 writer 스레드에서 비동기 처리)
+ * - 구독자별로 한 번에 하나의 drain 작업만 실행되어 전송 순서 보장
+ * - 짧은 병합 구간(coalesceWindowMs) 동안 쌓인 프레임을 하나로 묶어 한 번의 write + flush로 전송
+ * - 큐가 가득 차면 offer가 false를 반환 → DeploymentEventStore가 느린 구독자로 보고 연결 종료
+ *   (클라이언트는 Last-Event-ID로 재연결해 놓친 이벤트를 히스토리에서 복구)
+ * - 소켓 쓰기가 마감 시간(write deadline)을 넘기면 expireStalledWrite()가 비동기 요청(AsyncContext)을 종료
+ * - 종료(complete)는 별도 작업으로 제출하지 않고, 진행 중인 drain이 있으면 그 drain이 끝날 때 처리
+ */
+@Slf4j
+public class SseSubscriber {
+
+    @Getter
+    private final SseEmitter emitter;
+
+    // 한 번에 묶어 보낼 최대 프레임 수
+    private static final int MAX_BATCH_FRAMES = 64;
+
+    private final BlockingQueue<SseFrame> queue;
+    private final Executor writer;
+    private final ScheduledExecutorService scheduler;
+    private final long coalesceWindowMs;
+    private final Consumer<SseSubscriber> onWriteFailure;
+
+    // 이 구독의 HTTP 요청 (마감 시간 초과 시 비동기 요청 종료용, 요청 밖에서 만든 구독자는 null)
+    private final HttpServletRequest request;
+    // 요청 객체는 요청이 끝나면 재사용되므로, 쓰기 중(요청이 살아 있는 동안)에 꺼낸 AsyncContext만 보관
+    private volatile AsyncContext asyncContext;
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+    private volatile boolean completeRequested = false;
+    private volatile Throwable failure;
+
+    // 진행 중인 소켓 쓰기 (시작 시각 0이면 쓰기 중 아님)
+    private volatile long writeStartedAt = 0;
+
+    public SseSubscriber(SseEmitter emitter, int queueCapacity, Executor writer,
+                         ScheduledExecutorService scheduler, long coalesceWindowMs,
+                         Consumer<SseSubscriber> onWriteFailure, HttpServletRequest request) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = writer;
+        this.scheduler = scheduler;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.onWriteFailure = onWriteFailure;
+        this.request = request;
+    }
+
+    /**
+     * 프레임 전송 예약
+     *
+     * @return 큐가 가득 찼거나 이미 닫힌 경우 false
+     */
+    public boolean offer(SseFrame frame) {
+        if (closed || !queue.offer(frame)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    // 대기 중인 프레임을 모두 보낸 뒤 연결 종료
+    public void completeAfterFlush() {
+        completeRequested = true;
+        scheduleDrain();
+    }
+
+    // 대기 중인 프레임을 버리고 즉시 종료 (느린 구독자 제거)
+    public void evict() {
+        closed = true;
+        queue.clear();
+        // drain 중이면 소켓 쓰기가 emitter 락을 잡고 있을 수 있으므로 drain이 끝날 때 종료
+        // (complete()를 별도 스레드에 맡겨 락 대기로 스레드를 붙잡지 않음)
+        if (draining.compareAndSet(false, true)) {
+            try {
+                completeOnce();
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 소켓 쓰기가 writeTimeoutMs를 넘겼으면 구독자를 에러로 종료 (스케줄러에서 호출)
+     *
+     * Tomcat NIO의 블로킹 write는 인터럽트로 풀리지 않으므로 비동기 요청(AsyncContext)을 직접 종료해 연결을 정리
+     * → 막혀 있던 write가 IOException으로 빠져나오면 drain이 emitter를 completeWithError로 종료
+     * emitter.completeWithError()는 쓰기 중인 send()와 같은 락을 기다리므로 스케줄러에서 호출하지 않음
+     *
+     * @return 이번 호출로 종료했으면 true
+     */
+    public boolean expireStalledWrite(long now, long writeTimeoutMs) {
+        long started = writeStartedAt;
+        if (closed || started == 0 || now - started < writeTimeoutMs) {
+            return false;
+        }
+        failure = new IOException("SSE write timed out after " + writeTimeoutMs + "ms");
+        closed = true;
+        queue.clear();
+
+        AsyncContext context = asyncContext;
+        if (context != null) {
+            try {
+                context.complete();
+            } catch (IllegalStateException e) {
+                // 이미 끝난 요청 (쓰기 실패로 drain이 곧 emitter를 종료함)
+                log.debug("Async request already completed for stalled SSE subscriber", e);
+            }
+        }
+        return true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (coalesceWindowMs > 0) {
+                // 병합 구간 동안 이어서 들어오는 프레임을 모아 한 번에 전송
+                scheduler.schedule(this::submitDrain, coalesceWindowMs, TimeUnit.MILLISECONDS);
+            } else {
+                writer.execute(this::drain);
+            }
+        } catch (RejectedExecutionException e) {
+            rejectDrain();
+        }
+    }
+
+    private void submitDrain() {
+        try {
+            writer.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            rejectDrain();
+        }
+    }
+
+    private void rejectDrain() {
+        log.warn("SSE writer rejected drain task, closing subscriber");
+        if (failure == null) {
+            failure = new IOException("SSE writer queue is full");
+        }
+        closed = true;
+        queue.clear();
+        onWriteFailure.accept(this);
+        // drain 권한(draining)을 가진 상태이므로 진행 중인 쓰기 없이 바로 종료
+        try {
+            completeOnce();
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            List<SseFrame> batch = new ArrayList<>();
+            while (!closed && queue.drainTo(batch, MAX_BATCH_FRAMES) > 0) {
+                bindAsyncContext();
+                writeStartedAt = System.currentTimeMillis();
+                try {
+                    SseFrame.writeBatch(emitter, batch);
+                } finally {
+                    writeStartedAt = 0;
+                }
+                batch.clear();
+            }
+            if (completeRequested && !closed) {
+                closed = true;
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to write SSE frame, closing subscriber", e);
+            if (failure == null) {
+                failure = e;
+            }
+            closed = true;
+            queue.clear();
+            onWriteFailure.accept(this);
+        } finally {
+            draining.set(false);
+            if (closed) {
+                completeOnce();
+            } else if (!queue.isEmpty() || completeRequested) {
+                // drain 종료 직전에 들어온 프레임 처리
+                scheduleDrain();
+            }
+        }
+    }
+
+    // 비동기 처리가 시작된 뒤 첫 쓰기에서 AsyncContext 확보 (emitter가 열려 있는 동안에만 요청 객체에 접근)
+    private void bindAsyncContext() {
+        if (asyncContext != null || request == null || completed.get()) {
+            return;
+        }
+        try {
+            if (request.isAsyncStarted()) {
+                asyncContext = request.getAsyncContext();
+            }
+        } catch (IllegalStateException e) {
+            log.debug("Async context not available for SSE subscriber", e);
+        }
+    }
+
+    // emitter 종료는 한 번만 (쓰기 실패/마감 초과면 에러로 종료)
+    private void completeOnce() {
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Throwable error = failure;
+            if (error != null) {
+                emitter.completeWithError(error);
+            } else {
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            log.debug("Failed to complete SSE emitter", e);
+        }
+    }
+}
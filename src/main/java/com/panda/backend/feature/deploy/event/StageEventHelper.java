@@ -53,6 +53,14 @@ public class StageEventHelper {
         publishProgress("Docker build in progress: " + message);
     }
 
+    public void stage1BuildStep(int step, int totalSteps, String instruction) {
+        publishProgress(String.format("Docker build step %d/%d: %s", step, totalSteps, instruction), Map.of(
+                "step", step,
+                "totalSteps", totalSteps,
+                "instruction", instruction
+        ));
+    }
+
     public void stage1BuildCompleted(String imageName) {
         publishProgress("Docker image build completed", Map.of(
                 "imageName", imageName
@@ -86,10 +94,26 @@ public class StageEventHelper {
         publishProgress("Push in progress: " + message);
     }
 
+    public void stage2LayerPushed(String layerId, int pushedLayers, int totalLayers) {
+        publishProgress(String.format("Layer pushed (%d/%d): %s", pushedLayers, totalLayers, layerId), Map.of(
+                "layerId", layerId,
+                "pushedLayers", pushedLayers,
+                "totalLayers", totalLayers
+        ));
+    }
+
     public void stage2PushCompleted(String ecrImageUri) {
         publishProgress("Image push completed", Map.of("uri", ecrImageUri));
     }
 
+    public void stage2ImageReused(String ecrImageUri, String commitSha) {
+        updateStage(2, "Image for this commit already exists in ECR, skipping build and push");
+        publishProgress("Existing image reused", Map.of(
+                "uri", ecrImageUri,
+                "commitSha", commitSha
+        ));
+    }
+
     /**
      * Stage 3: ECS 배포 시작
      */
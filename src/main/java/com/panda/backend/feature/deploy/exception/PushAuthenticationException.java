@@ -0,0 +1,11 @@
+package com.panda.backend.feature.deploy.exception;
+
+/**
+ * 푸시 이벤트 인증 실패 (X-Panda-Push-Key 누락/불일치)
+ */
+public class PushAuthenticationException extends RuntimeException {
+
+    public PushAuthenticationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,264 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import com.panda.backend.feature.connect.entity.AwsConnection;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.codedeploy.CodeDeployClient;
+import software.amazon.awssdk.services.ecr.EcrClient;
+import software.amazon.awssdk.services.ecs.EcsAsyncClient;
+import software.amazon.awssdk.services.ecs.EcsClient;
+import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2AsyncClient;
+import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.iam.IamClient;
+import software.amazon.awssdk.services.lambda.LambdaClient;
+import software.amazon.awssdk.services.sts.StsClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 사용자 AWS 자격증명별 SDK 클라이언트 풀
+ *
+ * - (서비스, 리전, 자격증명 fingerprint) 조합마다 클라이언트를 하나만 만들어 재사용
+ *   → 호출마다 HTTP 커넥션 풀 생성/TLS 핸드셰이크를 반복하지 않음
+ * - 같은 Access Key의 자격증명이 바뀌면(세션 토큰 갱신 등) 이전 클라이언트는 유예 시간 후 종료
+ * - idleTtlMs 동안 사용되지 않은 클라이언트는 주기적으로 종료
+ * - *Async 메서드는 Netty 기반 비동기 클라이언트를 반환 (소수의 이벤트 루프 스레드로 다수의 호출 처리)
+ *
+ * 풀에서 받은 클라이언트는 호출하는 쪽에서 close()하면 안 됨 (수명은 풀이 관리)
+ */
+@Slf4j
+@Component
+public class AwsClientPool {
+
+    // 자격증명 교체 후 이전 클라이언트를 닫기까지 대기 (진행 중인 호출 보호)
+    private static final long ROTATED_CLIENT_GRACE_MS = 60000;
+
+    @Value("${aws.client-pool.idle-ttl-ms:600000}")
+    private long idleTtlMs;
+
+    @Value("${aws.client-pool.eviction-interval-ms:60000}")
+    private long evictionIntervalMs;
+
+    // "service|region|accessKeyId|fingerprint" -> 클라이언트
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+    // "service|region|accessKeyId" -> 현재 사용 중인 자격증명 fingerprint (교체 감지용)
+    private final Map<String, String> currentFingerprints = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "aws-client-pool-evictor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PostConstruct
+    void startEviction() {
+        evictor.scheduleWithFixedDelay(this::evictIdleClients,
+            evictionIntervalMs, evictionIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        evictor.shutdownNow();
+        clients.values().forEach(this::closeQuietly);
+        clients.clear();
+    }
+
+    public EcsClient ecs(AwsConnection awsConnection) {
+        return get("ecs", awsConnection, provider -> EcsClient.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    public ElasticLoadBalancingV2Client elb(AwsConnection awsConnection) {
+        return get("elbv2", awsConnection, provider -> ElasticLoadBalancingV2Client.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    public EcsAsyncClient ecsAsync(AwsConnection awsConnection) {
+        return get("ecs-async", awsConnection, provider -> EcsAsyncClient.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    public ElasticLoadBalancingV2AsyncClient elbAsync(AwsConnection awsConnection) {
+        return get("elbv2-async", awsConnection, provider -> ElasticLoadBalancingV2AsyncClient.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    public LambdaClient lambda(AwsConnection awsConnection) {
+        return get("lambda", awsConnection, provider -> LambdaClient.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    public StsClient sts(AwsConnection awsConnection) {
+        return get("sts", awsConnection, provider -> StsClient.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    public EcrClient ecr(AwsConnection awsConnection) {
+        return get("ecr", awsConnection, provider -> EcrClient.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    public CodeDeployClient codeDeploy(AwsConnection awsConnection) {
+        return get("codedeploy", awsConnection, provider -> CodeDeployClient.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    public EventBridgeClient eventBridge(AwsConnection awsConnection) {
+        return get("eventbridge", awsConnection, provider -> EventBridgeClient.builder()
+            .region(Region.of(awsConnection.getRegion()))
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    // IAM은 글로벌 서비스이므로 리전 없이 생성 (기존 동작 유지)
+    public IamClient iam(AwsConnection awsConnection) {
+        return get("iam", "global", awsConnection, provider -> IamClient.builder()
+            .credentialsProvider(provider)
+            .build());
+    }
+
+    private <T extends SdkClient> T get(String service, AwsConnection awsConnection,
+                                        Function<StaticCredentialsProvider, T> factory) {
+        return get(service, awsConnection.getRegion(), awsConnection, factory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends SdkClient> T get(String service, String region, AwsConnection awsConnection,
+                                        Function<StaticCredentialsProvider, T> factory) {
+        String prefix = service + "|" + region + "|" + awsConnection.getAccessKeyId();
+        String fingerprint = fingerprint(awsConnection);
+        String key = prefix + "|" + fingerprint;
+
+        // 같은 Access Key의 자격증명이 바뀌었으면 이전 클라이언트 폐기
+        String previousFingerprint = currentFingerprints.put(prefix, fingerprint);
+        if (previousFingerprint != null && !previousFingerprint.equals(fingerprint)) {
+            PooledClient previous = clients.remove(prefix + "|" + previousFingerprint);
+            if (previous != null) {
+                log.info("AWS credentials rotated, retiring {} client for region {}", service, region);
+                retire(previous);
+            }
+        }
+
+        PooledClient pooled = clients.compute(key, (k, existing) -> {
+            if (existing != null) {
+                existing.lastUsedAt = System.currentTimeMillis();
+                return existing;
+            }
+            log.debug("Creating pooled {} client for region {}", service, region);
+            return new PooledClient(factory.apply(StaticCredentialsProvider.create(toCredentials(awsConnection))));
+        });
+        return (T) pooled.client;
+    }
+
+    // idleTtlMs 동안 사용되지 않은 클라이언트 종료
+    void evictIdleClients() {
+        try {
+            long now = System.currentTimeMillis();
+            for (String key : clients.keySet()) {
+                clients.computeIfPresent(key, (k, pooled) -> {
+                    if (now - pooled.lastUsedAt <= idleTtlMs) {
+                        return pooled;
+                    }
+                    closeQuietly(pooled);
+                    return null;
+                });
+            }
+            // 클라이언트가 모두 사라진 fingerprint 기록 정리
+            currentFingerprints.entrySet().removeIf(entry ->
+                !clients.containsKey(entry.getKey() + "|" + entry.getValue()));
+        } catch (Exception e) {
+            log.error("Failed to evict idle AWS clients", e);
+        }
+    }
+
+    // 진행 중인 호출이 끝날 수 있도록 유예 시간 후 종료
+    private void retire(PooledClient pooled) {
+        try {
+            evictor.schedule(() -> closeQuietly(pooled), ROTATED_CLIENT_GRACE_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            closeQuietly(pooled);
+        }
+    }
+
+    private void closeQuietly(PooledClient pooled) {
+        try {
+            pooled.client.close();
+        } catch (Exception e) {
+            log.debug("Failed to close pooled AWS client", e);
+        }
+    }
+
+    // 세션 토큰이 있으면 AwsSessionCredentials, 없으면 AwsBasicCredentials 사용
+    private static AwsCredentials toCredentials(AwsConnection awsConnection) {
+        if (awsConnection.getSessionToken() != null && !awsConnection.getSessionToken().isEmpty()) {
+            return AwsSessionCredentials.create(
+                awsConnection.getAccessKeyId(),
+                awsConnection.getSecretAccessKey(),
+                awsConnection.getSessionToken()
+            );
+        }
+        return AwsBasicCredentials.create(
+            awsConnection.getAccessKeyId(),
+            awsConnection.getSecretAccessKey()
+        );
+    }
+
+    // 비밀 값을 키에 그대로 두지 않도록 해시로 구분
+    private static String fingerprint(AwsConnection awsConnection) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(awsConnection.getSecretAccessKey()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(awsConnection.getSessionToken()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class PooledClient {
+        private final SdkClient client;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        private PooledClient(SdkClient client) {
+            this.client = client;
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.panda.backend.feature.deploy.dto.DeploymentResult;
+import com.panda.backend.feature.deploy.dto.PollingCheckpoint;
+import com.panda.backend.feature.deploy.event.DeploymentEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 배포 결과(DeploymentResult), 이벤트 히스토리(DeploymentEvent),
+ * Step Functions 폴링 체크포인트(PollingCheckpoint)를 디스크에 남기는 append-only 저널
+ *
+ * 동작 방식:
+ * 1. 변경이 생길 때마다 레코드를 활성 세그먼트(메모리 매핑 파일)에 덧붙임
+ * 2. 세그먼트가 가득 차면 다음 세그먼트 파일로 넘어감 (이전 세그먼트는 이후 변경되지 않음)
+ * 3. 재시작 시 세그먼트를 순서대로 읽어 DeploymentResultStore / DeploymentEventStore 상태 복구,
+ *    StepFunctionsPollingService는 종료되지 않은 폴링 세션을 마지막 체크포인트부터 재개
+ * 4. 닫힌 세그먼트가 쌓이면 최종 상태만 남긴 하나의 세그먼트로 압축 (BASE 레코드로 시작)
+ *    → 복구는 마지막 BASE 세그먼트부터만 읽으면 되므로 시작 시간이 저널 길이와 무관
+ *
+ * 레코드 형식: [int 길이][int CRC32][byte 타입][long 시간][long 시퀀스][short 키 길이][키][본문]
+ * 쓰다가 중단된 레코드는 CRC가 맞지 않으므로 복구 시 그 지점에서 세그먼트 읽기를 멈춤
+ *
+ * 설정:
+ * - 기본값은 꺼짐 (panda.journal.enabled=true로 켬)
+ * - 저장 위치는 panda.journal.dir (기본 /var/lib/panda/journal, 절대 경로 권장)
+ *   컨테이너에서는 이 경로가 VOLUME으로 선언되어 있으므로 재시작 후에도 남도록 볼륨을 마운트해야 함
+ *
+ * NOTE: AWS 자격증명 필드는 디스크에 남기지 않음 (복구된 결과에는 자격증명이 없음)
+ * → 재시작 전에 DEPLOYMENT_READY였던 배포를 재시작 후 전환(/switch)하려면
+ *   AWS 연결을 다시 조회해 자격증명을 채워야 함 (그대로 호출하면 "AWS 연결 정보가 없습니다"로 거절됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeploymentJournal {
+
+    private static final byte TYPE_BASE = 0;
+    private static final byte TYPE_RESULT = 1;
+    private static final byte TYPE_RESULT_REMOVED = 2;
+    private static final byte TYPE_EVENT = 3;
+    private static final byte TYPE_HISTORY_FINISHED = 4;
+    private static final byte TYPE_HISTORY_REMOVED = 5;
+    private static final byte TYPE_POLLING_CHECKPOINT = 6;
+    private static final byte TYPE_POLLING_FINISHED = 7;
+
+    // [int 길이][int CRC32]
+    private static final int FRAME_HEADER = 8;
+    // [byte 타입][long 시간][long 시퀀스][short 키 길이]
+    private static final int RECORD_HEADER = 1 + 8 + 8 + 2;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private static final String[] CREDENTIAL_FIELDS = {"awsAccessKeyId", "awsSecretAccessKey", "awsSessionToken"};
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${panda.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${panda.journal.dir:/var/lib/panda/journal}")
+    private String directory;
+
+    @Value("${panda.journal.segment-size-bytes:16777216}")
+    private int segmentSizeBytes;
+
+    @Value("${panda.journal.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${panda.journal.compaction-interval-ms:300000}")
+    private long compactionIntervalMs;
+
+    // 닫힌 세그먼트가 이 개수 이상이면 압축
+    @Value("${panda.journal.compaction-min-segments:4}")
+    private int compactionMinSegments;
+
+    // 압축 시 배포별로 남길 이벤트 수 (DeploymentEventStore 히스토리 크기와 동일)
+    @Value("${panda.events.history-capacity:256}")
+    private int historyCapacity;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "deployment-journal");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private Path segmentDir;
+
+    // 시작 시점에 있던 세그먼트 (복구 대상)
+    private List<Path> recoverySegments = List.of();
+
+    // 활성 세그먼트 (쓰기는 모두 this 락 안에서)
+    private Path activePath;
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+    private long nextSegmentNumber;
+    private boolean dirty;
+
+    private volatile boolean available;
+
+    /**
+     * 저널 복구 콜백 (필요한 레코드 타입만 구현)
+     */
+    public interface ReplayHandler {
+        default void onResult(DeploymentResult result) {
+        }
+
+        default void onResultRemoved(String deploymentId) {
+        }
+
+        default void onEvent(String deploymentId, long sequence, DeploymentEvent event, long timestamp) {
+        }
+
+        default void onHistoryFinished(String deploymentId, long timestamp) {
+        }
+
+        default void onHistoryRemoved(String deploymentId) {
+        }
+
+        default void onPollingCheckpoint(PollingCheckpoint checkpoint) {
+        }
+
+        default void onPollingFinished(String deploymentId) {
+        }
+    }
+
+    @PostConstruct
+    void open() {
+        if (!enabled) {
+            log.info("Deployment journal disabled");
+            return;
+        }
+
+        try {
+            segmentDir = Paths.get(directory);
+            Files.createDirectories(segmentDir);
+
+            // 압축 도중 중단된 임시 파일 정리
+            try (Stream<Path> files = Files.list(segmentDir)) {
+                for (Path leftover : files.filter(p -> p.getFileName().toString().endsWith(COMPACTING_SUFFIX)).toList()) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+
+            // 마지막 BASE 세그먼트 이전은 이미 압축에 반영되었으므로 삭제
+            List<Path> segments = listSegments();
+            int baseIndex = lastBaseIndex(segments);
+            for (Path obsolete : segments.subList(0, baseIndex)) {
+                Files.deleteIfExists(obsolete);
+            }
+            recoverySegments = List.copyOf(segments.subList(baseIndex, segments.size()));
+            nextSegmentNumber = segments.isEmpty() ? 1 : segmentNumber(segments.get(segments.size() - 1)) + 1;
+
+            synchronized (this) {
+                rollSegment(0);
+            }
+            available = true;
+
+            scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+            scheduler.scheduleWithFixedDelay(this::compactIfNeeded,
+                compactionIntervalMs, compactionIntervalMs, TimeUnit.MILLISECONDS);
+
+            log.info("Deployment journal opened - dir: {}, segments to recover: {}", segmentDir, recoverySegments.size());
+        } catch (IOException e) {
+            log.error("Failed to open deployment journal, running without persistence - dir: {}", directory, e);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        scheduler.shutdownNow();
+        synchronized (this) {
+            available = false;
+            try {
+                closeActive();
+            } catch (IOException e) {
+                log.warn("Failed to close deployment journal segment: {}", activePath, e);
+            }
+        }
+    }
+
+    public void appendResult(DeploymentResult result) {
+        if (!available) {
+            return;
+        }
+        try {
+            // 자격증명은 디스크에 남기지 않음
+            ObjectNode node = objectMapper.valueToTree(result);
+            node.remove(List.of(CREDENTIAL_FIELDS));
+            append(TYPE_RESULT, result.getDeploymentId(), 0L, objectMapper.writeValueAsBytes(node));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("Failed to journal deployment result - deploymentId: {}", result.getDeploymentId(), e);
+        }
+    }
+
+    public void appendResultRemoved(String deploymentId) {
+        append(TYPE_RESULT_REMOVED, deploymentId, 0L, new byte[0]);
+    }
+
+    public void appendEvent(String deploymentId, long sequence, DeploymentEvent event) {
+        if (!available) {
+            return;
+        }
+        try {
+            append(TYPE_EVENT, deploymentId, sequence, objectMapper.writeValueAsBytes(event));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to journal deployment event - deploymentId: {}, sequence: {}", deploymentId, sequence, e);
+        }
+    }
+
+    public void appendHistoryFinished(String deploymentId) {
+        append(TYPE_HISTORY_FINISHED, deploymentId, 0L, new byte[0]);
+    }
+
+    public void appendHistoryRemoved(String deploymentId) {
+        append(TYPE_HISTORY_REMOVED, deploymentId, 0L, new byte[0]);
+    }
+
+    public void appendPollingCheckpoint(PollingCheckpoint checkpoint) {
+        if (!available) {
+            return;
+        }
+        try {
+            append(TYPE_POLLING_CHECKPOINT, checkpoint.getDeploymentId(), 0L, objectMapper.writeValueAsBytes(checkpoint));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to journal polling checkpoint - deploymentId: {}", checkpoint.getDeploymentId(), e);
+        }
+    }
+
+    public void appendPollingFinished(String deploymentId) {
+        append(TYPE_POLLING_FINISHED, deploymentId, 0L, new byte[0]);
+    }
+
+    /**
+     * 시작 시점의 세그먼트를 순서대로 읽어 handler로 전달
+     */
+    public void replay(ReplayHandler handler) {
+        if (!available) {
+            return;
+        }
+
+        int records = 0;
+        for (Path segment : recoverySegments) {
+            try {
+                records += readSegment(segment, record -> dispatch(record, handler));
+            } catch (IOException e) {
+                log.error("Failed to read journal segment: {}", segment, e);
+            }
+        }
+        log.debug("Replayed {} journal records from {} segment(s)", records, recoverySegments.size());
+    }
+
+    private synchronized void append(byte type, String key, long sequence, byte[] body) {
+        if (!available) {
+            return;
+        }
+        byte[] frame = encode(type, System.currentTimeMillis(), sequence, key, body);
+        try {
+            if (activeBuffer.remaining() < frame.length) {
+                rollSegment(frame.length);
+            }
+            activeBuffer.put(frame);
+            dirty = true;
+        } catch (IOException e) {
+            log.error("Failed to append journal record - type: {}, key: {}", type, key, e);
+        }
+    }
+
+    // 주기적으로 디스크에 반영 (레코드마다 force하지 않음)
+    private synchronized void flush() {
+        if (!available || !dirty) {
+            return;
+        }
+        activeBuffer.force();
+        dirty = false;
+    }
+
+    // 현재 세그먼트를 닫고 새 세그먼트 시작 (record가 기본 크기보다 크면 그만큼 매핑)
+    private void rollSegment(int minSize) throws IOException {
+        closeActive();
+        activePath = segmentDir.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, nextSegmentNumber++, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(activePath,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSizeBytes, minSize));
+        dirty = false;
+    }
+
+    private void closeActive() throws IOException {
+        if (activeChannel == null) {
+            return;
+        }
+        int written = activeBuffer.position();
+        activeBuffer.force();
+        try {
+            // 매핑으로 늘어난 뒷부분(0으로 채워진 영역) 잘라냄
+            activeChannel.truncate(written);
+        } catch (IOException e) {
+            log.debug("Failed to truncate journal segment: {}", activePath, e);
+        }
+        activeChannel.close();
+        if (written == 0) {
+            Files.deleteIfExists(activePath);
+        }
+        activeChannel = null;
+        activeBuffer = null;
+    }
+
+    /**
+     * 닫힌 세그먼트를 최종 상태만 남긴 하나의 세그먼트로 압축
+     *
+     * 닫힌 세그먼트는 더 이상 쓰이지 않으므로 쓰기 락 없이 진행
+     * (압축 결과는 마지막 닫힌 세그먼트 파일을 원자적으로 교체하고 BASE 레코드로 시작)
+     */
+    void compactIfNeeded() {
+        try {
+            List<Path> sealed;
+            synchronized (this) {
+                if (!available) {
+                    return;
+                }
+                sealed = new ArrayList<>(listSegments());
+                sealed.remove(activePath);
+            }
+            if (sealed.size() < compactionMinSegments) {
+                return;
+            }
+            compact(sealed);
+        } catch (Exception e) {
+            log.error("Failed to compact deployment journal", e);
+        }
+    }
+
+    private void compact(List<Path> sealed) throws IOException {
+        // deploymentId -> 마지막 결과 레코드 / 히스토리
+        Map<String, Record> results = new LinkedHashMap<>();
+        Map<String, FoldedHistory> histories = new LinkedHashMap<>();
+        Map<String, Record> checkpoints = new LinkedHashMap<>();
+
+        for (Path segment : sealed) {
+            readSegment(segment, record -> {
+                switch (record.type) {
+                    case TYPE_RESULT -> {
+                        results.remove(record.key);
+                        results.put(record.key, record);
+                    }
+                    case TYPE_RESULT_REMOVED -> results.remove(record.key);
+                    case TYPE_EVENT -> histories.computeIfAbsent(record.key, k -> new FoldedHistory()).add(record, historyCapacity);
+                    case TYPE_HISTORY_FINISHED -> histories.computeIfAbsent(record.key, k -> new FoldedHistory()).finished = record;
+                    case TYPE_HISTORY_REMOVED -> histories.remove(record.key);
+                    case TYPE_POLLING_CHECKPOINT -> checkpoints.put(record.key, record);
+                    case TYPE_POLLING_FINISHED -> checkpoints.remove(record.key);
+                    default -> {
+                    }
+                }
+            });
+        }
+
+        Path target = sealed.get(sealed.size() - 1);
+        Path temp = target.resolveSibling(target.getFileName() + COMPACTING_SUFFIX);
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(out, encode(TYPE_BASE, System.currentTimeMillis(), 0L, "", new byte[0]));
+            for (Record record : results.values()) {
+                write(out, record.encode());
+            }
+            for (FoldedHistory history : histories.values()) {
+                for (Record event : history.events) {
+                    write(out, event.encode());
+                }
+                if (history.finished != null) {
+                    write(out, history.finished.encode());
+                }
+            }
+            // 종료되지 않은 폴링 세션의 마지막 체크포인트만 유지
+            for (Record record : checkpoints.values()) {
+                write(out, record.encode());
+            }
+            out.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        for (Path merged : sealed.subList(0, sealed.size() - 1)) {
+            Files.deleteIfExists(merged);
+        }
+
+        log.info("Compacted {} journal segments into {} - results: {}, histories: {}, polling checkpoints: {}",
+            sealed.size(), target.getFileName(), results.size(), histories.size(), checkpoints.size());
+    }
+
+    private void dispatch(Record record, ReplayHandler handler) {
+        try {
+            switch (record.type) {
+                case TYPE_RESULT -> handler.onResult(objectMapper.readValue(record.body, DeploymentResult.class));
+                case TYPE_RESULT_REMOVED -> handler.onResultRemoved(record.key);
+                case TYPE_EVENT -> handler.onEvent(record.key, record.sequence,
+                    objectMapper.readValue(record.body, DeploymentEvent.class), record.timestamp);
+                case TYPE_HISTORY_FINISHED -> handler.onHistoryFinished(record.key, record.timestamp);
+                case TYPE_HISTORY_REMOVED -> handler.onHistoryRemoved(record.key);
+                case TYPE_POLLING_CHECKPOINT -> handler.onPollingCheckpoint(
+                    objectMapper.readValue(record.body, PollingCheckpoint.class));
+                case TYPE_POLLING_FINISHED -> handler.onPollingFinished(record.key);
+                default -> {
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Skipping unreadable journal record - type: {}, key: {}", record.type, record.key, e);
+        }
+    }
+
+    /**
+     * 세그먼트의 레코드를 순서대로 읽음 (손상되었거나 쓰다 만 레코드에서 중단)
+     *
+     * @return 읽은 레코드 수
+     */
+    private int readSegment(Path segment, Consumer<Record> consumer) throws IOException {
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= FRAME_HEADER) {
+                int length = buffer.getInt();
+                int crc = buffer.getInt();
+                if (length < RECORD_HEADER || length > buffer.remaining()) {
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                if (crc(bytes) != crc) {
+                    log.warn("Corrupted journal record in {} at offset {}, ignoring the rest of the segment",
+                        segment.getFileName(), buffer.position() - length - FRAME_HEADER);
+                    break;
+                }
+                consumer.accept(Record.decode(bytes));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(segmentDir)) {
+            return files
+                .filter(p -> {
+                    String name = p.getFileName().toString();
+                    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+
+    // 첫 레코드가 BASE인 마지막 세그먼트 위치 (없으면 0)
+    private int lastBaseIndex(List<Path> segments) throws IOException {
+        for (int i = segments.size() - 1; i > 0; i--) {
+            try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                ByteBuffer head = ByteBuffer.allocate(FRAME_HEADER + 1);
+                channel.read(head, 0);
+                if (head.position() == head.capacity() && head.get(FRAME_HEADER) == TYPE_BASE) {
+                    return i;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void write(FileChannel out, byte[] frame) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static byte[] encode(byte type, long timestamp, long sequence, String key, byte[] body) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER + keyBytes.length + body.length);
+        record.put(type).putLong(timestamp).putLong(sequence).putShort((short) keyBytes.length)
+            .put(keyBytes).put(body);
+        byte[] bytes = record.array();
+
+        return ByteBuffer.allocate(FRAME_HEADER + bytes.length)
+            .putInt(bytes.length)
+            .putInt(crc(bytes))
+            .put(bytes)
+            .array();
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static class Record {
+        private final byte type;
+        private final long timestamp;
+        private final long sequence;
+        private final String key;
+        private final byte[] body;
+
+        private Record(byte type, long timestamp, long sequence, String key, byte[] body) {
+            this.type = type;
+            this.timestamp = timestamp;
+            this.sequence = sequence;
+            this.key = key;
+            this.body = body;
+        }
+
+        private static Record decode(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte type = buffer.get();
+            long timestamp = buffer.getLong();
+            long sequence = buffer.getLong();
+            byte[] key = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(key);
+            byte[] body = new byte[buffer.remaining()];
+            buffer.get(body);
+            return new Record(type, timestamp, sequence, new String(key, StandardCharsets.UTF_8), body);
+        }
+
+        private byte[] encode() {
+            return DeploymentJournal.encode(type, timestamp, sequence, key, body);
+        }
+    }
+
+    // 압축 중 배포별로 모으는 히스토리 (최근 historyCapacity개 이벤트 + 종료 표시)
+    private static class FoldedHistory {
+        private final Deque<Record> events = new ArrayDeque<>();
+        private Record finished;
+
+        private void add(Record event, int capacity) {
+            events.addLast(event);
+            if (events.size() > capacity) {
+                events.removeFirst();
+            }
+        }
+    }
+}
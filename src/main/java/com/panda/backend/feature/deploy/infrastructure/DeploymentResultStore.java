@@ -1,25 +1,74 @@
 package com.panda.backend.feature.deploy.infrastructure;
 
 import com.panda.backend.feature.deploy.dto.DeploymentResult;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 /**
  * 배포 결과를 메모리에 저장하고 조회하는 저장소
  * - 최대 1000개 결과 보관
- * - 초과 시 가장 오래된 것부터 삭제
- * - 스레드 안전성 보장
+ * - 초과 시 가장 오래 전에 저장(갱신)된 것부터 삭제
+ * - 스레드 안전성 보장 (전역 락 없음)
+ *
+ * 구조:
+ * - results: deploymentId -> Entry (같은 배포의 변경은 compute로 원자적으로 처리)
+ * - saveOrder: 저장 순번 -> deploymentId (가장 오래된 항목을 바로 꺼내 삭제)
+ * - 보조 인덱스: 상태별 / owner·repo별 / 완료 시간 역순
+ *   → getByStatus, getLatest 등이 전체 정렬 없이 필요한 만큼만 순회
+ *
+ * 인덱스 키는 저장 시점의 값으로 Entry에 기록해 두므로
+ * 저장 후 호출 측에서 DeploymentResult를 수정해도 인덱스가 어긋나지 않음 (다시 save하면 반영)
+ *
+ * 모든 저장/삭제는 DeploymentJournal에 기록되고, 재시작 시 저널에서 복구됨
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class DeploymentResultStore {
 
     private static final int MAX_RESULTS = 1000;
-    private final Map<String, DeploymentResult> results = new ConcurrentHashMap<>();
-    private final LinkedHashMap<String, Long> insertionOrder = new LinkedHashMap<>();
+
+    private final Map<String, Entry> results = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, String> saveOrder = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> byStatus = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byOwnerRepo = new ConcurrentHashMap<>();
+
+    // 완료 시간 최신순 (완료 시간이 없는 결과는 맨 뒤)
+    private final NavigableSet<CompletionKey> byCompletedAt = new ConcurrentSkipListSet<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final DeploymentJournal journal;
+
+    // 재시작 전 결과 복구 (복구 중에는 저널에 다시 기록하지 않음)
+    @PostConstruct
+    void recover() {
+        journal.replay(new DeploymentJournal.ReplayHandler() {
+            @Override
+            public void onResult(DeploymentResult result) {
+                put(result, false);
+            }
+
+            @Override
+            public void onResultRemoved(String deploymentId) {
+                remove(deploymentId, false);
+            }
+        });
+        if (!results.isEmpty()) {
+            log.info("Recovered deployment results from journal - count: {}", results.size());
+        }
+    }
 
     /**
      * 배포 결과 저장
@@ -32,24 +81,8 @@ public class DeploymentResultStore {
             return;
         }
 
-        String deploymentId = result.getDeploymentId();
-
-        // 기존 결과면 삭제 (최신 상태로 업데이트)
-        if (results.containsKey(deploymentId)) {
-            insertionOrder.remove(deploymentId);
-            log.debug("Updating existing result for deploymentId: {}", deploymentId);
-        }
-
-        // 새로운 결과 저장
-        results.put(deploymentId, result);
-        insertionOrder.put(deploymentId, System.currentTimeMillis());
-
-        log.info("Deployment result saved - deploymentId: {}, status: {}", deploymentId, result.getStatus());
-
-        // 최대 개수 초과 시 가장 오래된 것 삭제
-        if (results.size() > MAX_RESULTS) {
-            evictOldest();
-        }
+        put(result, true);
+        log.info("Deployment result saved - deploymentId: {}, status: {}", result.getDeploymentId(), result.getStatus());
     }
 
     /**
@@ -59,13 +92,13 @@ public class DeploymentResultStore {
      * @return 배포 결과 (없으면 null)
      */
     public DeploymentResult get(String deploymentId) {
-        DeploymentResult result = results.get(deploymentId);
-        if (result != null) {
-            log.debug("Retrieved deployment result - deploymentId: {}, status: {}", deploymentId, result.getStatus());
-        } else {
-            log.debug("Deployment result not found - deploymentId: {}", deploymentId);
+        Entry entry = results.get(deploymentId);
+        if (entry != null) {
+            log.debug("Retrieved deployment result - deploymentId: {}, status: {}", deploymentId, entry.result.getStatus());
+            return entry.result;
         }
-        return result;
+        log.debug("Deployment result not found - deploymentId: {}", deploymentId);
+        return null;
     }
 
     /**
@@ -74,7 +107,9 @@ public class DeploymentResultStore {
      * @return 배포 결과 리스트
      */
     public List<DeploymentResult> getAll() {
-        return new ArrayList<>(results.values());
+        List<DeploymentResult> all = new ArrayList<>(results.size());
+        results.values().forEach(entry -> all.add(entry.result));
+        return all;
     }
 
     /**
@@ -83,8 +118,7 @@ public class DeploymentResultStore {
      * @param deploymentId 배포 ID
      */
     public void delete(String deploymentId) {
-        if (results.remove(deploymentId) != null) {
-            insertionOrder.remove(deploymentId);
+        if (remove(deploymentId, true)) {
             log.info("Deployment result deleted - deploymentId: {}", deploymentId);
         }
     }
@@ -93,8 +127,9 @@ public class DeploymentResultStore {
      * 모든 배포 결과 삭제 (테스트용)
      */
     public void clear() {
-        results.clear();
-        insertionOrder.clear();
+        for (String deploymentId : results.keySet()) {
+            remove(deploymentId, true);
+        }
         log.info("All deployment results cleared");
     }
 
@@ -108,48 +143,218 @@ public class DeploymentResultStore {
     }
 
     /**
-     * 최신 N개 결과 조회
+     * 최신 N개 결과 조회 (완료 시간 역순, 완료 시간이 없는 결과는 뒤에)
      *
      * @param limit 조회할 최대 개수
      * @return 최신 배포 결과 리스트
      */
     public List<DeploymentResult> getLatest(int limit) {
-        return results.values().stream()
-            .sorted((a, b) -> {
-                if (a.getCompletedAt() != null && b.getCompletedAt() != null) {
-                    return b.getCompletedAt().compareTo(a.getCompletedAt());
-                }
-                return 0;
-            })
-            .limit(limit)
-            .toList();
+        List<DeploymentResult> latest = new ArrayList<>(Math.min(limit, results.size()));
+        for (CompletionKey key : byCompletedAt) {
+            if (latest.size() >= limit) {
+                break;
+            }
+            Entry entry = results.get(key.deploymentId);
+            // 순회 중 갱신/삭제된 항목은 건너뜀 (새 키로 다시 인덱싱되어 있음)
+            if (entry != null && entry.completionKey.equals(key)) {
+                latest.add(entry.result);
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * 상태별 결과 조회
+     *
+     * @param status 배포 상태 (COMPLETED, FAILED)
+     * @return 해당 상태의 배포 결과 리스트
+     */
+    public List<DeploymentResult> getByStatus(String status) {
+        return lookup(byStatus.get(status), entry -> status.equals(entry.status));
+    }
+
+    /**
+     * 저장소(owner/repo)별 결과 조회
+     *
+     * @return 해당 저장소의 배포 결과 리스트
+     */
+    public List<DeploymentResult> getByOwnerRepo(String owner, String repo) {
+        String key = ownerRepoKey(owner, repo);
+        return lookup(byOwnerRepo.get(key), entry -> key.equals(entry.ownerRepo));
+    }
+
+    private List<DeploymentResult> lookup(Set<String> deploymentIds, Predicate<Entry> stillMatches) {
+        if (deploymentIds == null) {
+            return List.of();
+        }
+        List<DeploymentResult> matched = new ArrayList<>(deploymentIds.size());
+        for (String deploymentId : deploymentIds) {
+            Entry entry = results.get(deploymentId);
+            if (entry != null && stillMatches.test(entry)) {
+                matched.add(entry.result);
+            }
+        }
+        return matched;
     }
 
     /**
      * 가장 오래된 결과 삭제
+     *
+     * @return 삭제할 항목이 있었으면 true
      */
-    private synchronized void evictOldest() {
-        if (insertionOrder.isEmpty()) {
-            return;
+    private boolean evictOldest() {
+        Map.Entry<Long, String> oldest = saveOrder.pollFirstEntry();
+        if (oldest == null) {
+            return false;
         }
 
-        // LinkedHashMap의 첫 번째 항목(가장 오래된 것)을 가져옴
-        String oldestDeploymentId = insertionOrder.keySet().iterator().next();
-        results.remove(oldestDeploymentId);
-        insertionOrder.remove(oldestDeploymentId);
+        String oldestDeploymentId = oldest.getValue();
+        // 순번이 같을 때만 삭제 (그 사이 다시 저장된 결과는 유지)
+        results.computeIfPresent(oldestDeploymentId, (id, existing) -> {
+            if (existing.sequence != oldest.getKey()) {
+                return existing;
+            }
+            unindex(existing);
+            journal.appendResultRemoved(oldestDeploymentId);
+            log.info("Evicted oldest deployment result due to size limit - deploymentId: {}", oldestDeploymentId);
+            return null;
+        });
+        return true;
+    }
+
+    // 기존 결과면 인덱스에서 빼고 최신 상태로 교체 (저널 기록도 같은 compute 안에서 → 배포별 기록 순서 보장)
+    private void put(DeploymentResult result, boolean journaled) {
+        String deploymentId = result.getDeploymentId();
+        results.compute(deploymentId, (id, existing) -> {
+            if (existing != null) {
+                unindex(existing);
+                log.debug("Updating existing result for deploymentId: {}", deploymentId);
+            }
+            Entry entry = new Entry(result, sequence.incrementAndGet());
+            index(entry);
+            if (journaled) {
+                journal.appendResult(result);
+            }
+            return entry;
+        });
+
+        // 최대 개수 초과 시 가장 오래된 것 삭제
+        while (results.size() > MAX_RESULTS) {
+            if (!evictOldest()) {
+                break;
+            }
+        }
+    }
+
+    private boolean remove(String deploymentId, boolean journaled) {
+        boolean[] removed = new boolean[1];
+        results.computeIfPresent(deploymentId, (id, existing) -> {
+            unindex(existing);
+            if (journaled) {
+                journal.appendResultRemoved(deploymentId);
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    // results.compute 안에서만 호출 (같은 deploymentId의 인덱스 변경이 겹치지 않음)
+    private void index(Entry entry) {
+        String deploymentId = entry.result.getDeploymentId();
+        saveOrder.put(entry.sequence, deploymentId);
+        if (entry.status != null) {
+            addToIndex(byStatus, entry.status, deploymentId);
+        }
+        addToIndex(byOwnerRepo, entry.ownerRepo, deploymentId);
+        byCompletedAt.add(entry.completionKey);
+    }
+
+    private void unindex(Entry entry) {
+        String deploymentId = entry.result.getDeploymentId();
+        saveOrder.remove(entry.sequence);
+        if (entry.status != null) {
+            removeFromIndex(byStatus, entry.status, deploymentId);
+        }
+        removeFromIndex(byOwnerRepo, entry.ownerRepo, deploymentId);
+        byCompletedAt.remove(entry.completionKey);
+    }
 
-        log.info("Evicted oldest deployment result due to size limit - deploymentId: {}", oldestDeploymentId);
+    // 빈 Set 정리와 겹쳐도 추가가 사라지지 않도록 compute 안에서 추가
+    private void addToIndex(Map<String, Set<String>> index, String key, String deploymentId) {
+        index.compute(key, (k, ids) -> {
+            Set<String> updated = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            updated.add(deploymentId);
+            return updated;
+        });
+    }
+
+    private void removeFromIndex(Map<String, Set<String>> index, String key, String deploymentId) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(deploymentId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static String ownerRepoKey(String owner, String repo) {
+        return String.valueOf(owner).toLowerCase() + "/" + String.valueOf(repo).toLowerCase();
+    }
+
+    private static class Entry {
+        private final DeploymentResult result;
+        private final long sequence;
+
+        // 저장 시점의 인덱스 키
+        private final String status;
+        private final String ownerRepo;
+        private final CompletionKey completionKey;
+
+        private Entry(DeploymentResult result, long sequence) {
+            this.result = result;
+            this.sequence = sequence;
+            this.status = result.getStatus();
+            this.ownerRepo = ownerRepoKey(result.getOwner(), result.getRepo());
+            this.completionKey = new CompletionKey(result.getCompletedAt(), sequence, result.getDeploymentId());
+        }
     }
 
     /**
-     * 상태별 결과 조회
-     *
-     * @param status 배포 상태 (COMPLETED, FAILED)
-     * @return 해당 상태의 배포 결과 리스트
+     * 완료 시간 인덱스 키 (최신순, 같은 시간이면 나중에 저장된 것 먼저)
      */
-    public List<DeploymentResult> getByStatus(String status) {
-        return results.values().stream()
-            .filter(r -> status.equals(r.getStatus()))
-            .toList();
+    private static class CompletionKey implements Comparable<CompletionKey> {
+        private final LocalDateTime completedAt;
+        private final long sequence;
+        private final String deploymentId;
+
+        private CompletionKey(LocalDateTime completedAt, long sequence, String deploymentId) {
+            this.completedAt = completedAt;
+            this.sequence = sequence;
+            this.deploymentId = deploymentId;
+        }
+
+        @Override
+        public int compareTo(CompletionKey other) {
+            if (completedAt == null || other.completedAt == null) {
+                if (completedAt != other.completedAt) {
+                    return completedAt == null ? 1 : -1;
+                }
+            } else {
+                int byTime = other.completedAt.compareTo(completedAt);
+                if (byTime != 0) {
+                    return byTime;
+                }
+            }
+            return Long.compare(other.sequence, sequence);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CompletionKey && ((CompletionKey) o).sequence == sequence;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(sequence);
+        }
     }
 }
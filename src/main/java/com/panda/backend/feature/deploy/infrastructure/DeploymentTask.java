@@ -16,6 +16,7 @@ public class DeploymentTask implements Runnable {
     private final String deploymentId;
     private final GitHubConnection ghConnection;
     private final AwsConnection awsConnection;
+    private final String awsConnectionId;
     private final String owner;
     private final String repo;
     private final String branch;
@@ -33,6 +34,7 @@ public class DeploymentTask implements Runnable {
                     deploymentId,
                     ghConnection,
                     awsConnection,
+                    awsConnectionId,
                     owner,
                     repo,
                     branch
@@ -0,0 +1,417 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.BuildImageResultCallback;
+import com.github.dockerjava.api.command.PullImageCmd;
+import com.github.dockerjava.api.command.PushImageCmd;
+import com.github.dockerjava.api.model.AuthConfig;
+import com.github.dockerjava.api.model.BuildResponseItem;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.api.model.PushResponseItem;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.DockerClientImpl;
+import com.github.dockerjava.core.GoLangFileMatch;
+import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
+import com.panda.backend.feature.deploy.exception.DeploymentException;
+import com.panda.backend.feature.deploy.exception.DockerBuildException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * docker-java 기반 이미지 빌드/푸시 엔진 (docker CLI 프로세스를 띄우지 않음)
+ *
+ * - 빌드 컨텍스트를 tar로 만들면서 바로 Docker Engine API로 스트리밍 (임시 tar 파일 없음)
+ *   → .dockerignore 패턴과 .git 디렉토리는 tar에 넣지 않음
+ * - ECR 인증 정보는 push 요청에 직접 실어 보냄 (docker login / ~/.docker/config.json 사용 안 함)
+ * - 빌드 단계(Step N/M), 레이어 푸시 완료를 ProgressListener로 전달
+ * - 직전 빌드 이미지를 pull해 cache-from으로 주면 그 이미지의 레이어를 재사용 (classic builder)
+ *
+ * NOTE: Engine API 빌드 엔드포인트는 BuildKit 세션을 지원하지 않으므로 BuildKit 레지스트리 캐시
+ *       (cache-to type=registry)는 사용할 수 없음 → cache-from은 최종 stage 레이어만 재사용
+ */
+@Slf4j
+@Component
+public class DockerImageEngine {
+
+    private static final Pattern BUILD_STEP = Pattern.compile("^Step (\\d+)/(\\d+) : (.*)$");
+    private static final int CONTEXT_PIPE_BUFFER = 64 * 1024;
+
+    // 비어 있으면 DOCKER_HOST 환경 변수 / 기본 소켓(unix:///var/run/docker.sock) 사용
+    @Value("${panda.docker.host:}")
+    private String dockerHost;
+
+    @Value("${panda.docker.max-connections:16}")
+    private int maxConnections;
+
+    @Value("${panda.docker.connect-timeout-ms:30000}")
+    private long connectTimeoutMs;
+
+    // 빌드/푸시 전체 대기 시간 (Stage 타임아웃과 동일)
+    @Value("${panda.docker.operation-timeout-ms:600000}")
+    private long operationTimeoutMs;
+
+    private DockerClient dockerClient;
+
+    private final ExecutorService contextWriters = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "docker-context-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * 빌드/푸시 진행 상황 수신 (필요한 것만 구현)
+     */
+    public interface ProgressListener {
+        ProgressListener NONE = new ProgressListener() {
+        };
+
+        default void onBuildStep(int step, int totalSteps, String instruction) {
+        }
+
+        default void onLayerPushed(String layerId, int pushedLayers, int totalLayers) {
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        DefaultDockerClientConfig.Builder configBuilder = DefaultDockerClientConfig.createDefaultConfigBuilder();
+        if (!dockerHost.isBlank()) {
+            configBuilder.withDockerHost(dockerHost);
+        }
+        DockerClientConfig config = configBuilder.build();
+
+        ApacheDockerHttpClient httpClient = new ApacheDockerHttpClient.Builder()
+            .dockerHost(config.getDockerHost())
+            .sslConfig(config.getSSLConfig())
+            .maxConnections(maxConnections)
+            .connectionTimeout(Duration.ofMillis(connectTimeoutMs))
+            .responseTimeout(Duration.ofMillis(operationTimeoutMs))
+            .build();
+
+        dockerClient = DockerClientImpl.getInstance(config, httpClient);
+        log.info("Docker engine client initialized - host: {}", config.getDockerHost());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        contextWriters.shutdownNow();
+        try {
+            dockerClient.close();
+        } catch (IOException e) {
+            log.warn("Failed to close docker client: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * contextDir을 빌드 컨텍스트로 이미지 빌드
+     *
+     * @param dockerfile 빌드에 사용할 Dockerfile (contextDir 하위)
+     * @param cacheFrom  레이어 캐시로 사용할 로컬 이미지 (미리 pull 되어 있어야 함, 없으면 빈 Set)
+     * @return 빌드된 이미지 ID
+     */
+    public String build(String deploymentId, Path contextDir, Path dockerfile, String imageName,
+                        Set<String> cacheFrom, ProgressListener listener) {
+        String dockerfilePath = contextDir.relativize(dockerfile).toString().replace('\\', '/');
+        AtomicReference<String> lastError = new AtomicReference<>();
+
+        try (PipedInputStream context = new PipedInputStream(CONTEXT_PIPE_BUFFER)) {
+            PipedOutputStream contextSink = new PipedOutputStream(context);
+            contextWriters.execute(() -> writeContext(contextDir, dockerfilePath, contextSink));
+
+            BuildImageResultCallback callback = dockerClient.buildImageCmd()
+                .withTarInputStream(context)
+                .withDockerfilePath(dockerfilePath)
+                .withTags(Set.of(imageName))
+                .withCacheFrom(cacheFrom)
+                .exec(new BuildImageResultCallback() {
+                    @Override
+                    public void onNext(BuildResponseItem item) {
+                        if (item.getStream() != null) {
+                            String line = item.getStream().trim();
+                            log.debug("Docker build: {}", line);
+                            Matcher step = BUILD_STEP.matcher(line);
+                            if (step.matches()) {
+                                listener.onBuildStep(Integer.parseInt(step.group(1)),
+                                    Integer.parseInt(step.group(2)), step.group(3));
+                            }
+                        }
+                        if (item.isErrorIndicated() && item.getErrorDetail() != null) {
+                            lastError.set(item.getErrorDetail().getMessage());
+                        }
+                        super.onNext(item);
+                    }
+                });
+
+            String imageId = callback.awaitImageId(operationTimeoutMs, TimeUnit.MILLISECONDS);
+            log.info("Docker image built - image: {}, id: {}", imageName, imageId);
+            return imageId;
+        } catch (Exception e) {
+            String reason = lastError.get() != null ? lastError.get() : e.getMessage();
+            throw new DockerBuildException("Docker build failed: " + reason, deploymentId, imageName, null);
+        }
+    }
+
+    /**
+     * 레지스트리에서 이미지를 받아 옴 (빌드 캐시용, 실패해도 예외 없이 false)
+     *
+     * @param auth 레지스트리 인증 정보 (인증 없는 레지스트리면 null)
+     * @return pull 성공 여부
+     */
+    public boolean pullIfPresent(String repositoryUri, String tag, AuthConfig auth) {
+        AtomicReference<String> lastError = new AtomicReference<>();
+        try {
+            PullImageCmd pull = dockerClient.pullImageCmd(repositoryUri).withTag(tag);
+            if (auth != null) {
+                pull.withAuthConfig(auth);
+            }
+            boolean completed = pull.exec(new ResultCallback.Adapter<PullResponseItem>() {
+                    @Override
+                    public void onNext(PullResponseItem item) {
+                        if (item.isErrorIndicated()) {
+                            lastError.set(item.getErrorDetail() != null
+                                ? item.getErrorDetail().getMessage() : item.getError());
+                        }
+                    }
+                })
+                .awaitCompletion(operationTimeoutMs, TimeUnit.MILLISECONDS);
+
+            if (!completed || lastError.get() != null) {
+                log.info("Image not pulled - {}:{} ({})", repositoryUri, tag,
+                    completed ? lastError.get() : "timed out");
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // 캐시 이미지가 아직 없으면(첫 빌드) NotFound
+            log.info("Image not pulled - {}:{} ({})", repositoryUri, tag, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 로컬 이미지를 repositoryUri:tag로 태그하고 레지스트리에 푸시
+     *
+     * @param auth 레지스트리 인증 정보 (ECR: username=AWS, password=인증 토큰, 인증 없는 레지스트리면 null)
+     */
+    public void push(String deploymentId, String localImage, String repositoryUri, String tag,
+                     AuthConfig auth, ProgressListener listener) {
+        Map<String, Boolean> layers = new ConcurrentHashMap<>();  // layerId -> 완료 여부
+        AtomicReference<String> lastError = new AtomicReference<>();
+
+        try {
+            dockerClient.tagImageCmd(localImage, repositoryUri, tag).exec();
+
+            PushImageCmd pushCmd = dockerClient.pushImageCmd(repositoryUri).withTag(tag);
+            if (auth != null) {
+                pushCmd.withAuthConfig(auth);
+            }
+            boolean completed = pushCmd
+                .exec(new ResultCallback.Adapter<PushResponseItem>() {
+                    @Override
+                    public void onNext(PushResponseItem item) {
+                        if (item.isErrorIndicated()) {
+                            lastError.set(item.getErrorDetail() != null
+                                ? item.getErrorDetail().getMessage() : item.getError());
+                            return;
+                        }
+                        String layerId = item.getId();
+                        String status = item.getStatus();
+                        if (layerId == null || status == null) {
+                            return;
+                        }
+                        if ("Pushed".equals(status) || "Layer already exists".equals(status)) {
+                            if (!Boolean.TRUE.equals(layers.put(layerId, true))) {
+                                int pushed = (int) layers.values().stream().filter(done -> done).count();
+                                listener.onLayerPushed(layerId, pushed, layers.size());
+                            }
+                        } else {
+                            layers.putIfAbsent(layerId, false);
+                        }
+                    }
+                })
+                .awaitCompletion(operationTimeoutMs, TimeUnit.MILLISECONDS);
+
+            if (!completed) {
+                throw new DeploymentException("Docker push timed out: " + repositoryUri, deploymentId, 2, "ECR_PUSH_FAILED");
+            }
+            if (lastError.get() != null) {
+                throw new DeploymentException("Docker push failed: " + lastError.get(), deploymentId, 2, "ECR_PUSH_FAILED");
+            }
+            log.info("Docker image pushed - {}:{} ({} layers)", repositoryUri, tag, layers.size());
+        } catch (DeploymentException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeploymentException("Docker push interrupted", deploymentId, 2, "ECR_PUSH_FAILED");
+        } catch (Exception e) {
+            throw new DeploymentException("Docker push failed: " + e.getMessage(), deploymentId, 2, "ECR_PUSH_FAILED");
+        }
+    }
+
+    /**
+     * 빌드 컨텍스트를 tar로 써서 파이프로 흘려보냄 (Docker가 읽는 속도에 맞춰 진행)
+     */
+    private void writeContext(Path contextDir, String dockerfilePath, PipedOutputStream sink) {
+        List<String> ignorePatterns = readDockerignore(contextDir);
+        boolean hasExceptions = ignorePatterns.stream().anyMatch(p -> p.startsWith("!"));
+
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(new BufferedOutputStream(sink, CONTEXT_PIPE_BUFFER))) {
+            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+
+            Files.walkFileTree(contextDir, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (dir.equals(contextDir)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    String name = relativeName(contextDir, dir);
+                    if (name.equals(".git")) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    if (isIgnored(ignorePatterns, name)) {
+                        // 예외(!) 패턴이 있거나 Dockerfile이 하위에 있으면 다시 포함될 파일이 있으므로 계속 탐색
+                        boolean containsDockerfile = dockerfilePath.startsWith(name + "/");
+                        return hasExceptions || containsDockerfile ? FileVisitResult.CONTINUE : FileVisitResult.SKIP_SUBTREE;
+                    }
+                    tar.putArchiveEntry(new TarArchiveEntry(dir.toFile(), name + "/"));
+                    tar.closeArchiveEntry();
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    String name = relativeName(contextDir, file);
+                    if (name.equals(".git")) {
+                        return FileVisitResult.CONTINUE;  // worktree의 .git 파일 (mirror 경로 참조)
+                    }
+                    // Dockerfile / .dockerignore는 무시 패턴과 관계없이 항상 전송 (docker CLI와 동일)
+                    boolean required = name.equals(dockerfilePath) || name.equals(".dockerignore");
+                    if (!required && isIgnored(ignorePatterns, name)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    if (attrs.isSymbolicLink()) {
+                        TarArchiveEntry link = new TarArchiveEntry(name, TarArchiveEntry.LF_SYMLINK);
+                        link.setLinkName(Files.readSymbolicLink(file).toString());
+                        tar.putArchiveEntry(link);
+                        tar.closeArchiveEntry();
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (!attrs.isRegularFile()) {
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    TarArchiveEntry entry = new TarArchiveEntry(file.toFile(), name);
+                    if (Files.isExecutable(file)) {
+                        entry.setMode(entry.getMode() | 0755);
+                    }
+                    tar.putArchiveEntry(entry);
+                    Files.copy(file, tar);
+                    tar.closeArchiveEntry();
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            tar.finish();
+        } catch (IOException e) {
+            // 빌드가 먼저 실패해 Docker가 읽기를 멈추면 파이프가 닫혀 여기로 옴 (빌드 쪽에서 에러 처리)
+            log.debug("Build context streaming stopped: {}", e.getMessage());
+        }
+    }
+
+    private static List<String> readDockerignore(Path contextDir) {
+        Path dockerignore = contextDir.resolve(".dockerignore");
+        List<String> patterns = new ArrayList<>();
+        if (!Files.isRegularFile(dockerignore)) {
+            return patterns;
+        }
+        try {
+            for (String line : Files.readAllLines(dockerignore)) {
+                String pattern = line.trim();
+                if (pattern.isEmpty() || pattern.startsWith("#")) {
+                    continue;
+                }
+                boolean exception = pattern.startsWith("!");
+                String path = (exception ? pattern.substring(1) : pattern).trim();
+                while (path.startsWith("/")) {
+                    path = path.substring(1);
+                }
+                while (path.endsWith("/")) {
+                    path = path.substring(0, path.length() - 1);
+                }
+                if (!path.isEmpty()) {
+                    patterns.add(exception ? "!" + path : path);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read .dockerignore, sending full context: {}", e.getMessage());
+        }
+        return patterns;
+    }
+
+    /**
+     * .dockerignore 판정 (마지막으로 일치한 패턴이 우선, !는 다시 포함)
+     * 상위 디렉토리가 무시되면 하위 경로도 무시
+     */
+    private static boolean isIgnored(List<String> patterns, String name) {
+        boolean ignored = false;
+        for (String pattern : patterns) {
+            boolean exception = pattern.startsWith("!");
+            String glob = exception ? pattern.substring(1) : pattern;
+            if (matchesSelfOrParent(glob, name)) {
+                ignored = !exception;
+            }
+        }
+        return ignored;
+    }
+
+    private static boolean matchesSelfOrParent(String glob, String name) {
+        String path = name;
+        while (true) {
+            if (GoLangFileMatch.match(glob, path)) {
+                return true;
+            }
+            int slash = path.lastIndexOf('/');
+            if (slash < 0) {
+                return false;
+            }
+            path = path.substring(0, slash);
+        }
+    }
+
+    private static String relativeName(Path contextDir, Path path) {
+        return contextDir.relativize(path).toString().replace('\\', '/');
+    }
+}
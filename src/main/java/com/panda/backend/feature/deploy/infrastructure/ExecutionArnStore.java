@@ -8,7 +8,11 @@ import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 import software.amazon.awssdk.services.secretsmanager.model.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 
 /**
  * Step Functions의 ExecutionArn을 AWS Secrets Manager에 저장/조회하는 컴포넌트
@@ -17,6 +21,9 @@ import java.util.Map;
  * 1. Step Functions 내부 Lambda가 ExecutionArn을 저장: save(deploymentId, executionArn)
  * 2. 백엔드 폴링 서비스가 조회: get(deploymentId)
  * 3. 배포 완료 후 정리: remove(deploymentId)
+ *
+ * 이 프로세스의 save()로 등록된 ExecutionArn은 메모리에도 기록하여
+ * get()이 Secrets Manager를 거치지 않고 바로 반환하고, 등록 리스너(폴링 서비스)에 즉시 알림
  */
 @Slf4j
 @Component
@@ -29,6 +36,23 @@ public class ExecutionArnStore {
     @Value("${aws.secrets-manager.execution-arn-prefix:panda/stepfunctions/}")
     private String secretPrefix;
 
+    // 로컬 등록 정보 유지 시간 (remove()가 호출되지 않은 오래된 등록이 다음 배포에 쓰이지 않도록)
+    @Value("${aws.secrets-manager.execution-arn-local-ttl-ms:1800000}")
+    private long localRegistrationTtlMs;
+
+    // secretName -> 이 프로세스에서 save()된 ExecutionArn
+    private final Map<String, LocalRegistration> localRegistrations = new ConcurrentHashMap<>();
+
+    // save() 직후 호출되는 리스너 (owner, repo)
+    private final List<BiConsumer<String, String>> registrationListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * ExecutionArn 등록 리스너 추가 (save() 성공 직후 호출)
+     */
+    public void addRegistrationListener(BiConsumer<String, String> listener) {
+        registrationListeners.add(listener);
+    }
+
     /**
      * ExecutionArn을 Secrets Manager에 저장
      * (Step Functions 내부의 Lambda에서 호출됨)
@@ -51,11 +75,21 @@ public class ExecutionArnStore {
             log.info("ExecutionArn saved to Secrets Manager - secretName: {}, executionArn: {}",
                 secretName, executionArn);
 
+            localRegistrations.put(secretName, new LocalRegistration(executionArn));
+
         } catch (Exception e) {
             log.error("Failed to save ExecutionArn to Secrets Manager for owner: {}, repo: {}",
                 owner, repo, e);
             throw new RuntimeException("Failed to save ExecutionArn: " + e.getMessage(), e);
         }
+
+        for (BiConsumer<String, String> listener : registrationListeners) {
+            try {
+                listener.accept(owner, repo);
+            } catch (Exception e) {
+                log.warn("ExecutionArn registration listener failed for owner: {}, repo: {}", owner, repo, e);
+            }
+        }
     }
 
     /**
@@ -70,6 +104,16 @@ public class ExecutionArnStore {
         try {
             String secretName = secretPrefix + owner.toLowerCase() + "-" + repo.toLowerCase() + "-latest-execution";
 
+            // 이 프로세스에서 등록된 값이 있으면 Secrets Manager 조회 생략
+            LocalRegistration local = localRegistrations.get(secretName);
+            if (local != null) {
+                if (System.currentTimeMillis() - local.registeredAt <= localRegistrationTtlMs) {
+                    log.debug("ExecutionArn resolved from local registration - secretName: {}", secretName);
+                    return local.executionArn;
+                }
+                localRegistrations.remove(secretName, local);
+            }
+
             GetSecretValueRequest request = GetSecretValueRequest.builder()
                 .secretId(secretName)
                 .build();
@@ -115,6 +159,7 @@ public class ExecutionArnStore {
     public void remove(String owner, String repo) {
         try {
             String secretName = secretPrefix + owner.toLowerCase() + "-" + repo.toLowerCase() + "-latest-execution";
+            localRegistrations.remove(secretName);
 
             DeleteSecretRequest request = DeleteSecretRequest.builder()
                 .secretId(secretName)
@@ -144,4 +189,13 @@ public class ExecutionArnStore {
     public boolean exists(String owner, String repo) {
         return get(owner, repo) != null;
     }
+
+    private static class LocalRegistration {
+        private final String executionArn;
+        private final long registeredAt = System.currentTimeMillis();
+
+        private LocalRegistration(String executionArn) {
+            this.executionArn = executionArn;
+        }
+    }
 }
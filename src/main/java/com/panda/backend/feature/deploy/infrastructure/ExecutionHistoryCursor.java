@@ -0,0 +1,192 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sfn.SfnAsyncClient;
+import software.amazon.awssdk.services.sfn.SfnClient;
+import software.amazon.awssdk.services.sfn.model.GetExecutionHistoryRequest;
+import software.amazon.awssdk.services.sfn.model.GetExecutionHistoryResponse;
+import software.amazon.awssdk.services.sfn.model.HistoryEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Step Functions ExecutionHistory 증분 조회 커서
+ *
+ * 동작 방식:
+ * 1. reverseOrder=true로 최신 이벤트부터 조회
+ * 2. 마지막으로 본 이벤트 ID에 도달하면 즉시 중단 (이미 처리한 이벤트는 다시 받지 않음)
+ * 3. 새 이벤트가 한 페이지를 넘으면 nextToken으로 다음 페이지 조회 (1000개 초과 실행 대응)
+ * 4. 수집한 이벤트를 ID 오름차순으로 뒤집어 HistoryBatch로 반환
+ * 5. 호출하는 쪽이 이벤트 처리를 마친 뒤 commit()해야 커서가 전진
+ *    (처리 중 실패하면 commit하지 않으므로 다음 폴링에서 같은 이벤트를 다시 받음)
+ *
+ * → 폴링 1회당 전송량/CPU가 실행 길이와 무관하게 "새 이벤트 수"에만 비례
+ *
+ * SfnAsyncClient가 주어지면 fetchNewEventsAsync()로 페이지 조회를 CompletableFuture로 연결해
+ * 응답 대기 중 호출 스레드를 점유하지 않음
+ */
+@Slf4j
+public class ExecutionHistoryCursor {
+
+    // GetExecutionHistory 최대 페이지 크기 (AWS 제한)
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final SfnClient sfnClient;
+
+    // 비동기 조회용 (없으면 fetchNewEventsAsync()도 동기 조회로 처리)
+    private final SfnAsyncClient sfnAsyncClient;
+
+    @Getter
+    private final String executionArn;
+
+    private final int pageSize;
+
+    @Getter
+    private long lastSeenEventId;
+
+    @Getter
+    private String lastEventType = "";
+
+    @Getter
+    private long lastEventTimestamp;
+
+    public ExecutionHistoryCursor(SfnClient sfnClient, SfnAsyncClient sfnAsyncClient,
+                                  String executionArn, int pageSize, long lastSeenEventId) {
+        this.sfnClient = sfnClient;
+        this.sfnAsyncClient = sfnAsyncClient;
+        this.executionArn = executionArn;
+        this.pageSize = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        this.lastSeenEventId = lastSeenEventId;
+    }
+
+    /**
+     * 마지막으로 commit한 이벤트 이후 새로 추가된 이벤트만 조회 (커서는 전진하지 않음)
+     *
+     * @return 새 이벤트 묶음 (ID 오름차순, 없으면 빈 묶음)
+     */
+    public HistoryBatch fetchNewEvents() {
+        List<HistoryEvent> newEvents = new ArrayList<>();
+        String nextToken = null;
+        boolean reachedLastSeen = false;
+        int pageCount = 0;
+
+        do {
+            GetExecutionHistoryResponse page = sfnClient.getExecutionHistory(buildRequest(nextToken));
+            pageCount++;
+
+            reachedLastSeen = collectNewEvents(page, newEvents);
+            nextToken = page.nextToken();
+        } while (!reachedLastSeen && nextToken != null);
+
+        return toBatch(newEvents, pageCount);
+    }
+
+    /**
+     * fetchNewEvents()의 비동기 버전 (nextToken이 있으면 다음 페이지 조회를 이어서 연결)
+     *
+     * 한 커서에 대해 동시에 두 번 호출하면 안 됨 (폴링 세션당 한 번에 하나의 틱만 실행됨)
+     *
+     * @return 새 이벤트 묶음 (ID 오름차순, 없으면 빈 묶음)
+     */
+    public CompletableFuture<HistoryBatch> fetchNewEventsAsync() {
+        if (sfnAsyncClient == null) {
+            return CompletableFuture.completedFuture(fetchNewEvents());
+        }
+
+        List<HistoryEvent> newEvents = new ArrayList<>();
+        return fetchPageAsync(null, newEvents, 1)
+            .thenApply(pageCount -> toBatch(newEvents, pageCount));
+    }
+
+    private CompletableFuture<Integer> fetchPageAsync(String nextToken, List<HistoryEvent> newEvents, int pageCount) {
+        return sfnAsyncClient.getExecutionHistory(buildRequest(nextToken))
+            .thenCompose(page -> {
+                boolean reachedLastSeen = collectNewEvents(page, newEvents);
+                if (reachedLastSeen || page.nextToken() == null) {
+                    return CompletableFuture.completedFuture(pageCount);
+                }
+                return fetchPageAsync(page.nextToken(), newEvents, pageCount + 1);
+            });
+    }
+
+    private GetExecutionHistoryRequest buildRequest(String nextToken) {
+        return GetExecutionHistoryRequest.builder()
+            .executionArn(executionArn)
+            .includeExecutionData(true)  // ✅ Task output 데이터 포함
+            .reverseOrder(true)          // ✅ 최신 이벤트부터
+            // 첫 조회는 전체 히스토리가 필요하므로 최대 크기로, 이후에는 작은 페이지로
+            .maxResults(lastSeenEventId == 0 ? MAX_PAGE_SIZE : pageSize)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    /**
+     * 한 페이지(최신순)에서 마지막으로 본 이벤트 이후의 이벤트만 수집
+     *
+     * @return 마지막으로 본 이벤트에 도달했으면 true (더 조회할 필요 없음)
+     */
+    private boolean collectNewEvents(GetExecutionHistoryResponse page, List<HistoryEvent> newEvents) {
+        for (HistoryEvent event : page.events()) {
+            if (event.id() <= lastSeenEventId) {
+                return true;
+            }
+            newEvents.add(event);
+        }
+        return false;
+    }
+
+    // 수집한 이벤트(최신순)를 오름차순 묶음으로 변환 (커서 위치는 commit() 전까지 그대로)
+    private HistoryBatch toBatch(List<HistoryEvent> newEvents, int pageCount) {
+        if (newEvents.isEmpty()) {
+            return new HistoryBatch(newEvents, null);
+        }
+
+        // reverseOrder이므로 첫 번째가 가장 최신
+        HistoryEvent latest = newEvents.get(0);
+        Collections.reverse(newEvents);
+
+        log.debug("Fetched {} new history events in {} page(s) - executionArn: {}, pending lastSeenEventId: {}",
+            newEvents.size(), pageCount, executionArn, latest.id());
+        return new HistoryBatch(newEvents, latest);
+    }
+
+    /**
+     * 처리를 마친 묶음까지 커서 전진 (이후 조회는 이 묶음의 최신 이벤트 다음부터)
+     */
+    public void commit(HistoryBatch batch) {
+        HistoryEvent latest = batch.latest;
+        if (latest == null || latest.id() <= lastSeenEventId) {
+            return;
+        }
+        lastSeenEventId = latest.id();
+        lastEventType = latest.typeAsString() != null ? latest.typeAsString() : "";
+        lastEventTimestamp = latest.timestamp() != null ? latest.timestamp().getEpochSecond() : 0;
+    }
+
+    /**
+     * fetchNewEvents() 결과: 새 이벤트(오름차순)와 commit 시 이동할 위치(가장 최신 이벤트)
+     */
+    public static class HistoryBatch {
+        @Getter
+        private final List<HistoryEvent> events;
+        private final HistoryEvent latest;
+
+        private HistoryBatch(List<HistoryEvent> events, HistoryEvent latest) {
+            this.events = events;
+            this.latest = latest;
+        }
+
+        public boolean isEmpty() {
+            return events.isEmpty();
+        }
+
+        // commit 시 이동할 마지막 이벤트 ID (새 이벤트가 없으면 0)
+        public long getPendingEventId() {
+            return latest != null ? latest.id() : 0L;
+        }
+    }
+}
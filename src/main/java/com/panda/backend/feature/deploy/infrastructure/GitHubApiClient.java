@@ -0,0 +1,34 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 배포 파이프라인용 GitHub API 접근 (소스 가져오기 방식과 무관하게 공용)
+ *
+ * apiUrl을 바꾸면 GitHub Enterprise나 로컬 HTTP 스텁 서버로도 호출할 수 있음
+ */
+@Component
+public class GitHubApiClient {
+
+    @Value("${panda.github.api-url:https://api.github.com}")
+    private String apiUrl;
+
+    /**
+     * 브랜치 HEAD 커밋 SHA 조회 (git mirror / tarball 체크아웃과 이미지 재사용 판단에 사용)
+     */
+    public String resolveBranchSha(String token, String owner, String repo, String branch) throws IOException {
+        return connect(token).getRepository(owner + "/" + repo).getBranch(branch).getSHA1();
+    }
+
+    public GitHub connect(String token) throws IOException {
+        return new GitHubBuilder()
+            .withEndpoint(apiUrl)
+            .withOAuthToken(token)
+            .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.kohsuke.github.GHRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * GitHub API tarball로 소스 가져오기 (빌드만 할 저장소용, git clone 대체)
+ *
+ * - 브랜치 tarball을 내려받으면서 바로 압축 해제 (중간 파일 없음, .git 디렉토리 없음)
+ *   → 히스토리가 큰 저장소도 최신 커밋의 파일만 전송
+ * - tarball 최상위 디렉토리(owner-repo-sha/)는 벗겨내고 작업 디렉토리 바로 아래에 풂
+ * - 작업 디렉토리 밖을 가리키는 경로/심볼릭 링크는 건너뜀
+ *
+ * GitHub API 주소는 GitHubApiClient 설정(panda.github.api-url)을 따름
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GitHubTarballFetcher {
+
+    private final GitHubApiClient gitHubApiClient;
+
+    @Value("${panda.source.tarball-dir:${java.io.tmpdir}/panda-source}")
+    private String workspaceDir;
+
+    // deploymentId -> 압축 해제된 작업 디렉토리
+    private final Map<String, Path> workspaces = new ConcurrentHashMap<>();
+
+    private final ExecutorService cleaner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "tarball-workspace-cleaner");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PostConstruct
+    void init() throws IOException {
+        // 재시작 전에 남은 작업 디렉토리 정리
+        deleteRecursively(Paths.get(workspaceDir));
+        Files.createDirectories(Paths.get(workspaceDir));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cleaner.shutdown();
+        try {
+            cleaner.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * ref(브랜치 또는 커밋 SHA) tarball을 받아 배포 전용 디렉토리에 풂
+     *
+     * @return 소스가 풀린 작업 디렉토리
+     */
+    public Path fetch(String deploymentId, String token, String owner, String repo, String ref) {
+        Path workspace = Paths.get(workspaceDir, deploymentId);
+        long start = System.currentTimeMillis();
+
+        try {
+            Files.createDirectories(workspace);
+            GHRepository repository = gitHubApiClient.connect(token).getRepository(owner + "/" + repo);
+
+            long bytes = repository.readTar(input -> extract(input, workspace), ref);
+            workspaces.put(deploymentId, workspace);
+            log.info("Fetched {}/{}@{} tarball to {} ({} bytes extracted, {}ms)",
+                owner, repo, ref, workspace, bytes, System.currentTimeMillis() - start);
+            return workspace;
+        } catch (IOException e) {
+            deleteQuietly(workspace);
+            throw new RuntimeException("Failed to fetch repository tarball: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배포에서 더 이상 쓰지 않는 작업 디렉토리를 비동기로 정리
+     */
+    public void release(String deploymentId) {
+        Path workspace = workspaces.remove(deploymentId);
+        if (workspace != null) {
+            cleaner.execute(() -> deleteQuietly(workspace));
+        }
+    }
+
+    /**
+     * gzip tar 스트림을 target 아래에 풂
+     *
+     * @return 풀어낸 파일 바이트 수
+     */
+    private static long extract(InputStream input, Path target) throws IOException {
+        Path root = target.toAbsolutePath().normalize();
+        long bytes = 0;
+
+        try (TarArchiveInputStream tar = new TarArchiveInputStream(
+                new GZIPInputStream(new BufferedInputStream(input), 64 * 1024))) {
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                // 최상위 디렉토리(owner-repo-sha/) 제거
+                String name = entry.getName();
+                int slash = name.indexOf('/');
+                if (slash < 0 || slash == name.length() - 1) {
+                    continue;
+                }
+                Path path = root.resolve(name.substring(slash + 1)).normalize();
+                if (!path.startsWith(root)) {
+                    log.warn("Skipping tar entry outside workspace: {}", name);
+                    continue;
+                }
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(path);
+                } else if (entry.isSymbolicLink()) {
+                    Path linkTarget = path.getParent().resolve(entry.getLinkName()).normalize();
+                    if (!linkTarget.startsWith(root)) {
+                        log.warn("Skipping symlink pointing outside workspace: {} -> {}", name, entry.getLinkName());
+                        continue;
+                    }
+                    Files.createDirectories(path.getParent());
+                    Files.createSymbolicLink(path, Paths.get(entry.getLinkName()));
+                } else if (entry.isFile()) {
+                    Files.createDirectories(path.getParent());
+                    bytes += Files.copy(tar, path);
+                    if ((entry.getMode() & 0100) != 0) {
+                        path.toFile().setExecutable(true, false);
+                    }
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static void deleteQuietly(Path dir) {
+        try {
+            deleteRecursively(dir);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
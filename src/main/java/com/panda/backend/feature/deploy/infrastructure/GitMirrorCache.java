@@ -0,0 +1,372 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * (owner, repo)별 bare mirror 캐시 + 배포별 worktree 체크아웃
+ *
+ * 동작 방식:
+ * 1. 처음 배포하는 저장소는 배포 브랜치만 blobless(--filter=blob:none) bare clone으로 mirror 생성,
+ *    이후에는 해당 브랜치만 fetch (변경분만 받음)
+ * 2. 배포마다 mirror에서 worktree를 만들어 체크아웃 (체크아웃하는 커밋의 파일 내용만 그때 받아옴,
+ *    객체는 mirror와 공유하므로 작업 파일만 디스크 사용)
+ * 3. 빌드가 끝나면 release()로 worktree를 비동기로 정리
+ * 4. mirror 전체 크기가 maxBytes를 넘으면 사용 중이 아닌 mirror를 오래 안 쓴 순서로 삭제 (LRU)
+ *    mirror 크기는 objects/pack 파일 합으로 계산 (fetch가 받은 객체를 항상 pack으로 남기도록 설정해 디렉토리 전체를 훑지 않음)
+ *
+ * GitHub 토큰은 URL이나 mirror 설정 파일에 남기지 않고, git 실행 시 환경 변수(GIT_CONFIG_*)로 인증 헤더만 전달
+ */
+@Slf4j
+@Component
+public class GitMirrorCache {
+
+    private static final String GITHUB_URL = "https://github.com/%s/%s.git";
+
+    @Value("${panda.git.mirror-dir:${java.io.tmpdir}/panda-git/mirrors}")
+    private String mirrorDir;
+
+    @Value("${panda.git.workspace-dir:${java.io.tmpdir}/panda-git/workspaces}")
+    private String workspaceDir;
+
+    // mirror 전체 디스크 사용량 상한 (기본 10GB)
+    @Value("${panda.git.mirror-max-bytes:10737418240}")
+    private long maxBytes;
+
+    @Value("${panda.git.command-timeout-ms:600000}")
+    private long commandTimeoutMs;
+
+    // "owner/repo" -> mirror 상태 (mirror 단위 작업은 이 객체로 동기화)
+    private final Map<String, Mirror> mirrors = new ConcurrentHashMap<>();
+
+    // deploymentId -> 체크아웃된 worktree
+    private final Map<String, Workspace> workspaces = new ConcurrentHashMap<>();
+
+    private final ExecutorService cleaner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "git-workspace-cleaner");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // git 출력 소비 전용 (출력을 읽는 스레드와 타임아웃을 기다리는 스레드를 분리)
+    private final ExecutorService outputDrainer = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "git-output-drainer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static class Mirror {
+        private final String key;
+        private final Path path;
+        private volatile long lastUsed;
+        private volatile long sizeBytes;
+        private int activeWorkspaces;   // synchronized(this) 안에서만 변경
+
+        private Mirror(String key, Path path) {
+            this.key = key;
+            this.path = path;
+        }
+    }
+
+    private static class Workspace {
+        private final Mirror mirror;
+        private final Path path;
+
+        private Workspace(Mirror mirror, Path path) {
+            this.mirror = mirror;
+            this.path = path;
+        }
+    }
+
+    /**
+     * 재시작 전 mirror는 이어서 사용하고, 남아 있던 worktree는 모두 정리
+     */
+    @PostConstruct
+    void loadExistingMirrors() throws IOException {
+        Path mirrorRoot = Paths.get(mirrorDir);
+        Files.createDirectories(mirrorRoot);
+        deleteRecursively(Paths.get(workspaceDir));
+        Files.createDirectories(Paths.get(workspaceDir));
+
+        try (Stream<Path> owners = Files.list(mirrorRoot)) {
+            for (Path ownerDir : owners.filter(Files::isDirectory).toList()) {
+                try (Stream<Path> repos = Files.list(ownerDir)) {
+                    for (Path repoDir : repos.filter(p -> p.getFileName().toString().endsWith(".git")).toList()) {
+                        String repoName = repoDir.getFileName().toString();
+                        String key = ownerDir.getFileName() + "/" + repoName.substring(0, repoName.length() - 4);
+                        Mirror mirror = new Mirror(key, repoDir);
+                        mirror.lastUsed = Files.getLastModifiedTime(repoDir).toMillis();
+                        runQuietly(repoDir, "git", "config", "fetch.unpackLimit", "1");
+                        mirror.sizeBytes = packSize(repoDir);
+                        mirrors.put(key, mirror);
+                        runQuietly(repoDir, "git", "worktree", "prune");
+                    }
+                }
+            }
+        }
+        log.info("Git mirror cache loaded - mirrors: {}, total: {} bytes", mirrors.size(), totalBytes());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        outputDrainer.shutdownNow();
+        cleaner.shutdown();
+        try {
+            cleaner.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * mirror를 최신화하고 배포용 worktree에 branch를 체크아웃
+     *
+     * @param commitSha 체크아웃할 커밋 (null이면 fetch한 branch HEAD)
+     * @return 체크아웃된 작업 디렉토리
+     */
+    public Path checkout(String deploymentId, String token, String owner, String repo, String branch,
+                         String commitSha) {
+        String key = (owner + "/" + repo).toLowerCase();
+        Path workspace = Paths.get(workspaceDir, deploymentId);
+        String authHeader = "Authorization: Basic " + Base64.getEncoder()
+            .encodeToString((token + ":x-oauth-basic").getBytes(StandardCharsets.UTF_8));
+
+        while (true) {
+            Mirror mirror = mirrors.computeIfAbsent(key,
+                k -> new Mirror(k, Paths.get(mirrorDir, owner.toLowerCase(), repo.toLowerCase() + ".git")));
+            synchronized (mirror) {
+                if (mirrors.get(key) != mirror) {
+                    continue;  // 락을 잡기 전에 LRU로 제거됨 → 새 항목으로 다시 시도
+                }
+                checkoutLocked(mirror, deploymentId, authHeader, owner, repo, branch, commitSha, workspace);
+                break;
+            }
+        }
+
+        evictIfOverQuota();
+        return workspace;
+    }
+
+    private void checkoutLocked(Mirror mirror, String deploymentId, String authHeader, String owner, String repo,
+                                String branch, String commitSha, Path workspace) {
+        long start = System.currentTimeMillis();
+        boolean created = !Files.isDirectory(mirror.path);
+        try {
+            if (created) {
+                log.info("Creating git mirror: {}", mirror.key);
+                // 배포 브랜치의 커밋/트리만 받고 파일 내용(blob)은 체크아웃할 때 필요한 것만 받음
+                run(null, authHeader, "git", "clone", "--bare", "--no-tags", "--filter=blob:none",
+                    "--single-branch", "--branch", branch,
+                    String.format(GITHUB_URL, owner, repo), mirror.path.toString());
+                // 작은 fetch도 loose 객체로 풀지 않고 pack으로 남김 (크기를 pack 디렉토리만으로 계산)
+                run(mirror.path, null, "git", "config", "fetch.unpackLimit", "1");
+            }
+            // 해당 브랜치만 갱신 (이미 있는 객체는 다시 받지 않음, blobless mirror는 clone 때의 필터를 그대로 사용)
+            run(mirror.path, authHeader, "git", "fetch", "--no-tags", "--force", "origin",
+                "+refs/heads/" + branch + ":refs/heads/" + branch);
+            // blobless mirror는 체크아웃 중에 필요한 blob을 받아오므로 인증 필요
+            run(mirror.path, authHeader, "git", "worktree", "add", "--force", "--detach",
+                workspace.toString(), commitSha != null ? commitSha : "refs/heads/" + branch);
+        } catch (RuntimeException e) {
+            // 만들다 만 mirror는 다음 배포가 다시 clone하도록 삭제, 실패한 worktree도 정리
+            deleteQuietly(created ? mirror.path : workspace);
+            if (!created) {
+                runQuietly(mirror.path, "git", "worktree", "prune");
+            }
+            throw e;
+        }
+
+        mirror.activeWorkspaces++;
+        mirror.lastUsed = System.currentTimeMillis();
+        mirror.sizeBytes = packSize(mirror.path);
+        workspaces.put(deploymentId, new Workspace(mirror, workspace));
+        log.info("Checked out {}@{} to {} ({} mirror, {}ms)", mirror.key, branch, workspace,
+            created ? "new" : "cached", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 배포에서 더 이상 쓰지 않는 worktree를 비동기로 정리
+     */
+    public void release(String deploymentId) {
+        Workspace workspace = workspaces.remove(deploymentId);
+        if (workspace == null) {
+            return;
+        }
+        cleaner.execute(() -> {
+            Mirror mirror = workspace.mirror;
+            synchronized (mirror) {
+                try {
+                    runQuietly(mirror.path, "git", "worktree", "remove", "--force", workspace.path.toString());
+                    deleteRecursively(workspace.path);
+                    runQuietly(mirror.path, "git", "worktree", "prune");
+                    log.debug("Workspace released - deploymentId: {}", deploymentId);
+                } catch (IOException e) {
+                    log.warn("Failed to clean workspace {}: {}", workspace.path, e.getMessage());
+                } finally {
+                    mirror.activeWorkspaces--;
+                }
+            }
+            evictIfOverQuota();
+        });
+    }
+
+    /**
+     * 상한을 넘으면 사용 중이 아닌 mirror부터 오래 안 쓴 순서로 삭제
+     */
+    private void evictIfOverQuota() {
+        long total = totalBytes();
+        if (total <= maxBytes) {
+            return;
+        }
+        List<Mirror> candidates = new ArrayList<>(mirrors.values());
+        candidates.sort(Comparator.comparingLong(m -> m.lastUsed));
+
+        for (Mirror mirror : candidates) {
+            if (total <= maxBytes) {
+                break;
+            }
+            synchronized (mirror) {
+                if (mirror.activeWorkspaces > 0 || !mirrors.remove(mirror.key, mirror)) {
+                    continue;
+                }
+                try {
+                    deleteRecursively(mirror.path);
+                    total -= mirror.sizeBytes;
+                    log.info("Evicted git mirror {} ({} bytes) - total: {}/{} bytes",
+                        mirror.key, mirror.sizeBytes, total, maxBytes);
+                } catch (IOException e) {
+                    log.warn("Failed to evict git mirror {}: {}", mirror.key, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private long totalBytes() {
+        return mirrors.values().stream().mapToLong(m -> m.sizeBytes).sum();
+    }
+
+    private void run(Path dir, String authHeader, String... command) {
+        int exitCode = exec(dir, authHeader, command);
+        if (exitCode != 0) {
+            throw new RuntimeException(String.format("git %s failed. Exit code: %d", command[1], exitCode));
+        }
+    }
+
+    private void runQuietly(Path dir, String... command) {
+        int exitCode = exec(dir, null, command);
+        if (exitCode != 0) {
+            log.debug("git {} exited with {}", command[1], exitCode);
+        }
+    }
+
+    private int exec(Path dir, String authHeader, String... command) {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        if (dir != null) {
+            pb.directory(dir.toFile());
+        }
+        pb.redirectErrorStream(true);
+        pb.environment().put("GIT_TERMINAL_PROMPT", "0");
+        if (authHeader != null) {
+            // 명령행/설정 파일에 남지 않도록 환경 변수로만 전달 (git 2.31+)
+            pb.environment().put("GIT_CONFIG_COUNT", "1");
+            pb.environment().put("GIT_CONFIG_KEY_0", "http.https://github.com/.extraheader");
+            pb.environment().put("GIT_CONFIG_VALUE_0", authHeader);
+        }
+
+        Process process = null;
+        try {
+            process = pb.start();
+            // 출력은 별도 스레드에서 소비하고, 이 스레드는 프로세스 종료만 기다림
+            // → git이 출력 없이 멈춰도 타임아웃이 적용되어 mirror 잠금을 붙잡고 있지 않음
+            InputStream output = process.getInputStream();
+            outputDrainer.execute(() -> drainOutput(output, command[1]));
+
+            if (!process.waitFor(commandTimeoutMs, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new RuntimeException("git " + command[1] + " timed out after " + commandTimeoutMs + "ms");
+            }
+            return process.exitValue();
+        } catch (RejectedExecutionException e) {
+            process.destroyForcibly();
+            throw new RuntimeException("git " + command[1] + " rejected (shutting down)", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to run git " + command[1] + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running git " + command[1], e);
+        }
+    }
+
+    // 프로세스가 종료(또는 강제 종료)되면 EOF로 끝남
+    private static void drainOutput(InputStream output, String subcommand) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(output, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.debug("git {}: {}", subcommand, line);
+            }
+        } catch (IOException e) {
+            log.debug("git {} output closed: {}", subcommand, e.getMessage());
+        }
+    }
+
+    // mirror 크기 = objects/pack 파일 합 (pack 디렉토리 한 곳만 나열, 배포마다 mirror 전체를 훑지 않음)
+    private static long packSize(Path mirrorPath) {
+        Path packDir = mirrorPath.resolve("objects").resolve("pack");
+        if (!Files.isDirectory(packDir)) {
+            return 0;
+        }
+        long size = 0;
+        try (Stream<Path> files = Files.list(packDir)) {
+            for (Path file : files.toList()) {
+                // 백그라운드 gc가 지운 파일은 0
+                size += file.toFile().length();
+            }
+        } catch (IOException e) {
+            log.debug("Failed to measure {}: {}", packDir, e.getMessage());
+        }
+        return size;
+    }
+
+    private static void deleteQuietly(Path dir) {
+        try {
+            deleteRecursively(dir);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import com.github.dockerjava.api.model.AuthConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Docker Registry HTTP API v2로 이미 push된 이미지에 태그만 추가
+ *
+ * - 원본 태그의 매니페스트를 받아 같은 바이트 그대로 새 태그로 PUT (레이어 업로드 없음)
+ * - ECR(https://<account>.dkr.ecr.<region>.amazonaws.com, Basic AWS:<token>)과
+ *   로컬 레지스트리(http://localhost:5000, 인증 없음) 모두 같은 방식으로 동작
+ */
+@Slf4j
+@Component
+public class RegistryManifestClient {
+
+    // 단일 이미지/멀티 플랫폼 인덱스 모두 원본 형식 그대로 받도록 요청
+    private static final String MANIFEST_ACCEPT = String.join(", ",
+        "application/vnd.docker.distribution.manifest.v2+json",
+        "application/vnd.docker.distribution.manifest.list.v2+json",
+        "application/vnd.oci.image.manifest.v1+json",
+        "application/vnd.oci.image.index.v1+json");
+
+    private final HttpClient httpClient;
+
+    @Value("${panda.registry.request-timeout-ms:30000}")
+    private long requestTimeoutMs = 30000;
+
+    public RegistryManifestClient() {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    /**
+     * sourceTag가 가리키는 매니페스트에 targetTag 추가 (이미 있으면 targetTag를 이 매니페스트로 옮김)
+     *
+     * @param registryBaseUrl 레지스트리 주소 (예: https://123456789012.dkr.ecr.ap-northeast-2.amazonaws.com)
+     * @param repository 저장소 이름
+     * @param auth Basic 인증 정보 (없으면 null)
+     * @throws IOException 매니페스트 조회/등록 실패 시
+     */
+    public void addTag(String registryBaseUrl, String repository, String sourceTag, String targetTag,
+                       AuthConfig auth) throws IOException {
+        URI source = manifestUri(registryBaseUrl, repository, sourceTag);
+        HttpResponse<byte[]> manifest = send(request(source, auth)
+            .header("Accept", MANIFEST_ACCEPT)
+            .GET()
+            .build());
+        if (manifest.statusCode() != 200) {
+            throw new IOException("Failed to get manifest " + repository + ":" + sourceTag
+                + " (HTTP " + manifest.statusCode() + ")");
+        }
+        String mediaType = manifest.headers().firstValue("Content-Type")
+            .orElseThrow(() -> new IOException("Manifest " + repository + ":" + sourceTag + " has no media type"));
+
+        HttpResponse<byte[]> put = send(request(manifestUri(registryBaseUrl, repository, targetTag), auth)
+            .header("Content-Type", mediaType)
+            .PUT(HttpRequest.BodyPublishers.ofByteArray(manifest.body()))
+            .build());
+        if (put.statusCode() != 201 && put.statusCode() != 200) {
+            throw new IOException("Failed to put manifest " + repository + ":" + targetTag
+                + " (HTTP " + put.statusCode() + "): " + new String(put.body(), StandardCharsets.UTF_8));
+        }
+        log.info("Tagged {}:{} as {} in {}", repository, sourceTag, targetTag, registryBaseUrl);
+    }
+
+    private HttpRequest.Builder request(URI uri, AuthConfig auth) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+            .timeout(Duration.ofMillis(requestTimeoutMs));
+        if (auth != null && auth.getUsername() != null) {
+            String credentials = auth.getUsername() + ":" + (auth.getPassword() != null ? auth.getPassword() : "");
+            builder.header("Authorization",
+                "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while calling registry " + request.uri(), e);
+        }
+    }
+
+    private static URI manifestUri(String registryBaseUrl, String repository, String reference) {
+        String base = registryBaseUrl.endsWith("/")
+            ? registryBaseUrl.substring(0, registryBaseUrl.length() - 1)
+            : registryBaseUrl;
+        return URI.create(base + "/v2/" + repository + "/manifests/" + reference);
+    }
+}
@@ -0,0 +1,311 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Step Functions Task output(JSON)에서 필요한 필드만 스트리밍으로 추출하는 파서
+ *
+ * 동작 방식:
+ * 1. 알려진 output 형태마다 필요한 경로(JSON Pointer)만 정해 둠
+ * 2. JsonParser로 토큰을 따라가며 필요한 경로의 값만 읽고, 관계없는 하위 객체/배열은 skipChildren()으로 건너뜀
+ *    → 중간 Map 트리를 만들지 않고, 로그용으로 다시 직렬화하지도 않음
+ * 3. 결과는 배포 ID + 이벤트 ID로 캐시 (같은 이벤트를 여러 분석 단계에서 봐도 한 번만 파싱)
+ *
+ * 캐시는 폴링 세션이 끝날 때 release()로 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskOutputParser {
+
+    // EnsureInfra / RegisterTaskAndDeploy output
+    private static final Set<String> TASK_STATE_PATHS = Set.of(
+        "/stage", "/clusterName", "/serviceName", "/taskDefinition",
+        "/blueService/serviceArn", "/blueService/url",
+        "/greenService/serviceArn", "/greenService/url",
+        "/deployResult/Payload/deploymentId",
+        "/codeDeployDeploymentId", "/codeDeployApplicationName"
+    );
+
+    // CheckDeployment output (Lambda Invoke 결과가 Payload로 감싸져 있음)
+    private static final Set<String> CHECK_DEPLOYMENT_PATHS = Set.of(
+        "/checkResult/Payload/checkResult/deploymentId",
+        "/checkResult/Payload/checkResult/blueTargetGroupArn",
+        "/checkResult/Payload/checkResult/greenTargetGroupArn"
+    );
+
+    // RunMetrics payload (/blue, /green은 객체 존재 여부 확인용)
+    private static final Set<String> RUN_METRICS_PATHS = Set.of(
+        "/blue", "/green",
+        "/blue/latencyMs", "/blue/errorRate", "/blue/url", "/blue/targetGroupArn",
+        "/green/latencyMs", "/green/errorRate", "/green/url", "/green/targetGroupArn",
+        "/comparison/fasterService", "/comparison/latencyImprovement"
+    );
+
+    // RunMetrics는 Payload가 객체일 수도, JSON 문자열일 수도 있음
+    private static final Set<String> RUN_METRICS_OUTPUT_PATHS = prefixed("/Payload", RUN_METRICS_PATHS);
+
+    // 추출 경로 자체가 객체일 때 값 대신 넣는 표시 (하위 필드와 관계없이 객체가 있다는 것만 나타냄)
+    private static final Object OBJECT_PRESENT = new Object();
+
+    private final ObjectMapper objectMapper;
+
+    // deploymentId -> (eventId -> 파싱 결과)
+    private final Map<String, Map<Long, Object>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * EnsureInfra / RegisterTaskAndDeploy TaskStateExited output
+     *
+     * @return 파싱 결과 (JSON이 아니면 null)
+     */
+    public TaskStateOutput parseTaskState(String deploymentId, long eventId, String output) {
+        return cached(deploymentId, eventId, TaskStateOutput.class, output,
+            json -> new TaskStateOutput(extract(json, TASK_STATE_PATHS)));
+    }
+
+    /**
+     * CheckDeployment TaskStateExited output
+     *
+     * @return 파싱 결과 (JSON이 아니면 null)
+     */
+    public CheckDeploymentOutput parseCheckDeployment(String deploymentId, long eventId, String output) {
+        return cached(deploymentId, eventId, CheckDeploymentOutput.class, output,
+            json -> new CheckDeploymentOutput(extract(json, CHECK_DEPLOYMENT_PATHS)));
+    }
+
+    /**
+     * RunMetrics TaskSucceeded output
+     *
+     * @return 파싱 결과 (JSON이 아니면 null)
+     */
+    public RunMetricsOutput parseRunMetrics(String deploymentId, long eventId, String output) {
+        return cached(deploymentId, eventId, RunMetricsOutput.class, output, json -> {
+            Map<String, Object> values = extract(json, RUN_METRICS_OUTPUT_PATHS);
+            Object payload = values.get("/Payload");
+            if (payload instanceof String) {
+                // Payload가 JSON 문자열이면 그 안에서 다시 추출
+                return new RunMetricsOutput(true, extract((String) payload, RUN_METRICS_PATHS));
+            }
+            return new RunMetricsOutput(payload == OBJECT_PRESENT, unprefixed("/Payload", values));
+        });
+    }
+
+    /**
+     * 폴링이 끝난 배포의 캐시 정리
+     */
+    public void release(String deploymentId) {
+        cache.remove(deploymentId);
+    }
+
+    private <T> T cached(String deploymentId, long eventId, Class<T> type, String output,
+                         Function<String, T> parser) {
+        Map<Long, Object> parsed = cache.computeIfAbsent(deploymentId, k -> new ConcurrentHashMap<>());
+        Object hit = parsed.get(eventId);
+        if (type.isInstance(hit)) {
+            return type.cast(hit);
+        }
+        try {
+            T result = parser.apply(output);
+            parsed.put(eventId, result);
+            return result;
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to parse task output - deploymentId: {}, eventId: {}: {}",
+                deploymentId, eventId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * json에서 paths에 해당하는 스칼라 값만 추출 (경로 -> String/Number/Boolean, JSON null은 제외)
+     * 경로가 객체를 가리키면 값 대신 OBJECT_PRESENT (배열은 제외)
+     *
+     * paths 중 하나의 상위 경로인 객체만 따라 들어가고, 나머지 하위 구조는 건너뜀
+     * (경로 자체가 문자열 값이면 그 문자열을 그대로 반환)
+     */
+    Map<String, Object> extract(String json, Set<String> paths) {
+        Map<String, Object> values = new HashMap<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Task output is not a JSON object");
+            }
+            readObject(parser, "", paths, values);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed task output: " + e.getMessage(), e);
+        }
+        return values;
+    }
+
+    private void readObject(JsonParser parser, String path, Set<String> paths, Map<String, Object> values)
+        throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldPath = path + "/" + parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (value == JsonToken.START_OBJECT) {
+                if (paths.contains(fieldPath)) {
+                    values.put(fieldPath, OBJECT_PRESENT);
+                }
+                if (isAncestor(fieldPath, paths)) {
+                    readObject(parser, fieldPath, paths, values);
+                } else {
+                    parser.skipChildren();
+                }
+            } else if (value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (value != JsonToken.VALUE_NULL && paths.contains(fieldPath)) {
+                values.put(fieldPath, scalar(parser, value));
+            }
+        }
+    }
+
+    private static Object scalar(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            default -> parser.getText();
+        };
+    }
+
+    private static boolean isAncestor(String path, Set<String> paths) {
+        String prefix = path + "/";
+        for (String candidate : paths) {
+            if (candidate.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> prefixed(String prefix, Set<String> paths) {
+        Set<String> result = new HashSet<>();
+        result.add(prefix);
+        for (String path : paths) {
+            result.add(prefix + path);
+        }
+        return Set.copyOf(result);
+    }
+
+    private static Map<String, Object> unprefixed(String prefix, Map<String, Object> values) {
+        Map<String, Object> result = new HashMap<>();
+        values.forEach((path, value) -> {
+            if (path.startsWith(prefix + "/")) {
+                result.put(path.substring(prefix.length()), value);
+            }
+        });
+        return result;
+    }
+
+    private static String text(Map<String, Object> values, String path) {
+        Object value = value(values, path);
+        return value != null ? value.toString() : null;
+    }
+
+    // 스칼라 값 그대로 (객체 표시는 null)
+    private static Object value(Map<String, Object> values, String path) {
+        Object value = values.get(path);
+        return value != OBJECT_PRESENT ? value : null;
+    }
+
+    /**
+     * EnsureInfra / RegisterTaskAndDeploy output
+     */
+    @Getter
+    public static class TaskStateOutput {
+        private final String stage;
+        private final String clusterName;
+        private final String serviceName;
+        private final String taskDefinition;
+        private final String blueServiceArn;
+        private final String blueUrl;
+        private final String greenServiceArn;
+        private final String greenUrl;
+        private final String deployResultDeploymentId;   // deployResult.Payload.deploymentId
+        private final String codeDeployDeploymentId;     // 이전 형식 (최상위 필드)
+        private final String codeDeployApplicationName;
+
+        private TaskStateOutput(Map<String, Object> values) {
+            this.stage = text(values, "/stage");
+            this.clusterName = text(values, "/clusterName");
+            this.serviceName = text(values, "/serviceName");
+            this.taskDefinition = text(values, "/taskDefinition");
+            this.blueServiceArn = text(values, "/blueService/serviceArn");
+            this.blueUrl = text(values, "/blueService/url");
+            this.greenServiceArn = text(values, "/greenService/serviceArn");
+            this.greenUrl = text(values, "/greenService/url");
+            this.deployResultDeploymentId = text(values, "/deployResult/Payload/deploymentId");
+            this.codeDeployDeploymentId = text(values, "/codeDeployDeploymentId");
+            this.codeDeployApplicationName = text(values, "/codeDeployApplicationName");
+        }
+    }
+
+    /**
+     * CheckDeployment output (checkResult.Payload.checkResult)
+     */
+    @Getter
+    public static class CheckDeploymentOutput {
+        private final String deploymentId;
+        private final String blueTargetGroupArn;
+        private final String greenTargetGroupArn;
+
+        private CheckDeploymentOutput(Map<String, Object> values) {
+            this.deploymentId = text(values, "/checkResult/Payload/checkResult/deploymentId");
+            this.blueTargetGroupArn = text(values, "/checkResult/Payload/checkResult/blueTargetGroupArn");
+            this.greenTargetGroupArn = text(values, "/checkResult/Payload/checkResult/greenTargetGroupArn");
+        }
+    }
+
+    /**
+     * RunMetrics payload (blue/green 메트릭 + 비교 결과)
+     *
+     * 메트릭 값은 Lambda가 준 그대로 (숫자가 문자열로 오면 문자열 그대로 전달)
+     * blue/green은 하위 필드가 비어 있어도 객체만 있으면 present
+     */
+    @Getter
+    public static class RunMetricsOutput {
+        private final boolean payloadPresent;
+        private final boolean bluePresent;
+        private final boolean greenPresent;
+        private final Object blueLatencyMs;
+        private final Object greenLatencyMs;
+        private final Object blueErrorRate;
+        private final Object greenErrorRate;
+        private final String blueUrl;
+        private final String greenUrl;
+        private final String blueTargetGroupArn;
+        private final String greenTargetGroupArn;
+        private final String fasterService;
+        private final Object latencyImprovement;
+
+        private RunMetricsOutput(boolean payloadPresent, Map<String, Object> values) {
+            this.payloadPresent = payloadPresent;
+            this.bluePresent = values.get("/blue") == OBJECT_PRESENT;
+            this.greenPresent = values.get("/green") == OBJECT_PRESENT;
+            this.blueLatencyMs = value(values, "/blue/latencyMs");
+            this.greenLatencyMs = value(values, "/green/latencyMs");
+            this.blueErrorRate = value(values, "/blue/errorRate");
+            this.greenErrorRate = value(values, "/green/errorRate");
+            this.blueUrl = text(values, "/blue/url");
+            this.greenUrl = text(values, "/green/url");
+            this.blueTargetGroupArn = text(values, "/blue/targetGroupArn");
+            this.greenTargetGroupArn = text(values, "/green/targetGroupArn");
+            this.fasterService = text(values, "/comparison/fasterService");
+            this.latencyImprovement = value(values, "/comparison/latencyImprovement");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.panda.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 리액티브 SSE(Flux 반환) 사용 시 비동기 요청 타임아웃 설정
+ *
+ * Flux 응답은 SseEmitter처럼 요청별 타임아웃을 지정할 수 없어 MVC 기본값을 사용하므로,
+ * 설정하지 않으면 서블릿 컨테이너 기본값(Tomcat 30초)에 연결이 끊김
+ * (SseEmitter 엔드포인트는 자체 타임아웃을 지정하므로 영향 없음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "panda.events.reactive.enabled", havingValue = "true")
+public class ReactiveSseConfig implements WebMvcConfigurer {
+
+    @Value("${panda.events.reactive.timeout-ms:600000}")
+    private long timeoutMs;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
@@ -134,6 +134,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(httpStatus).body(errorResponse);
     }
 
+    /**
+     * 푸시 이벤트 인증 실패 처리 (401 Unauthorized)
+     * 외부에서 반복 호출될 수 있으므로 스택 트레이스 없이 경고 로그만 남김
+     */
+    @ExceptionHandler(PushAuthenticationException.class)
+    public ResponseEntity<?> handlePushAuthenticationException(PushAuthenticationException e, WebRequest request) {
+        log.warn("Rejected push event: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.UNAUTHORIZED.value());
+        errorResponse.put("error", "Unauthorized");
+        errorResponse.put("message", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
     /**
      * IllegalArgumentException 처리 (400 Bad Request)
      * 결과 조회 시 배포 ID가 없을 때 등
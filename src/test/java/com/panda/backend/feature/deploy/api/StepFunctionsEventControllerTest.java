@@ -0,0 +1,177 @@
+package com.panda.backend.feature.deploy.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.panda.backend.feature.connect.infrastructure.ConnectionStore;
+import com.panda.backend.feature.deploy.application.EcsServiceUrlResolverService;
+import com.panda.backend.feature.deploy.application.HealthCheckService;
+import com.panda.backend.feature.deploy.application.StepFunctionsEventIngestionService;
+import com.panda.backend.feature.deploy.application.StepFunctionsPollingService;
+import com.panda.backend.feature.deploy.event.DeploymentEventPublisher;
+import com.panda.backend.feature.deploy.event.DeploymentEventStore;
+import com.panda.backend.feature.deploy.event.PacedEventDispatcher;
+import com.panda.backend.feature.deploy.infrastructure.DeploymentJournal;
+import com.panda.backend.feature.deploy.infrastructure.DeploymentResultStore;
+import com.panda.backend.feature.deploy.infrastructure.ExecutionArnStore;
+import com.panda.backend.feature.deploy.infrastructure.TaskOutputParser;
+import com.panda.backend.global.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import software.amazon.awssdk.services.sfn.SfnAsyncClient;
+import software.amazon.awssdk.services.sfn.SfnClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * EventBridge API Destination이 보내는 Step Functions 상태 변경 이벤트 수신 검증
+ * (푸시 키 확인 → 401 매핑, executionArn으로 폴링 세션 라우팅)
+ */
+class StepFunctionsEventControllerTest {
+
+    private static final String PUSH_KEY = "test-push-key";
+    private static final String EXECUTION_ARN =
+        "arn:aws:states:ap-northeast-2:123456789012:execution:panda-deployment:8f5c2c1e";
+
+    // EventBridge가 API Destination으로 전달하는 원본 이벤트 형식
+    private static final String STATUS_CHANGE_EVENT = """
+        {
+          "version": "0",
+          "id": "315c1398-40ff-a850-213b-158f73e60175",
+          "detail-type": "Step Functions Execution Status Change",
+          "source": "aws.states",
+          "account": "123456789012",
+          "time": "2025-11-20T10:00:00Z",
+          "region": "ap-northeast-2",
+          "resources": ["%s"],
+          "detail": {
+            "executionArn": "%s",
+            "stateMachineArn": "arn:aws:states:ap-northeast-2:123456789012:stateMachine:panda-deployment",
+            "name": "8f5c2c1e",
+            "status": "SUCCEEDED",
+            "startDate": 1763632800000,
+            "stopDate": 1763632900000,
+            "input": "{}",
+            "output": null
+          }
+        }
+        """.formatted(EXECUTION_ARN, EXECUTION_ARN);
+
+    private StepFunctionsPollingService pollingService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        pollingService = mock(StepFunctionsPollingService.class);
+        mockMvc = mockMvcFor(pollingService);
+    }
+
+    private static MockMvc mockMvcFor(StepFunctionsPollingService pollingService) {
+        StepFunctionsEventIngestionService ingestionService = new StepFunctionsEventIngestionService(pollingService);
+        ReflectionTestUtils.setField(ingestionService, "pushApiKey", PUSH_KEY);
+
+        return MockMvcBuilders.standaloneSetup(new StepFunctionsEventController(ingestionService))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void routesPushToActivePollingSession() throws Exception {
+        when(pollingService.onExecutionPush(EXECUTION_ARN, "SUCCEEDED")).thenReturn(true);
+
+        mockMvc.perform(post("/api/v1/deploy/stepfunctions/events")
+                .header("X-Panda-Push-Key", PUSH_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(STATUS_CHANGE_EVENT))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.matched").value(true));
+
+        verify(pollingService).onExecutionPush(EXECUTION_ARN, "SUCCEEDED");
+    }
+
+    @Test
+    void unknownExecutionIsAcknowledgedAndLeftToPolling() throws Exception {
+        when(pollingService.onExecutionPush(anyString(), anyString())).thenReturn(false);
+
+        // 매칭되는 세션이 없어도 200 (EventBridge 재시도 방지), 해당 배포는 정기 폴링으로 계속 진행
+        mockMvc.perform(post("/api/v1/deploy/stepfunctions/events")
+                .header("X-Panda-Push-Key", PUSH_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(STATUS_CHANGE_EVENT))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.matched").value(false));
+
+        verify(pollingService).onExecutionPush(EXECUTION_ARN, "SUCCEEDED");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollingServiceWithoutSessionFallsBackWithoutCallingStepFunctions() throws Exception {
+        SfnClient sfnClient = mock(SfnClient.class);
+        StepFunctionsPollingService realPollingService = new StepFunctionsPollingService(
+            sfnClient, mock(ObjectProvider.class), mock(ExecutionArnStore.class),
+            mock(DeploymentEventPublisher.class), mock(DeploymentEventStore.class), mock(PacedEventDispatcher.class),
+            new ObjectMapper(), mock(EcsServiceUrlResolverService.class), mock(HealthCheckService.class),
+            mock(DeploymentResultStore.class), mock(DeploymentJournal.class), mock(ConnectionStore.class),
+            mock(TaskOutputParser.class));
+        try {
+            // 진행 중인 세션이 없는 실행 → 즉시 틱을 예약하지 않고 matched=false
+            mockMvcFor(realPollingService).perform(post("/api/v1/deploy/stepfunctions/events")
+                    .header("X-Panda-Push-Key", PUSH_KEY)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(STATUS_CHANGE_EVENT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.matched").value(false));
+
+            verifyNoInteractions(sfnClient);
+            assertThat(realPollingService.getActivePollingCount()).isZero();
+        } finally {
+            realPollingService.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsWrongPushKeyWith401() throws Exception {
+        mockMvc.perform(post("/api/v1/deploy/stepfunctions/events")
+                .header("X-Panda-Push-Key", "wrong-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(STATUS_CHANGE_EVENT))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.status").value(401))
+            .andExpect(jsonPath("$.error").value("Unauthorized"));
+
+        verifyNoInteractions(pollingService);
+    }
+
+    @Test
+    void rejectsMissingPushKeyWith401() throws Exception {
+        mockMvc.perform(post("/api/v1/deploy/stepfunctions/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(STATUS_CHANGE_EVENT))
+            .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(pollingService);
+    }
+
+    @Test
+    void rejectsEventWithoutExecutionArnWith400() throws Exception {
+        mockMvc.perform(post("/api/v1/deploy/stepfunctions/events")
+                .header("X-Panda-Push-Key", PUSH_KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"detail-type\":\"Step Functions Execution Status Change\",\"detail\":{\"status\":\"RUNNING\"}}"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(pollingService);
+    }
+}
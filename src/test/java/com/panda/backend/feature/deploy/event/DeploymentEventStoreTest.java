@@ -0,0 +1,75 @@
+package com.panda.backend.feature.deploy.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.panda.backend.feature.deploy.infrastructure.DeploymentJournal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 구독 측은 히스토리를 만들지 않고, 발행 측(openHistory/broadcastEvent)만 만드는지 검증
+ */
+class DeploymentEventStoreTest {
+
+    private DeploymentEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DeploymentEventStore(new ObjectMapper(), mock(DeploymentJournal.class));
+        ReflectionTestUtils.setField(store, "writerThreads", 1);
+        ReflectionTestUtils.setField(store, "writerQueueCapacity", 16);
+        ReflectionTestUtils.setField(store, "writeTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(store, "subscriberQueueCapacity", 512);
+        ReflectionTestUtils.setField(store, "historyCapacity", 256);
+        store.startWriters();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void reactiveSubscriptionToUnknownDeploymentIsEmptyAndCreatesNoHistory() {
+        List<ServerSentEvent<String>> events = store.streamEvents("dep_unknown", null)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(events).isEmpty();
+        assertThat(histories()).doesNotContainKey("dep_unknown");
+    }
+
+    @Test
+    void emitterSubscriptionToUnknownDeploymentCreatesNoHistory() {
+        store.registerEmitter("dep_unknown", null);
+        store.registerEmitter("dep_unknown", 42L);
+
+        assertThat(histories()).isEmpty();
+    }
+
+    @Test
+    void openedDeploymentCanBeSubscribedBeforeFirstEvent() {
+        store.openHistory("dep_started");
+
+        ServerSentEvent<String> first = store.streamEvents("dep_started", null)
+            .blockFirst(Duration.ofSeconds(5));
+
+        assertThat(first).isNotNull();
+        assertThat(first.event()).isEqualTo("connected");
+        assertThat(histories()).containsOnlyKeys("dep_started");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, DeploymentEventHistory> histories() {
+        return (Map<String, DeploymentEventHistory>) ReflectionTestUtils.getField(store, "eventHistoryMap");
+    }
+}
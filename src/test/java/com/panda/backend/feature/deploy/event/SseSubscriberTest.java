@@ -0,0 +1,124 @@
+package com.panda.backend.feature.deploy.event;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 쓰기 마감 시간 초과 시 인터럽트 없이 비동기 요청 종료로 막힌 write를 정리하는지 검증
+ */
+class SseSubscriberTest {
+
+    private ExecutorService writer;
+    private ScheduledExecutorService scheduler;
+    private HttpServletRequest request;
+    private AsyncContext asyncContext;
+    private StalledEmitter emitter;
+
+    @BeforeEach
+    void setUp() {
+        writer = Executors.newSingleThreadExecutor();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        emitter = new StalledEmitter();
+        asyncContext = mock(AsyncContext.class);
+        request = mock(HttpServletRequest.class);
+        when(request.isAsyncStarted()).thenReturn(true);
+        when(request.getAsyncContext()).thenReturn(asyncContext);
+        // 컨테이너가 비동기 요청을 끝내면 막혀 있던 소켓 쓰기가 실패하는 상황 재현
+        doAnswer(invocation -> {
+            emitter.connectionClosed.countDown();
+            return null;
+        }).when(asyncContext).complete();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitter.connectionClosed.countDown();
+        writer.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void stalledWriteIsClosedThroughAsyncContextWithoutInterrupt() throws Exception {
+        AtomicReference<SseSubscriber> removed = new AtomicReference<>();
+        SseSubscriber subscriber = new SseSubscriber(emitter, 16, writer, scheduler, 0, removed::set, request);
+
+        assertThat(subscriber.offer(SseFrame.comment("keepalive"))).isTrue();
+        assertThat(emitter.writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 마감 시간 전에는 아무것도 하지 않음
+        assertThat(subscriber.expireStalledWrite(System.currentTimeMillis(), 60_000)).isFalse();
+        verify(asyncContext, never()).complete();
+
+        assertThat(subscriber.expireStalledWrite(System.currentTimeMillis() + 60_000, 10_000)).isTrue();
+        verify(asyncContext).complete();
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(subscriber.offer(SseFrame.comment("keepalive"))).isFalse();
+
+        assertThat(emitter.completedWithError.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.error.get()).isInstanceOf(IOException.class).hasMessageContaining("timed out");
+        assertThat(emitter.interrupted.get()).isFalse();
+        assertThat(removed.get()).isSameAs(subscriber);
+    }
+
+    @Test
+    void expireIsNoopWhenNoWriteInProgress() {
+        SseSubscriber subscriber = new SseSubscriber(emitter, 16, writer, scheduler, 0, failed -> { }, request);
+
+        assertThat(subscriber.expireStalledWrite(System.currentTimeMillis() + 60_000, 10_000)).isFalse();
+        assertThat(subscriber.isClosed()).isFalse();
+        verify(asyncContext, never()).complete();
+    }
+
+    /**
+     * 소켓 쓰기가 막힌 emitter (인터럽트는 무시하고, 연결이 닫혀야 IOException으로 빠져나옴)
+     */
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch connectionClosed = new CountDownLatch(1);
+        private final CountDownLatch completedWithError = new CountDownLatch(1);
+        private final AtomicBoolean interrupted = new AtomicBoolean(false);
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            writeStarted.countDown();
+            while (true) {
+                try {
+                    if (connectionClosed.await(10, TimeUnit.SECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            }
+            throw new IOException("Connection closed");
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            error.set(ex);
+            completedWithError.countDown();
+        }
+    }
+}
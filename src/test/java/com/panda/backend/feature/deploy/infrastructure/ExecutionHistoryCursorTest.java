@@ -0,0 +1,119 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sfn.SfnClient;
+import software.amazon.awssdk.services.sfn.model.GetExecutionHistoryRequest;
+import software.amazon.awssdk.services.sfn.model.GetExecutionHistoryResponse;
+import software.amazon.awssdk.services.sfn.model.HistoryEvent;
+import software.amazon.awssdk.services.sfn.model.HistoryEventType;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExecutionHistoryCursorTest {
+
+    private static final String EXECUTION_ARN = "arn:aws:states:ap-northeast-2:123456789012:execution:panda:exec-1";
+
+    private SfnClient sfnClient;
+    private ExecutionHistoryCursor cursor;
+
+    @BeforeEach
+    void setUp() {
+        sfnClient = mock(SfnClient.class);
+        cursor = new ExecutionHistoryCursor(sfnClient, null, EXECUTION_ARN, 3, 0L);
+    }
+
+    @Test
+    void returnsEventsInAscendingOrderAndAdvancesOnlyOnCommit() {
+        when(sfnClient.getExecutionHistory(any(GetExecutionHistoryRequest.class)))
+            .thenReturn(page(null, 3, 2, 1));
+
+        ExecutionHistoryCursor.HistoryBatch batch = cursor.fetchNewEvents();
+
+        assertThat(ids(batch)).containsExactly(1L, 2L, 3L);
+        assertThat(batch.getPendingEventId()).isEqualTo(3L);
+        assertThat(cursor.getLastSeenEventId()).isZero();
+
+        cursor.commit(batch);
+
+        assertThat(cursor.getLastSeenEventId()).isEqualTo(3L);
+        assertThat(cursor.getLastEventType()).isEqualTo(HistoryEventType.TASK_STATE_ENTERED.toString());
+    }
+
+    @Test
+    void uncommittedBatchIsFetchedAgain() {
+        when(sfnClient.getExecutionHistory(any(GetExecutionHistoryRequest.class)))
+            .thenReturn(page(null, 2, 1), page(null, 2, 1));
+
+        cursor.fetchNewEvents();  // 처리 실패로 commit하지 않음
+        ExecutionHistoryCursor.HistoryBatch retried = cursor.fetchNewEvents();
+
+        assertThat(ids(retried)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void stopsAtLastSeenEventWithoutFollowingNextToken() {
+        cursor = new ExecutionHistoryCursor(sfnClient, null, EXECUTION_ARN, 3, 3L);
+        when(sfnClient.getExecutionHistory(any(GetExecutionHistoryRequest.class)))
+            .thenReturn(page("more", 6, 5, 4, 3, 2, 1));
+
+        ExecutionHistoryCursor.HistoryBatch batch = cursor.fetchNewEvents();
+
+        assertThat(ids(batch)).containsExactly(4L, 5L, 6L);
+        verify(sfnClient, times(1)).getExecutionHistory(any(GetExecutionHistoryRequest.class));
+    }
+
+    @Test
+    void followsNextTokenUntilLastSeenEventIsReached() {
+        cursor = new ExecutionHistoryCursor(sfnClient, null, EXECUTION_ARN, 3, 2L);
+        when(sfnClient.getExecutionHistory(any(GetExecutionHistoryRequest.class)))
+            .thenReturn(page("page-2", 8, 7, 6), page("page-3", 5, 4, 3), page(null, 2, 1));
+
+        ExecutionHistoryCursor.HistoryBatch batch = cursor.fetchNewEvents();
+
+        assertThat(ids(batch)).containsExactly(3L, 4L, 5L, 6L, 7L, 8L);
+
+        ArgumentCaptor<GetExecutionHistoryRequest> requests = ArgumentCaptor.forClass(GetExecutionHistoryRequest.class);
+        verify(sfnClient, times(3)).getExecutionHistory(requests.capture());
+        assertThat(requests.getAllValues())
+            .extracting(GetExecutionHistoryRequest::nextToken)
+            .containsExactly(null, "page-2", "page-3");
+        assertThat(requests.getAllValues())
+            .allSatisfy(request -> {
+                assertThat(request.reverseOrder()).isTrue();
+                assertThat(request.maxResults()).isEqualTo(3);
+            });
+
+        cursor.commit(batch);
+        assertThat(cursor.getLastSeenEventId()).isEqualTo(8L);
+    }
+
+    // 최신순(reverseOrder) 페이지
+    private static GetExecutionHistoryResponse page(String nextToken, long... idsNewestFirst) {
+        List<HistoryEvent> events = Arrays.stream(idsNewestFirst)
+            .mapToObj(id -> HistoryEvent.builder()
+                .id(id)
+                .type(HistoryEventType.TASK_STATE_ENTERED)
+                .timestamp(Instant.ofEpochSecond(1_700_000_000L + id))
+                .build())
+            .toList();
+        return GetExecutionHistoryResponse.builder()
+            .events(events)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    private static List<Long> ids(ExecutionHistoryCursor.HistoryBatch batch) {
+        return batch.getEvents().stream().map(HistoryEvent::id).toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHFileNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GitHubApiClientTest {
+
+    private static final String SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    private GitHubApiStub github;
+    private GitHubApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        github = new GitHubApiStub("octo", "app");
+        client = new GitHubApiClient();
+        ReflectionTestUtils.setField(client, "apiUrl", github.baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        github.stop();
+    }
+
+    @Test
+    void resolvesBranchHeadSha() throws IOException {
+        github.branch("main", SHA);
+
+        assertThat(client.resolveBranchSha("token-1", "octo", "app", "main")).isEqualTo(SHA);
+        assertThat(github.requests).contains("GET /repos/octo/app/branches/main");
+        assertThat(github.authorizations).isNotEmpty().allMatch(value -> value.endsWith("token-1"));
+    }
+
+    @Test
+    void failsForUnknownBranch() {
+        assertThatThrownBy(() -> client.resolveBranchSha("token-1", "octo", "app", "missing"))
+            .isInstanceOf(GHFileNotFoundException.class);
+    }
+}
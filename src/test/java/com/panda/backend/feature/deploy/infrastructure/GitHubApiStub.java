@@ -0,0 +1,123 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub REST API 중 배포 파이프라인이 쓰는 엔드포인트만 흉내내는 로컬 HTTP 스텁
+ *
+ * - GET /repos/{owner}/{repo}
+ * - GET /repos/{owner}/{repo}/branches/{branch}
+ * - GET /repos/{owner}/{repo}/tarball/{ref}
+ */
+class GitHubApiStub {
+
+    private final HttpServer server;
+    private final String owner;
+    private final String repo;
+    private final Map<String, String> branches = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> tarballs = new ConcurrentHashMap<>();
+    final List<String> requests = new ArrayList<>();
+    final List<String> authorizations = new ArrayList<>();
+
+    GitHubApiStub(String owner, String repo) throws IOException {
+        this.owner = owner;
+        this.repo = repo;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void branch(String name, String sha) {
+        branches.put(name, sha);
+    }
+
+    void tarball(String ref, byte[] gzipTar) {
+        tarballs.put(ref, gzipTar);
+    }
+
+    void stop() {
+        server.stop(0);
+    }
+
+    private synchronized void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requests.add(exchange.getRequestMethod() + " " + path);
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null) {
+            authorizations.add(authorization);
+        }
+
+        String prefix = "/repos/" + owner + "/" + repo;
+        if (!"GET".equals(exchange.getRequestMethod()) || !path.startsWith(prefix)) {
+            respond(exchange, 404, "application/json", notFound());
+            return;
+        }
+
+        String tail = path.substring(prefix.length());
+        if (tail.isEmpty()) {
+            respond(exchange, 200, "application/json", json(repositoryJson()));
+        } else if (tail.startsWith("/branches/")) {
+            String sha = branches.get(tail.substring("/branches/".length()));
+            if (sha == null) {
+                respond(exchange, 404, "application/json", notFound());
+            } else {
+                respond(exchange, 200, "application/json", json(
+                    "{\"name\":\"" + tail.substring("/branches/".length()) + "\","
+                        + "\"commit\":{\"sha\":\"" + sha + "\",\"url\":\"" + baseUrl() + prefix + "/commits/" + sha + "\"},"
+                        + "\"protected\":false}"));
+            }
+        } else if (tail.startsWith("/tarball/")) {
+            byte[] tarball = tarballs.get(tail.substring("/tarball/".length()));
+            if (tarball == null) {
+                respond(exchange, 404, "application/json", notFound());
+            } else {
+                respond(exchange, 200, "application/x-gzip", tarball);
+            }
+        } else {
+            respond(exchange, 404, "application/json", notFound());
+        }
+    }
+
+    private String repositoryJson() {
+        String url = baseUrl() + "/repos/" + owner + "/" + repo;
+        return "{\"id\":1,\"node_id\":\"R_1\",\"name\":\"" + repo + "\","
+            + "\"full_name\":\"" + owner + "/" + repo + "\","
+            + "\"owner\":{\"login\":\"" + owner + "\",\"id\":1,\"type\":\"User\","
+            + "\"url\":\"" + baseUrl() + "/users/" + owner + "\"},"
+            + "\"private\":true,\"default_branch\":\"main\","
+            + "\"url\":\"" + url + "\",\"html_url\":\"https://github.com/" + owner + "/" + repo + "\"}";
+    }
+
+    private static byte[] notFound() {
+        return json("{\"message\":\"Not Found\"}");
+    }
+
+    private static byte[] json(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+        exchange.close();
+    }
+}
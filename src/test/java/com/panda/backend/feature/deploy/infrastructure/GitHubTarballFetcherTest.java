@@ -0,0 +1,160 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 GitHub API 스텁에서 tarball을 받아 작업 디렉토리에 푸는 과정 검증
+ */
+class GitHubTarballFetcherTest {
+
+    private static final String REF = "0123456789abcdef0123456789abcdef01234567";
+    private static final String TOP = "octo-app-0123456/";
+
+    @TempDir
+    Path workspaceDir;
+
+    private GitHubApiStub github;
+    private GitHubTarballFetcher fetcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        github = new GitHubApiStub("octo", "app");
+        GitHubApiClient client = new GitHubApiClient();
+        ReflectionTestUtils.setField(client, "apiUrl", github.baseUrl());
+        fetcher = new GitHubTarballFetcher(client);
+        ReflectionTestUtils.setField(fetcher, "workspaceDir", workspaceDir.toString());
+        fetcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetcher.shutdown();
+        github.stop();
+    }
+
+    @Test
+    void stripsTopLevelDirectoryAndKeepsExecutableBit() throws IOException {
+        Tarball tarball = new Tarball()
+            .directory(TOP)
+            .file(TOP + "Dockerfile", "FROM scratch\n", 0100644)
+            .directory(TOP + "bin/")
+            .file(TOP + "bin/run.sh", "#!/bin/sh\n", 0100755);
+        github.tarball(REF, tarball.build());
+
+        Path workspace = fetcher.fetch("d-1", "token-1", "octo", "app", REF);
+
+        assertThat(workspace).isEqualTo(workspaceDir.resolve("d-1"));
+        assertThat(workspace.resolve("Dockerfile")).hasContent("FROM scratch\n");
+        assertThat(workspace.resolve(TOP)).doesNotExist();
+        assertThat(Files.isExecutable(workspace.resolve("bin/run.sh"))).isTrue();
+        assertThat(Files.isExecutable(workspace.resolve("Dockerfile"))).isFalse();
+        assertThat(github.requests).contains("GET /repos/octo/app/tarball/" + REF);
+    }
+
+    @Test
+    void skipsEntriesEscapingWorkspace() throws IOException {
+        Tarball tarball = new Tarball()
+            .directory(TOP)
+            .file(TOP + "Dockerfile", "FROM scratch\n", 0100644)
+            .file(TOP + "../escape.txt", "owned\n", 0100644)
+            .file(TOP + "nested/../../../escape-deep.txt", "owned\n", 0100644);
+        github.tarball(REF, tarball.build());
+
+        Path workspace = fetcher.fetch("d-1", "token-1", "octo", "app", REF);
+
+        assertThat(workspace.resolve("Dockerfile")).exists();
+        assertThat(workspaceDir.resolve("escape.txt")).doesNotExist();
+        assertThat(workspaceDir.getParent().resolve("escape-deep.txt")).doesNotExist();
+    }
+
+    @Test
+    void skipsSymlinksPointingOutsideWorkspace() throws IOException {
+        Tarball tarball = new Tarball()
+            .directory(TOP)
+            .file(TOP + "Dockerfile", "FROM scratch\n", 0100644)
+            .symlink(TOP + "inside", "Dockerfile")
+            .symlink(TOP + "parent", "..")
+            .symlink(TOP + "absolute", "/etc/passwd")
+            .symlink(TOP + "sub/up", "../../other");
+        github.tarball(REF, tarball.build());
+
+        Path workspace = fetcher.fetch("d-1", "token-1", "octo", "app", REF);
+
+        assertThat(Files.isSymbolicLink(workspace.resolve("inside"))).isTrue();
+        assertThat(Files.readSymbolicLink(workspace.resolve("inside"))).isEqualTo(Paths.get("Dockerfile"));
+        assertThat(Files.exists(workspace.resolve("parent"), LinkOption.NOFOLLOW_LINKS)).isFalse();
+        assertThat(Files.exists(workspace.resolve("absolute"), LinkOption.NOFOLLOW_LINKS)).isFalse();
+        assertThat(Files.exists(workspace.resolve("sub/up"), LinkOption.NOFOLLOW_LINKS)).isFalse();
+    }
+
+    @Test
+    void removesWorkspaceWhenTarballIsMissing() {
+        assertThatThrownBy(() -> fetcher.fetch("d-1", "token-1", "octo", "app", "missing"))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to fetch repository tarball");
+
+        assertThat(workspaceDir.resolve("d-1")).doesNotExist();
+    }
+
+    /**
+     * GitHub tarball과 같은 형식(최상위 디렉토리 하나 아래에 소스)의 gzip tar 생성
+     */
+    private static class Tarball {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final TarArchiveOutputStream tar;
+
+        private Tarball() throws IOException {
+            tar = new TarArchiveOutputStream(new GZIPOutputStream(bytes));
+            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        }
+
+        private Tarball directory(String name) throws IOException {
+            tar.putArchiveEntry(new TarArchiveEntry(name));
+            tar.closeArchiveEntry();
+            return this;
+        }
+
+        private Tarball file(String name, String content, int mode) throws IOException {
+            byte[] data = content.getBytes(StandardCharsets.UTF_8);
+            TarArchiveEntry entry = new TarArchiveEntry(name);
+            entry.setSize(data.length);
+            entry.setMode(mode);
+            tar.putArchiveEntry(entry);
+            tar.write(data);
+            tar.closeArchiveEntry();
+            return this;
+        }
+
+        private Tarball symlink(String name, String linkName) throws IOException {
+            TarArchiveEntry entry = new TarArchiveEntry(name, TarConstants.LF_SYMLINK);
+            entry.setLinkName(linkName);
+            tar.putArchiveEntry(entry);
+            tar.closeArchiveEntry();
+            return this;
+        }
+
+        private byte[] build() throws IOException {
+            tar.close();
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import com.github.dockerjava.api.model.AuthConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 레지스트리 스텁(Registry HTTP API v2의 manifests 엔드포인트만 구현)으로 태그 추가 검증
+ */
+class RegistryManifestClientTest {
+
+    private static final String REPOSITORY = "octo-app";
+    private static final String MEDIA_TYPE = "application/vnd.docker.distribution.manifest.v2+json";
+    private static final byte[] MANIFEST =
+        "{\"schemaVersion\":2,\"mediaType\":\"application/vnd.docker.distribution.manifest.v2+json\",\"layers\":[]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private StubRegistry registry;
+    private RegistryManifestClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new StubRegistry();
+        client = new RegistryManifestClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+    }
+
+    @Test
+    void copiesManifestBytesAndMediaTypeToNewTag() throws IOException {
+        registry.put(REPOSITORY, "main-0123456789ab-1700000000", MEDIA_TYPE, MANIFEST);
+
+        client.addTag(registry.baseUrl(), REPOSITORY, "main-0123456789ab-1700000000", "panda-layer-cache", null);
+
+        StoredManifest tagged = registry.get(REPOSITORY, "panda-layer-cache");
+        assertThat(tagged).isNotNull();
+        assertThat(tagged.body).isEqualTo(MANIFEST);
+        assertThat(tagged.mediaType).isEqualTo(MEDIA_TYPE);
+        assertThat(registry.requests).containsExactly(
+            "GET /v2/octo-app/manifests/main-0123456789ab-1700000000",
+            "PUT /v2/octo-app/manifests/panda-layer-cache");
+    }
+
+    @Test
+    void sendsBasicAuthWhenCredentialsGiven() throws IOException {
+        registry.put(REPOSITORY, "deploy", MEDIA_TYPE, MANIFEST);
+
+        client.addTag(registry.baseUrl(), REPOSITORY, "deploy", "panda-layer-cache",
+            new AuthConfig().withUsername("AWS").withPassword("secret"));
+
+        String expected = "Basic " + Base64.getEncoder()
+            .encodeToString("AWS:secret".getBytes(StandardCharsets.UTF_8));
+        assertThat(registry.authorizations).containsOnly(expected);
+    }
+
+    @Test
+    void failsWhenSourceTagIsMissing() {
+        assertThatThrownBy(() -> client.addTag(registry.baseUrl(), REPOSITORY, "missing", "panda-layer-cache", null))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("HTTP 404");
+        assertThat(registry.get(REPOSITORY, "panda-layer-cache")).isNull();
+    }
+
+    private static class StoredManifest {
+        private final String mediaType;
+        private final byte[] body;
+
+        private StoredManifest(String mediaType, byte[] body) {
+            this.mediaType = mediaType;
+            this.body = body;
+        }
+    }
+
+    /**
+     * /v2/<repository>/manifests/<tag> GET/PUT만 처리하는 메모리 레지스트리
+     */
+    private static class StubRegistry {
+        private final HttpServer server;
+        private final Map<String, StoredManifest> manifests = new ConcurrentHashMap<>();
+        private final List<String> requests = new ArrayList<>();
+        private final List<String> authorizations = new ArrayList<>();
+
+        private StubRegistry() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/v2/", this::handle);
+            server.start();
+        }
+
+        private String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        private void put(String repository, String tag, String mediaType, byte[] body) {
+            manifests.put(repository + ":" + tag, new StoredManifest(mediaType, body));
+        }
+
+        private StoredManifest get(String repository, String tag) {
+            return manifests.get(repository + ":" + tag);
+        }
+
+        private void stop() {
+            server.stop(0);
+        }
+
+        private synchronized void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            requests.add(exchange.getRequestMethod() + " " + path);
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization != null) {
+                authorizations.add(authorization);
+            }
+
+            String[] parts = path.split("/manifests/");
+            if (parts.length != 2) {
+                respond(exchange, 404, null, new byte[0]);
+                return;
+            }
+            String key = parts[0].substring("/v2/".length()) + ":" + parts[1];
+
+            if ("GET".equals(exchange.getRequestMethod())) {
+                StoredManifest manifest = manifests.get(key);
+                if (manifest == null) {
+                    respond(exchange, 404, null, "{\"errors\":[{\"code\":\"MANIFEST_UNKNOWN\"}]}".getBytes(StandardCharsets.UTF_8));
+                } else {
+                    respond(exchange, 200, manifest.mediaType, manifest.body);
+                }
+            } else if ("PUT".equals(exchange.getRequestMethod())) {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                manifests.put(key, new StoredManifest(exchange.getRequestHeaders().getFirst("Content-Type"), body));
+                respond(exchange, 201, null, new byte[0]);
+            } else {
+                respond(exchange, 405, null, new byte[0]);
+            }
+        }
+
+        private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+            if (contentType != null) {
+                exchange.getResponseHeaders().add("Content-Type", contentType);
+            }
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.panda.backend.feature.deploy.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.panda.backend.feature.deploy.infrastructure.TaskOutputParser.RunMetricsOutput;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskOutputParserTest {
+
+    private final TaskOutputParser parser = new TaskOutputParser(new ObjectMapper());
+
+    @Test
+    void passesMetricValuesThroughAsGiven() {
+        RunMetricsOutput output = parser.parseRunMetrics("dep-1", 10L, """
+            {"ExecutedVersion":"$LATEST","StatusCode":200,"Payload":{
+              "blue":{"latencyMs":250,"errorRate":"0.01","url":"http://blue.example.com"},
+              "green":{"latencyMs":"180","errorRate":0.005,"url":"http://green.example.com"},
+              "comparison":{"fasterService":"green","latencyImprovement":"28%"}}}
+            """);
+
+        assertThat(output.isPayloadPresent()).isTrue();
+        assertThat(output.isBluePresent()).isTrue();
+        assertThat(output.isGreenPresent()).isTrue();
+        assertThat(output.getBlueLatencyMs()).isEqualTo(250);
+        assertThat(output.getBlueErrorRate()).isEqualTo("0.01");
+        assertThat(output.getGreenLatencyMs()).isEqualTo("180");
+        assertThat(output.getGreenErrorRate()).isEqualTo(0.005);
+        assertThat(output.getGreenUrl()).isEqualTo("http://green.example.com");
+        assertThat(output.getFasterService()).isEqualTo("green");
+        assertThat(output.getLatencyImprovement()).isEqualTo("28%");
+    }
+
+    @Test
+    void blueAndGreenArePresentEvenWithoutScalarFields() {
+        RunMetricsOutput output = parser.parseRunMetrics("dep-1", 11L,
+            "{\"Payload\":{\"blue\":{},\"green\":{\"samples\":[1,2,3]}}}");
+
+        assertThat(output.isBluePresent()).isTrue();
+        assertThat(output.isGreenPresent()).isTrue();
+        assertThat(output.getBlueLatencyMs()).isNull();
+        assertThat(output.getGreenLatencyMs()).isNull();
+    }
+
+    @Test
+    void missingOrNonObjectBlueGreenAreNotPresent() {
+        RunMetricsOutput output = parser.parseRunMetrics("dep-1", 12L,
+            "{\"Payload\":{\"blue\":null,\"green\":\"n/a\"}}");
+
+        assertThat(output.isPayloadPresent()).isTrue();
+        assertThat(output.isBluePresent()).isFalse();
+        assertThat(output.isGreenPresent()).isFalse();
+    }
+
+    @Test
+    void parsesPayloadGivenAsJsonString() {
+        RunMetricsOutput output = parser.parseRunMetrics("dep-1", 13L,
+            "{\"Payload\":\"{\\\"blue\\\":{\\\"latencyMs\\\":\\\"300\\\"},\\\"green\\\":{}}\"}");
+
+        assertThat(output.isPayloadPresent()).isTrue();
+        assertThat(output.isBluePresent()).isTrue();
+        assertThat(output.isGreenPresent()).isTrue();
+        assertThat(output.getBlueLatencyMs()).isEqualTo("300");
+    }
+
+    @Test
+    void missingPayloadIsReported() {
+        RunMetricsOutput output = parser.parseRunMetrics("dep-1", 14L, "{\"StatusCode\":200}");
+
+        assertThat(output.isPayloadPresent()).isFalse();
+        assertThat(output.isBluePresent()).isFalse();
+    }
+}